@@ -1,6 +1,5 @@
 import json
 import os
-from statistics import median
 import subprocess
 import sys
 import math
@@ -14,19 +13,65 @@ import plotly.graph_objects as go
 class ApiBenchmarkResult:
     request_count: int
     total_duration_ms: int
-    request_duration_nanos: list[int]
-    request_duration_ms: list[float]
+    percentiles_ms: dict[str, float]
+    request_duration_nanos: list[int] | None
+    request_duration_ms: list[float] | None
+    late_request_count: int | None
+    timeline: list[dict] | None
+    server_resources: list[dict] | None
+    throughput_search: dict | None
+    request_types: list[dict] | None
+    first_item_percentiles_ms: dict[str, float] | None
+    ingest_batch_size: int | None
+    ingested_item_count: int | None
+    compression: str | None
+    wire_bytes: int | None
+    uncompressed_bytes: int | None
 
     def __init__(
         self,
         request_count: int,
         total_duration_ms: int,
-        request_duration_nanos: list[int],
+        percentiles_nanos: dict[str, int],
+        request_duration_nanos: list[int] | None,
+        late_request_count: int | None = None,
+        timeline: list[dict] | None = None,
+        server_resources: list[dict] | None = None,
+        throughput_search: dict | None = None,
+        request_types: list[dict] | None = None,
+        first_item_percentiles_nanos: dict[str, int] | None = None,
+        ingest_batch_size: int | None = None,
+        ingested_item_count: int | None = None,
+        compression: str | None = None,
+        wire_bytes: int | None = None,
+        uncompressed_bytes: int | None = None,
     ):
         self.request_count = request_count
         self.total_duration_ms = total_duration_ms
+        self.percentiles_ms = {
+            name: value / 1_000_000 for name, value in percentiles_nanos.items()
+        }
         self.request_duration_nanos = request_duration_nanos
-        self.request_duration_ms = [num / 1_000_000 for num in request_duration_nanos]
+        self.request_duration_ms = (
+            [num / 1_000_000 for num in request_duration_nanos]
+            if request_duration_nanos is not None
+            else None
+        )
+        self.late_request_count = late_request_count
+        self.timeline = timeline
+        self.server_resources = server_resources
+        self.throughput_search = throughput_search
+        self.request_types = request_types
+        self.first_item_percentiles_ms = (
+            {name: value / 1_000_000 for name, value in first_item_percentiles_nanos.items()}
+            if first_item_percentiles_nanos is not None
+            else None
+        )
+        self.ingest_batch_size = ingest_batch_size
+        self.ingested_item_count = ingested_item_count
+        self.compression = compression
+        self.wire_bytes = wire_bytes
+        self.uncompressed_bytes = uncompressed_bytes
 
 
 @dataclass
@@ -34,6 +79,7 @@ class BenchmarkResult:
     file_name: str
     description: str
     concurrent_users: int
+    executor_type: str | None
     grpc_api_benchmark: ApiBenchmarkResult
     rest_api_benchmark: ApiBenchmarkResult
 
@@ -46,6 +92,20 @@ def load_all_benchmark_results(directory: str) -> list[BenchmarkResult]:
     return [load_benchmark_result(directory, file) for file in files]
 
 
+def read_scenario_results(api_benchmark_json: dict) -> list:
+    streaming = api_benchmark_json.get("streaming") or {}
+    ingest = api_benchmark_json.get("ingest") or {}
+    compression = api_benchmark_json.get("compression") or {}
+    return [
+        streaming.get("firstItemDurationPercentilesNanos"),
+        ingest.get("batchSize"),
+        ingest.get("ingestedItemCount"),
+        compression.get("compression"),
+        compression.get("wireBytes"),
+        compression.get("uncompressedBytes"),
+    ]
+
+
 def load_benchmark_result(directory: str, file_name: str) -> BenchmarkResult:
     with open(f"{directory}/{file_name}", "r") as file:
         json_data = json.load(file)
@@ -58,18 +118,33 @@ def load_benchmark_result(directory: str, file_name: str) -> BenchmarkResult:
     grpc_api_benchmark = ApiBenchmarkResult(
         grpc_benchmark_json["requestCount"],
         grpc_benchmark_json["totalDurationMs"],
-        grpc_benchmark_json["requestDurationNanos"],
+        grpc_benchmark_json["requestDurationPercentilesNanos"],
+        grpc_benchmark_json.get("requestDurationNanos"),
+        grpc_benchmark_json.get("lateRequestCount"),
+        grpc_benchmark_json.get("timeline"),
+        grpc_benchmark_json.get("serverResources"),
+        grpc_benchmark_json.get("throughputSearch"),
+        grpc_benchmark_json.get("requestTypes"),
+        *read_scenario_results(grpc_benchmark_json),
     )
     rest_api_benchmark = ApiBenchmarkResult(
         rest_benchmark_json["requestCount"],
         rest_benchmark_json["totalDurationMs"],
-        rest_benchmark_json["requestDurationNanos"],
+        rest_benchmark_json["requestDurationPercentilesNanos"],
+        rest_benchmark_json.get("requestDurationNanos"),
+        rest_benchmark_json.get("lateRequestCount"),
+        rest_benchmark_json.get("timeline"),
+        rest_benchmark_json.get("serverResources"),
+        rest_benchmark_json.get("throughputSearch"),
+        rest_benchmark_json.get("requestTypes"),
+        *read_scenario_results(rest_benchmark_json),
     )
 
     return BenchmarkResult(
         sanitized_file_name,
         json_data["description"],
         json_data["concurrentUsers"],
+        json_data.get("executorType"),
         grpc_api_benchmark,
         rest_api_benchmark,
     )
@@ -83,21 +158,43 @@ def visualize_request_duration(benchmark: BenchmarkResult, output_path: str):
             "yaxis_title": "Request duration (ms)",
         }
     )
-    fig.add_trace(
-        go.Box(y=benchmark.grpc_api_benchmark.request_duration_ms, name="gRPC API")
-    )
-    fig.add_trace(
-        go.Box(
-            y=benchmark.rest_api_benchmark.request_duration_ms,
+
+    # raw samples are only written if the scenario records them, otherwise the percentiles are plotted
+    if (
+        benchmark.grpc_api_benchmark.request_duration_ms is not None
+        and benchmark.rest_api_benchmark.request_duration_ms is not None
+    ):
+        fig.add_trace(
+            go.Box(y=benchmark.grpc_api_benchmark.request_duration_ms, name="gRPC API")
+        )
+        fig.add_trace(
+            go.Box(
+                y=benchmark.rest_api_benchmark.request_duration_ms,
+                name="REST API",
+                marker_color="lightseagreen",
+            )
+        )
+        fig.update_layout(showlegend=False)
+    else:
+        percentile_names = list(benchmark.grpc_api_benchmark.percentiles_ms.keys())
+        fig.add_bar(
+            x=percentile_names,
+            y=list(benchmark.grpc_api_benchmark.percentiles_ms.values()),
+            name="gRPC API",
+            marker_color="#1f77b4",
+        )
+        fig.add_bar(
+            x=percentile_names,
+            y=list(benchmark.rest_api_benchmark.percentiles_ms.values()),
             name="REST API",
             marker_color="lightseagreen",
         )
-    )
+        fig.update_layout(barmode="group", xaxis_title="Percentile", showlegend=True)
 
     # with logarithmic scale
-    fig.update_layout(showlegend=False, margin=dict(l=5,r=5,b=5,t=5), yaxis_type="log")
+    fig.update_layout(margin=dict(l=5,r=5,b=5,t=5), yaxis_type="log")
     # without logarithmic scale
-    # fig.update_layout(showlegend=False, margin=dict(l=5, r=5, b=5, t=5))
+    # fig.update_layout(margin=dict(l=5, r=5, b=5, t=5))
     fig.write_image(f"{output_path}/{benchmark.file_name}_req_duration.png")
 
 
@@ -134,14 +231,143 @@ def visualize_requests_per_second(benchmark: BenchmarkResult, output_path: str):
     fig.write_image(f"{output_path}/{benchmark.file_name}_req_per_sec.png")
 
 
+def visualize_timeline(benchmark: BenchmarkResult, output_path: str):
+    # the timeline is only written by scenarios that record the throughput per second
+    if (
+        benchmark.grpc_api_benchmark.timeline is None
+        or benchmark.rest_api_benchmark.timeline is None
+    ):
+        return
+
+    fig = go.Figure()
+    for api_benchmark, name, color in [
+        (benchmark.grpc_api_benchmark, "gRPC API", "#1f77b4"),
+        (benchmark.rest_api_benchmark, "REST API", "lightseagreen"),
+    ]:
+        fig.add_trace(
+            go.Scatter(
+                x=[bucket["second"] for bucket in api_benchmark.timeline],
+                y=[bucket["requestCount"] for bucket in api_benchmark.timeline],
+                name=name,
+                mode="lines+markers",
+                marker_color=color,
+            )
+        )
+
+    fig.update_layout(
+        xaxis_title="Second",
+        yaxis_title="Completed requests",
+        margin=dict(l=5, r=5, b=5, t=5),
+    )
+    fig.write_image(f"{output_path}/{benchmark.file_name}_timeline.png")
+
+
+def visualize_request_types(benchmark: BenchmarkResult, output_path: str):
+    # the request types are only written by mixed workload scenarios
+    if (
+        benchmark.grpc_api_benchmark.request_types is None
+        or benchmark.rest_api_benchmark.request_types is None
+    ):
+        return
+
+    fig = go.Figure()
+    for api_benchmark, name, color in [
+        (benchmark.grpc_api_benchmark, "gRPC API", "#1f77b4"),
+        (benchmark.rest_api_benchmark, "REST API", "lightseagreen"),
+    ]:
+        for percentile, opacity in [("p50", 1.0), ("p99", 0.5)]:
+            fig.add_bar(
+                x=[request_type["requestType"] for request_type in api_benchmark.request_types],
+                y=[
+                    request_type["requestDurationPercentilesNanos"][percentile] / 1_000_000
+                    for request_type in api_benchmark.request_types
+                ],
+                name=f"{name} {percentile}",
+                marker_color=color,
+                opacity=opacity,
+            )
+
+    fig.update_layout(
+        barmode="group",
+        xaxis_title="Request type",
+        yaxis_title="Request duration (ms)",
+        margin=dict(l=5, r=5, b=5, t=5),
+    )
+    fig.write_image(f"{output_path}/{benchmark.file_name}_request_types.png")
+
+
 def calculate_median(benchmark: BenchmarkResult, file_path: str):
-    median_grpc = round(median(benchmark.grpc_api_benchmark.request_duration_ms), 3)
-    median_rest = round(median(benchmark.rest_api_benchmark.request_duration_ms), 3)
+    median_grpc = round(benchmark.grpc_api_benchmark.percentiles_ms["p50"], 3)
+    median_rest = round(benchmark.rest_api_benchmark.percentiles_ms["p50"], 3)
 
     with open(f"{file_path}/{benchmark.file_name}.txt", "w") as file:
         file.write(f"Description: {benchmark.description}\n")
+        if benchmark.executor_type is not None:
+            file.write(f"Executor type: {benchmark.executor_type}\n")
         file.write(f"gRPC request duration median: {median_grpc}ms\n")
         file.write(f"REST request duration median: {median_rest}ms\n")
+        if benchmark.grpc_api_benchmark.late_request_count is not None:
+            file.write(
+                f"gRPC late requests: {benchmark.grpc_api_benchmark.late_request_count}\n"
+            )
+        if benchmark.rest_api_benchmark.late_request_count is not None:
+            file.write(
+                f"REST late requests: {benchmark.rest_api_benchmark.late_request_count}\n"
+            )
+
+        for api_name, api_benchmark in [
+            ("gRPC", benchmark.grpc_api_benchmark),
+            ("REST", benchmark.rest_api_benchmark),
+        ]:
+            search = api_benchmark.throughput_search
+            if search is not None:
+                file.write(
+                    f"{api_name} max sustainable requests/sec: "
+                    f"{search['maxSustainableRequestsPerSecond']} "
+                    f"(p{search['percentile']} <= {search['maxLatencyNanos'] / 1_000_000}ms, "
+                    f"error rate <= {search['maxErrorRate']})\n"
+                )
+            first_item = api_benchmark.first_item_percentiles_ms
+            if first_item is not None:
+                file.write(
+                    f"{api_name} first item duration: "
+                    f"p50 {round(first_item['p50'], 3)}ms, "
+                    f"p99 {round(first_item['p99'], 3)}ms\n"
+                )
+            if api_benchmark.ingested_item_count is not None:
+                duration_ms = max(api_benchmark.total_duration_ms, 1)
+                items_per_second = api_benchmark.ingested_item_count / duration_ms * 1000
+                file.write(
+                    f"{api_name} ingested items/sec: {round(items_per_second, 1)} "
+                    f"({api_benchmark.ingested_item_count} items, "
+                    f"{api_benchmark.ingest_batch_size} per request)\n"
+                )
+            if api_benchmark.wire_bytes is not None:
+                request_count = max(api_benchmark.request_count, 1)
+                uncompressed_bytes = max(api_benchmark.uncompressed_bytes, 1)
+                file.write(
+                    f"{api_name} {api_benchmark.compression} bytes/request: "
+                    f"{api_benchmark.wire_bytes // request_count} on the wire, "
+                    f"{api_benchmark.uncompressed_bytes // request_count} uncompressed "
+                    f"({round(api_benchmark.wire_bytes / uncompressed_bytes * 100, 1)}%)\n"
+                )
+            for request_type in api_benchmark.request_types or []:
+                percentiles = request_type["requestDurationPercentilesNanos"]
+                file.write(
+                    f"{api_name} {request_type['requestType']} "
+                    f"(weight {request_type['weight']}, {request_type['requestCount']} requests): "
+                    f"p50 {percentiles['p50'] / 1_000_000}ms, "
+                    f"p99 {percentiles['p99'] / 1_000_000}ms, "
+                    f"max {percentiles['max'] / 1_000_000}ms\n"
+                )
+            for usage in api_benchmark.server_resources or []:
+                file.write(
+                    f"{api_name} {usage['service']}: "
+                    f"CPU time {usage.get('cpuTimeMs')}ms, "
+                    f"GC time {usage.get('gcTimeMs')}ms ({usage.get('gcCount')} collections), "
+                    f"max RSS {usage.get('maxRssBytes')} bytes, "
+                    f"max threads {usage.get('maxThreadCount')}\n"
+                )
 
         if median_grpc < median_rest:
             factor = round(median_rest / median_grpc, 2)
@@ -215,15 +441,20 @@ def get_timestamp() -> str:
     # return "2023-05-29-16-51-57"
 
 
-def start_performance_test_application(output_file_path: str) -> int:
+def start_performance_test_application(
+    output_file_path: str, suite_file_path: str | None = None
+) -> int:
     print(f"Starting the performance-tester with output_file_path: {output_file_path}")
+    command = [
+        "java",
+        "-jar",
+        "performance-tester/target/performance-tester-1.0.0-shaded.jar",
+        output_file_path,
+    ]
+    if suite_file_path is not None:
+        command.append(suite_file_path)
     popen = subprocess.Popen(
-        [
-            "java",
-            "-jar",
-            "performance-tester/target/performance-tester-1.0.0-shaded.jar",
-            output_file_path,
-        ],
+        command,
         stdout=subprocess.PIPE,
         universal_newlines=True,
     )
@@ -238,9 +469,12 @@ def start_performance_test_application(output_file_path: str) -> int:
 
 if __name__ == "__main__":
     visualize_only = False
+    suite_file_path = None
     args = sys.argv[1:]
     if len(args) == 2 and args[0] == "--vis":
         visualize_only = True
+    elif len(args) == 2 and args[0] == "--suite":
+        suite_file_path = args[1]
     elif len(args) == 1 and args[0] == "--custom":
         visualize_multiple_req_per_sec()
         exit(0)
@@ -256,7 +490,9 @@ if __name__ == "__main__":
     plots_file_path = f"performance-tester/plots/{output_directory}"
 
     if not visualize_only:
-        return_code = start_performance_test_application(performance_data_file_path)
+        return_code = start_performance_test_application(
+            performance_data_file_path, suite_file_path
+        )
         if return_code != 0:
             exit(1)
 
@@ -268,6 +504,8 @@ if __name__ == "__main__":
     for i, benchmark_result in enumerate(benchmark_results):
         visualize_request_duration(benchmark_result, plots_file_path)
         visualize_requests_per_second(benchmark_result, plots_file_path)
+        visualize_timeline(benchmark_result, plots_file_path)
+        visualize_request_types(benchmark_result, plots_file_path)
         calculate_median(benchmark_result, plots_file_path)
 
     print("Successfully created all plots")
@@ -1,24 +1,54 @@
 package com.exxeta.performancetester;
 
+import com.exxeta.performancetester.config.ScenarioSuite;
+import com.exxeta.performancetester.config.ScenarioSuiteLoader;
+import com.exxeta.performancetester.model.ExecutorType;
 import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.PayloadCompression;
 import com.exxeta.performancetester.requests.RequestAllOrders;
 import com.exxeta.performancetester.requests.RequestAllUsers;
+import com.exxeta.performancetester.requests.RequestCreateOrders;
+import com.exxeta.performancetester.requests.RequestOrderPages;
+import com.exxeta.performancetester.requests.RequestOrderStream;
+import com.exxeta.performancetester.requests.RequestRandomBytes;
+import com.exxeta.performancetester.requests.RequestRandomBytesStream;
 import com.exxeta.performancetester.requests.RequestRandomData;
 import com.exxeta.performancetester.requests.RequestRecommendedProducts;
+import com.exxeta.performancetester.requests.RequestUploadByteStream;
+import com.exxeta.performancetester.requests.RequestUploadBytes;
+import com.exxeta.performancetester.requests.WeightedRequest;
 import com.exxeta.performancetester.scenarios.Scenario;
-import com.exxeta.performancetester.scenarios.concurrent.LoadTestScenario;
+import com.exxeta.performancetester.scenarios.concurrent.MixedWorkloadScenario;
 import com.exxeta.performancetester.scenarios.concurrent.StressTestScenario;
+import com.exxeta.performancetester.scenarios.concurrent.ThroughputSearchScenario;
+import com.exxeta.performancetester.scenarios.synchronous.CompressionTestScenario;
+import com.exxeta.performancetester.scenarios.synchronous.IngestTestScenario;
+import com.exxeta.performancetester.scenarios.synchronous.StreamingTestScenario;
 import com.exxeta.performancetester.scenarios.synchronous.SynchronousTestScenario;
+import java.nio.file.Path;
 
 public class PerformanceTestApplication {
   public static void main(String[] args) {
-    if (args.length != 1) {
+    if (args.length < 1 || args.length > 2) {
       System.err.println(
           "First command line argument must be a file path for the JSON files with the performance test data");
+      System.err.println(
+          "Optional second command line argument is the path of a JSON scenario suite to run instead of the default scenarios");
       return;
     }
     String outputDirectory = args[0];
 
+    // Run the scenarios of a scenario suite file instead of the default scenarios
+    if (args.length == 2) {
+      ScenarioSuite suite = new ScenarioSuiteLoader().load(Path.of(args[1]));
+      PerformanceTestRunner runner = PerformanceTestRunner.create(outputDirectory);
+      if (suite.executorType() != null) {
+        runner.executorType(suite.executorType());
+      }
+      runner.addScenarios(suite.scenarios().toArray(Scenario[]::new)).run();
+      return;
+    }
+
     Scenario scenario1 =
         SynchronousTestScenario.builder()
             .request(new RequestRandomData(10 * 1000))
@@ -76,51 +106,196 @@ public class PerformanceTestApplication {
             .outputFileName("sync_1000x_product_recommendations.json")
             .build();
 
-    // Load test scenarios with specific amount of requests per second
+    // Search for the highest request rate with a p99 of at most 50ms and at most 1% failed requests
     Scenario scenario7 =
-        LoadTestScenario.builder()
+        ThroughputSearchScenario.builder()
             .request(new RequestAllOrders())
-            .description("Request all orders with 300 requests/sec for 15 seconds")
-            .requestsPerSecond(300)
-            .durationSeconds(15)
+            .description(
+                "Highest sustainable requests/sec for all orders with p99 <= 50ms and <= 1% errors")
+            .minRequestsPerSecond(100)
+            .maxRequestsPerSecond(3000)
+            .resolutionRequestsPerSecond(50)
+            .stepDurationSeconds(15)
+            .percentile(99.0)
+            .maxLatencyMs(50L)
+            .maxErrorRate(0.01)
             .requiredService(Microservice.USER_SERVICE)
             .requiredService(Microservice.SHOP_SERVICE)
-            .outputFileName("load_test_15secs_300ps_request_orders.json")
+            .outputFileName("throughput_search_p99_50ms_request_orders.json")
             .build();
 
+    // Stress test scenarios with constant amount of concurrent users
     Scenario scenario8 =
-        LoadTestScenario.builder()
+        StressTestScenario.builder()
             .request(new RequestAllOrders())
-            .description("Request all orders with 800 requests/sec for 15 seconds")
-            .requestsPerSecond(800)
+            .description("Request all orders with constantly 50 concurrent requests for 15 seconds")
+            .concurrentUsers(50)
             .durationSeconds(15)
             .requiredService(Microservice.USER_SERVICE)
             .requiredService(Microservice.SHOP_SERVICE)
-            .outputFileName("load_test_15secs_800ps_request_orders.json")
+            .outputFileName("stress_test_15sec_20users_request_orders.json")
             .build();
 
-    // Stress test scenarios with constant amount of concurrent users
     Scenario scenario9 =
         StressTestScenario.builder()
             .request(new RequestAllOrders())
-            .description("Request all orders with constantly 50 concurrent requests for 15 seconds")
-            .concurrentUsers(50)
+            .description(
+                "Request all orders with constantly 150 concurrent requests for 15 seconds")
+            .concurrentUsers(150)
             .durationSeconds(15)
             .requiredService(Microservice.USER_SERVICE)
             .requiredService(Microservice.SHOP_SERVICE)
-            .outputFileName("stress_test_15sec_20users_request_orders.json")
+            .outputFileName("stress_test_15sec_150users_request_orders.json")
             .build();
 
+    // Stress test with asynchronous requests, so the in-flight requests are not bound to threads
     Scenario scenario10 =
         StressTestScenario.builder()
             .request(new RequestAllOrders())
             .description(
-                "Request all orders with constantly 150 concurrent requests for 15 seconds")
-            .concurrentUsers(150)
+                "Request all orders asynchronously with constantly 1000 concurrent requests for 15 seconds")
+            .concurrentUsers(1000)
             .durationSeconds(15)
+            .executorType(ExecutorType.ASYNC)
             .requiredService(Microservice.USER_SERVICE)
             .requiredService(Microservice.SHOP_SERVICE)
-            .outputFileName("stress_test_15sec_150users_request_orders.json")
+            .outputFileName("stress_test_15sec_1000users_async_request_orders.json")
+            .build();
+
+    // Mixed workload where reads, recommendations and user lookups hit the same services at once
+    Scenario scenario11 =
+        MixedWorkloadScenario.builder()
+            .request(WeightedRequest.of(new RequestAllOrders(), 60))
+            .request(WeightedRequest.of(new RequestAllUsers(), 30))
+            .request(WeightedRequest.of(new RequestRecommendedProducts(), 10))
+            .description(
+                "Request orders, users and recommendations (60/30/10) with 500 requests/sec for 15 seconds")
+            .requestsPerSecond(500)
+            .durationSeconds(15)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .requiredService(Microservice.RECOMMENDATION_SERVICE)
+            .outputFileName("mixed_workload_15sec_500rps_orders_users_recommendations.json")
+            .build();
+
+    // Time until the first order and until all orders were received, unary vs. streamed vs. paged
+    Scenario scenario12 =
+        StreamingTestScenario.builder()
+            .request(new RequestAllOrders())
+            .description("Request all orders with a single unary request (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("streaming_1000x_orders_unary.json")
+            .build();
+
+    Scenario scenario13 =
+        StreamingTestScenario.builder()
+            .request(new RequestOrderStream(10))
+            .description("Request all orders as a stream of 10 orders per batch (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("streaming_1000x_orders_stream_batch_10.json")
+            .build();
+
+    Scenario scenario14 =
+        StreamingTestScenario.builder()
+            .request(new RequestOrderPages(10))
+            .description("Request all orders page by page with 10 orders per page (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("streaming_1000x_orders_pages_10.json")
+            .build();
+
+    Scenario scenario15 =
+        IngestTestScenario.builder()
+            .request(new RequestCreateOrders(1))
+            .description("Create 10000 orders with a single order per request")
+            .itemCount(10000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("ingest_10000_orders_batch_1.json")
+            .build();
+
+    Scenario scenario16 =
+        IngestTestScenario.builder()
+            .request(new RequestCreateOrders(100))
+            .description("Create 10000 orders with 100 orders per request")
+            .itemCount(10000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("ingest_10000_orders_batch_100.json")
+            .build();
+
+    Scenario scenario17 =
+        SynchronousTestScenario.builder()
+            .request(new RequestRandomBytes(10 * 1000 * 1000))
+            .description("Request 10MB random bytes as a binary payload (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.RANDOM_DATA_SERVICE)
+            .outputFileName("sync_1000x_random_bytes_10mb.json")
+            .build();
+
+    Scenario scenario18 =
+        StreamingTestScenario.builder()
+            .request(new RequestRandomBytesStream(100 * 1000 * 1000, 64 * 1024))
+            .description("Stream 100MB random bytes in chunks of 64KB (100x times)")
+            .requestCount(100)
+            .requiredService(Microservice.RANDOM_DATA_SERVICE)
+            .outputFileName("streaming_100x_random_bytes_100mb_chunk_64kb.json")
+            .build();
+
+    Scenario scenario19 =
+        SynchronousTestScenario.builder()
+            .request(new RequestUploadBytes(10 * 1000 * 1000))
+            .description("Upload 10MB random bytes in a single message (100x times)")
+            .requestCount(100)
+            .requiredService(Microservice.RANDOM_DATA_SERVICE)
+            .outputFileName("sync_100x_upload_bytes_10mb.json")
+            .build();
+
+    Scenario scenario20 =
+        SynchronousTestScenario.builder()
+            .request(new RequestUploadByteStream(100 * 1000 * 1000, 64 * 1024))
+            .description("Upload 100MB random bytes as a stream of 64KB chunks (20x times)")
+            .requestCount(20)
+            .requiredService(Microservice.RANDOM_DATA_SERVICE)
+            .outputFileName("sync_20x_upload_byte_stream_100mb_chunk_64kb.json")
+            .build();
+
+    Scenario scenario21 =
+        CompressionTestScenario.builder()
+            .request(new RequestAllOrders())
+            .compression(PayloadCompression.NONE)
+            .description("Request all orders without compression (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("sync_1000x_all_orders_uncompressed.json")
+            .build();
+
+    Scenario scenario22 =
+        CompressionTestScenario.builder()
+            .request(new RequestAllOrders())
+            .compression(PayloadCompression.GZIP)
+            .description("Request all orders with gzip compression (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("sync_1000x_all_orders_gzip.json")
+            .build();
+
+    Scenario scenario23 =
+        CompressionTestScenario.builder()
+            .request(new RequestAllOrders())
+            .compression(PayloadCompression.SNAPPY)
+            .description("Request all orders with Snappy compression (1000x times)")
+            .requestCount(1000)
+            .requiredService(Microservice.USER_SERVICE)
+            .requiredService(Microservice.SHOP_SERVICE)
+            .outputFileName("sync_1000x_all_orders_snappy.json")
             .build();
 
     // Add all scenarios and run the performance test.
@@ -135,7 +310,20 @@ public class PerformanceTestApplication {
             scenario7,
             scenario8,
             scenario9,
-            scenario10)
+            scenario10,
+            scenario11,
+            scenario12,
+            scenario13,
+            scenario14,
+            scenario15,
+            scenario16,
+            scenario17,
+            scenario18,
+            scenario19,
+            scenario20,
+            scenario21,
+            scenario22,
+            scenario23)
         .run();
   }
 }
@@ -1,21 +1,39 @@
 package com.exxeta.performancetester;
 
 import com.exxeta.performancetester.exception.PerformanceTestException;
+import com.exxeta.performancetester.metrics.ResourceSampler;
 import com.exxeta.performancetester.model.ApiBenchmarkResult;
 import com.exxeta.performancetester.model.BenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
 import com.exxeta.performancetester.model.Microservice;
 import com.exxeta.performancetester.scenarios.Scenario;
+import com.exxeta.performancetester.scenarios.concurrent.ConcurrentScenario;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
-import java.io.BufferedReader;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthCheckResponse.ServingStatus;
+import io.grpc.health.v1.HealthGrpc;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,14 +43,21 @@ public class PerformanceTestRunner {
   private static final String REST_API_PROFILE = "rest";
   private static final String GRPC_API_PROFILE = "grpc";
 
-  private static final String APPLICATION_STARTED_PATTERN =
-      ".*Started (.+)Application in (.+) seconds.*";
+  private static final String LOG_DIRECTORY = "logs";
+  private static final String PROBE_HOST_NAME = "localhost";
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration PROBE_INTERVAL = Duration.ofMillis(100);
+  private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
 
   private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+  private final HttpClient probeHttpClient =
+      HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT).build();
 
   private final String jsonOutputDirectory;
   private final List<Scenario> testScenarios = new ArrayList<>();
-  private final List<Process> runningProcesses = new ArrayList<>();
+  private final Map<Microservice, Process> runningMicroservices = new LinkedHashMap<>();
+  private ExecutorType defaultExecutorType = ExecutorType.PLATFORM;
 
   private PerformanceTestRunner(String jsonOutputDirectory) {
     this.jsonOutputDirectory = jsonOutputDirectory;
@@ -72,6 +97,17 @@ public class PerformanceTestRunner {
     return this;
   }
 
+  /**
+   * Sets the executor type for all concurrent scenarios that do not define their own executor type.
+   *
+   * @param executorType the type of threads that execute the concurrent requests.
+   * @return this instance of the {@link PerformanceTestRunner}
+   */
+  public PerformanceTestRunner executorType(ExecutorType executorType) {
+    this.defaultExecutorType = executorType;
+    return this;
+  }
+
   /** Executes the performance tests with all configured scenarios. */
   public void run() {
     try {
@@ -84,21 +120,29 @@ public class PerformanceTestRunner {
             index++,
             this.testScenarios.size());
 
+        if (scenario instanceof ConcurrentScenario concurrentScenario) {
+          concurrentScenario.applyDefaultExecutorType(this.defaultExecutorType);
+        }
+
         this.stopAllMicroservices();
         this.startMicroservices(scenario.getRequiredServices(), GRPC_API_PROFILE);
         logger.info("Starting the gRPC-API Benchmark");
-        ApiBenchmarkResult grpcResult = scenario.runGrpcApiBenchmark();
+        ApiBenchmarkResult grpcResult = this.runSampledBenchmark(scenario::runGrpcApiBenchmark);
         logger.info("Finished the gRPC-API Benchmark");
 
         this.stopAllMicroservices();
         this.startMicroservices(scenario.getRequiredServices(), REST_API_PROFILE);
         logger.info("Starting the REST-API Benchmark");
-        ApiBenchmarkResult restResult = scenario.runRestApiBenchmark();
+        ApiBenchmarkResult restResult = this.runSampledBenchmark(scenario::runRestApiBenchmark);
         logger.info("Finished the REST-API Benchmark");
 
         BenchmarkResult benchmarkResult =
             new BenchmarkResult(
-                scenario.getDescription(), scenario.getConcurrentUsers(), grpcResult, restResult);
+                scenario.getDescription(),
+                scenario.getConcurrentUsers(),
+                scenario.getExecutorType(),
+                grpcResult,
+                restResult);
         this.writeBenchmarkToFile(benchmarkResult, scenario.getOutputFileName());
       }
     } catch (Exception ex) {
@@ -111,7 +155,21 @@ public class PerformanceTestRunner {
   }
 
   /**
-   * Starts the required microservices for the performance test.
+   * Runs a benchmark while sampling the resource usage of all running microservices.
+   *
+   * @param benchmark runs the benchmark of a single API type.
+   * @return the result of the benchmark including the resource usage of the microservices.
+   */
+  private ApiBenchmarkResult runSampledBenchmark(Supplier<ApiBenchmarkResult> benchmark) {
+    try (ResourceSampler resourceSampler = ResourceSampler.start(this.runningMicroservices)) {
+      ApiBenchmarkResult result = benchmark.get();
+      return result.withServerResources(resourceSampler.stop());
+    }
+  }
+
+  /**
+   * Starts the required microservices for the performance test. All microservices are launched at
+   * once and are afterwards probed until they are ready to serve requests.
    *
    * @param servicesToStart a list containing every {@link Microservice} that needs to be started.
    * @param profile the profile with which the microservice should be started.
@@ -120,76 +178,161 @@ public class PerformanceTestRunner {
     for (Microservice microservice : servicesToStart) {
       logger.info(
           "Starting Microservice: '{}' with profile: '{}'", microservice.getName(), profile);
-      Process process = this.startMicroservice(profile, microservice.getJarPath());
-      this.runningProcesses.add(process);
+      Process process = this.startMicroservice(microservice, profile);
+      this.runningMicroservices.put(microservice, process);
     }
+
+    this.runningMicroservices.forEach(
+        (microservice, process) -> this.awaitReadiness(microservice, process, profile));
     logger.info("Successfully started all required Microservices for the current test-scenario");
   }
 
   /**
-   * Starts a single microservice the provided profile.
+   * Starts a single microservice with the provided profile. The output of the microservice is
+   * written to a log file in the output directory, so the process never blocks on a full pipe.
    *
+   * @param microservice the microservice to start.
    * @param profile the profile with which the microservice should be started.
-   * @param jarPath the path to the jar of the microservice.
    * @return the {@link Process} of the started microservice.
-   * @throws PerformanceTestException if the microservice could not be successfully started.
+   * @throws PerformanceTestException if the process could not be started.
    */
-  private Process startMicroservice(String profile, String jarPath) {
-    String activeProfile = "-Dspring.profiles.active=" + profile;
-    String cmd = String.format("java -jar %s %s", activeProfile, jarPath);
-
+  private Process startMicroservice(Microservice microservice, String profile) {
+    Path logDirectory = Path.of(this.jsonOutputDirectory, LOG_DIRECTORY);
     try {
-      Process process = Runtime.getRuntime().exec(cmd);
-      BufferedReader stdInput = new BufferedReader(new InputStreamReader(process.getInputStream()));
+      Files.createDirectories(logDirectory);
+    } catch (IOException ex) {
+      throw new PerformanceTestException("Could not create directory: '%s'", logDirectory);
+    }
 
-      boolean successfulStart = false;
+    Path logFile =
+        logDirectory.resolve(microservice.getName().toLowerCase() + "-" + profile + ".log");
+    ProcessBuilder processBuilder =
+        new ProcessBuilder(
+                "java", "-Dspring.profiles.active=" + profile, "-jar", microservice.getJarPath())
+            .redirectErrorStream(true)
+            .redirectOutput(Redirect.appendTo(logFile.toFile()));
 
-      String processOutput;
-      while ((processOutput = stdInput.readLine()) != null) {
-        if (processOutput.matches(APPLICATION_STARTED_PATTERN)) {
-          successfulStart = true;
-          break;
-        }
-      }
+    try {
+      return processBuilder.start();
+    } catch (IOException ex) {
+      throw new PerformanceTestException(
+          "Could not start process for command: '%s'", String.join(" ", processBuilder.command()));
+    }
+  }
 
-      if (!successfulStart) {
-        throw new PerformanceTestException("Process for command '%s' did not start correctly", cmd);
+  /**
+   * Waits until a microservice is ready to serve requests of the API type of the given profile.
+   *
+   * @param microservice the started microservice.
+   * @param process the process of the started microservice.
+   * @param profile the profile with which the microservice has been started.
+   * @throws PerformanceTestException if the process exits or the microservice does not become ready
+   *     in time.
+   */
+  private void awaitReadiness(Microservice microservice, Process process, String profile) {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (!this.isReady(microservice, profile)) {
+      if (!process.isAlive()) {
+        throw new PerformanceTestException(
+            "Microservice '%s' exited with code: %d", microservice.getName(), process.exitValue());
+      }
+      if (System.nanoTime() > deadline) {
+        throw new PerformanceTestException(
+            "Microservice '%s' did not become ready within %d seconds",
+            microservice.getName(), STARTUP_TIMEOUT.toSeconds());
       }
 
-      if (this.processIsTerminated(process)) {
+      try {
+        Thread.sleep(PROBE_INTERVAL.toMillis());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
         throw new PerformanceTestException(
-            "Process for command '%s' exited with code: %d", cmd, process.exitValue());
+            "Interrupted while waiting for Microservice '%s'", microservice.getName());
       }
+    }
+    logger.info("Microservice '{}' is ready", microservice.getName());
+  }
 
-      return process;
-    } catch (IOException ex) {
-      throw new PerformanceTestException(
-          "Could not read StdOutput of process for command: '%s'", cmd);
+  /**
+   * Probes whether a microservice serves requests of the API type of the given profile.
+   *
+   * @param microservice the microservice to probe.
+   * @param profile the profile with which the microservice has been started.
+   * @return true if the microservice is ready, false otherwise.
+   */
+  private boolean isReady(Microservice microservice, String profile) {
+    if (GRPC_API_PROFILE.equals(profile)) {
+      return this.isGrpcServing(microservice.getGrpcPort());
     }
+    return this.isHttpResponding(microservice.getRestPort());
   }
 
   /**
-   * Checks if a process is terminated.
+   * Sends a request to the standard gRPC health service.
    *
-   * @param process the process to check.
-   * @return true if the process terminated, false otherwise.
+   * @param port the port of the gRPC server.
+   * @return true if the server reports that it is serving, false otherwise.
    */
-  private boolean processIsTerminated(Process process) {
+  private boolean isGrpcServing(int port) {
+    ManagedChannel channel =
+        ManagedChannelBuilder.forAddress(PROBE_HOST_NAME, port).usePlaintext().build();
     try {
-      process.exitValue();
-    } catch (IllegalThreadStateException ex) {
+      HealthCheckResponse response =
+          HealthGrpc.newBlockingStub(channel)
+              .withDeadlineAfter(PROBE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+              .check(HealthCheckRequest.getDefaultInstance());
+      return response.getStatus() == ServingStatus.SERVING;
+    } catch (StatusRuntimeException ex) {
       return false;
+    } finally {
+      channel.shutdownNow();
     }
-    return true;
   }
 
-  /** Stops all microservices. */
+  /**
+   * Sends an HTTP request to the REST-API. The REST-APIs do not have a dedicated health endpoint,
+   * so any HTTP response counts as ready, because Tomcat only accepts requests once the
+   * application context has been started.
+   *
+   * @param port the port of the REST-API.
+   * @return true if the server responded, false otherwise.
+   */
+  private boolean isHttpResponding(int port) {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://" + PROBE_HOST_NAME + ":" + port + "/"))
+            .timeout(PROBE_TIMEOUT)
+            .build();
+    try {
+      this.probeHttpClient.send(request, BodyHandlers.discarding());
+      return true;
+    } catch (IOException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new PerformanceTestException("Interrupted while probing port: %d", port);
+    }
+  }
+
+  /**
+   * Stops all microservices and waits until their processes have exited, so the ports are free for
+   * the next microservices.
+   */
   private void stopAllMicroservices() {
     logger.info("Stopping all running Microservices");
-    for (Process process : this.runningProcesses) {
+    for (Process process : this.runningMicroservices.values()) {
       process.destroy();
     }
-    this.runningProcesses.clear();
+    for (Process process : this.runningMicroservices.values()) {
+      try {
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+          process.destroyForcibly().waitFor();
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        process.destroyForcibly();
+      }
+    }
+    this.runningMicroservices.clear();
   }
 
   /**
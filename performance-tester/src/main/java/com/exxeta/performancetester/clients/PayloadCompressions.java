@@ -0,0 +1,151 @@
+package com.exxeta.performancetester.clients;
+
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.stub.MetadataUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+/** Helpers to compress the payloads of the gRPC and REST clients and to measure their size. */
+public final class PayloadCompressions {
+  private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+  private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+  private static final String GZIP_ENCODING = "gzip";
+
+  // the services compress a response with this encoding, instead of their default encoding
+  private static final Metadata.Key<String> RESPONSE_ENCODING_KEY =
+      Metadata.Key.of("response-encoding", Metadata.ASCII_STRING_MARSHALLER);
+
+  private PayloadCompressions() {}
+
+  /**
+   * Creates a registry of all compressors that the microservices support.
+   *
+   * @return the registry containing identity, gzip and Snappy.
+   */
+  public static CompressorRegistry createCompressorRegistry() {
+    CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+    compressorRegistry.register(Codec.Identity.NONE);
+    compressorRegistry.register(new Codec.Gzip());
+    compressorRegistry.register(new SnappyCodec());
+    return compressorRegistry;
+  }
+
+  /**
+   * Creates a registry of all decompressors that the microservices support.
+   *
+   * @return the registry containing identity, gzip and Snappy.
+   */
+  public static DecompressorRegistry createDecompressorRegistry() {
+    return DecompressorRegistry.getDefaultInstance().with(new SnappyCodec(), true);
+  }
+
+  /**
+   * Creates an interceptor for a gRPC call, which tells the service to compress the response with
+   * the given compression. Without it, a call without compression would receive a response that is
+   * compressed with the default encoding of the service.
+   *
+   * @param compression the compression of the response.
+   * @return the interceptor.
+   */
+  public static ClientInterceptor createResponseEncodingInterceptor(
+      PayloadCompression compression) {
+    Metadata headers = new Metadata();
+    headers.put(RESPONSE_ENCODING_KEY, compression.getGrpcEncoding());
+    return MetadataUtils.newAttachHeadersInterceptor(headers);
+  }
+
+  /**
+   * Creates an interceptor for a gRPC call, which records the size of every received message.
+   *
+   * @param wireSizeRecorder the recorder of the message sizes.
+   * @return the interceptor.
+   */
+  public static ClientInterceptor createWireSizeInterceptor(WireSizeRecorder wireSizeRecorder) {
+    ClientStreamTracer.Factory tracerFactory = createWireSizeTracerFactory(wireSizeRecorder);
+    return new ClientInterceptor() {
+      @Override
+      public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+          MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        return next.newCall(method, callOptions.withStreamTracerFactory(tracerFactory));
+      }
+    };
+  }
+
+  private static ClientStreamTracer.Factory createWireSizeTracerFactory(
+      WireSizeRecorder wireSizeRecorder) {
+    return new ClientStreamTracer.Factory() {
+      @Override
+      public ClientStreamTracer newClientStreamTracer(
+          ClientStreamTracer.StreamInfo info, Metadata headers) {
+        return new ClientStreamTracer() {
+          @Override
+          public void inboundWireSize(long bytes) {
+            wireSizeRecorder.recordWireBytes(bytes);
+          }
+
+          @Override
+          public void inboundUncompressedSize(long bytes) {
+            wireSizeRecorder.recordUncompressedBytes(bytes);
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Creates a GET request that accepts a compressed response body.
+   *
+   * @param uri the URI of the request.
+   * @param compression the compression of the response body.
+   * @return the request.
+   */
+  public static HttpRequest createGetRequest(URI uri, PayloadCompression compression) {
+    HttpRequest.Builder requestBuilder = HttpRequest.newBuilder().uri(uri);
+    if (compression.getHttpEncoding() != null) {
+      requestBuilder.header(ACCEPT_ENCODING_HEADER, compression.getHttpEncoding());
+    }
+    return requestBuilder.build();
+  }
+
+  /**
+   * Decompresses the body of a REST response if it is compressed and records its size.
+   *
+   * @param response the response with the received body.
+   * @param wireSizeRecorder the recorder of the body size.
+   * @return the uncompressed body.
+   * @throws UncheckedIOException if the body cannot be decompressed.
+   */
+  public static byte[] decodeBody(
+      HttpResponse<byte[]> response, WireSizeRecorder wireSizeRecorder) {
+    byte[] body = response.body();
+    byte[] uncompressedBody = body;
+    if (response.headers().firstValue(CONTENT_ENCODING_HEADER).orElse("").equals(GZIP_ENCODING)) {
+      try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+        uncompressedBody = inputStream.readAllBytes();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    wireSizeRecorder.recordWireBytes(body.length);
+    wireSizeRecorder.recordUncompressedBytes(uncompressedBody.length);
+    return uncompressedBody;
+  }
+}
@@ -0,0 +1,32 @@
+package com.exxeta.performancetester.clients;
+
+import io.grpc.Codec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.iq80.snappy.SnappyFramedInputStream;
+import org.iq80.snappy.SnappyFramedOutputStream;
+
+/**
+ * gRPC codec for the framed format of Snappy, which is registered by the microservices in addition
+ * to gzip.
+ */
+public class SnappyCodec implements Codec {
+  public static final String MESSAGE_ENCODING = "snappy";
+
+  @Override
+  public String getMessageEncoding() {
+    return MESSAGE_ENCODING;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    return new SnappyFramedOutputStream(outputStream);
+  }
+
+  @Override
+  public InputStream decompress(InputStream inputStream) throws IOException {
+    // the checksums are not verified, since HTTP/2 over TCP already detects corrupted data
+    return new SnappyFramedInputStream(inputStream, false);
+  }
+}
@@ -0,0 +1,42 @@
+package com.exxeta.performancetester.clients;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Receives the response of a unary gRPC call made with an async stub and exposes it as a {@link
+ * CompletableFuture}.
+ *
+ * @param <T> the type of the response.
+ */
+public class UnaryResponseObserver<T> implements StreamObserver<T> {
+  private final CompletableFuture<T> future = new CompletableFuture<>();
+  private T response;
+
+  @Override
+  public void onNext(T response) {
+    this.response = response;
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.future.completeExceptionally(
+        new RuntimeException(
+            "gRPC-Request failed with code: " + Status.fromThrowable(throwable).getCode()));
+  }
+
+  @Override
+  public void onCompleted() {
+    this.future.complete(this.response);
+  }
+
+  /**
+   * Returns the future that is completed once the call has finished.
+   *
+   * @return the future of the response.
+   */
+  public CompletableFuture<T> getFuture() {
+    return this.future;
+  }
+}
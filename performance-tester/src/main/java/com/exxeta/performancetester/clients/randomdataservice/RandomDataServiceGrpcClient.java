@@ -1,27 +1,47 @@
 package com.exxeta.performancetester.clients.randomdataservice;
 
+import com.exxeta.performancetester.clients.PayloadCompressions;
+import com.exxeta.performancetester.clients.UnaryResponseObserver;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
 import com.exxeta.randomdataservice.GetRandomDataRequest;
+import com.exxeta.randomdataservice.RandomBytesGrpcDto;
 import com.exxeta.randomdataservice.RandomDataGrpcDto;
 import com.exxeta.randomdataservice.RandomDataServiceGrpc;
 import com.exxeta.randomdataservice.RandomDataServiceGrpc.RandomDataServiceBlockingStub;
+import com.exxeta.randomdataservice.RandomDataServiceGrpc.RandomDataServiceStub;
+import com.exxeta.randomdataservice.StreamRandomBytesRequest;
+import com.exxeta.randomdataservice.UploadSummaryGrpcDto;
+import com.google.protobuf.ByteString;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class RandomDataServiceGrpcClient {
   private static final String GRPC_API_HOST_NAME = "localhost";
   private static final int RANDOM_DATA_SERVICE_GRPC_API_PORT = 8087;
 
   private final RandomDataServiceBlockingStub randomDataServiceBlockingStub;
+  private final RandomDataServiceStub randomDataServiceStub;
 
   public RandomDataServiceGrpcClient() {
     ManagedChannel channel =
         ManagedChannelBuilder.forAddress(GRPC_API_HOST_NAME, RANDOM_DATA_SERVICE_GRPC_API_PORT)
             .usePlaintext()
-            .maxInboundMessageSize(100_000_000)
+            // the Random-Data-Service can be configured to return up to 1GB in a single message
+            .maxInboundMessageSize(Integer.MAX_VALUE)
+            .compressorRegistry(PayloadCompressions.createCompressorRegistry())
+            .decompressorRegistry(PayloadCompressions.createDecompressorRegistry())
             .build();
 
     this.randomDataServiceBlockingStub = RandomDataServiceGrpc.newBlockingStub(channel);
+    this.randomDataServiceStub = RandomDataServiceGrpc.newStub(channel);
   }
 
   /**
@@ -40,4 +60,190 @@ public class RandomDataServiceGrpcClient {
       throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
     }
   }
+
+  /**
+   * Requests random data from the Random-Data-Service via gRPC API with compressed messages.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @param compression the compression of the request and the response.
+   * @param wireSizeRecorder the recorder of the size of the response.
+   * @return the random data string.
+   */
+  public String getRandomData(
+      int byteCount, PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    GetRandomDataRequest request =
+        GetRandomDataRequest.newBuilder().setByteCount(byteCount).build();
+    try {
+      RandomDataGrpcDto response =
+          this.randomDataServiceBlockingStub
+              .withCompression(compression.getGrpcEncoding())
+              .withInterceptors(
+                  PayloadCompressions.createWireSizeInterceptor(wireSizeRecorder),
+                  PayloadCompressions.createResponseEncodingInterceptor(compression))
+              .getRandomData(request);
+      return response.getData();
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests random data from the Random-Data-Service via gRPC API without blocking the calling
+   * thread.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return a future that is completed with the random data string.
+   */
+  public CompletableFuture<String> getRandomDataAsync(int byteCount) {
+    GetRandomDataRequest request =
+        GetRandomDataRequest.newBuilder().setByteCount(byteCount).build();
+    UnaryResponseObserver<RandomDataGrpcDto> responseObserver = new UnaryResponseObserver<>();
+    this.randomDataServiceStub.getRandomData(request, responseObserver);
+
+    return responseObserver.getFuture().thenApply(RandomDataGrpcDto::getData);
+  }
+
+  /**
+   * Requests random data as raw bytes from the Random-Data-Service via gRPC API.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return the random bytes.
+   */
+  public ByteString getRandomBytes(int byteCount) {
+    GetRandomDataRequest request =
+        GetRandomDataRequest.newBuilder().setByteCount(byteCount).build();
+    try {
+      RandomBytesGrpcDto response = this.randomDataServiceBlockingStub.getRandomBytes(request);
+      return response.getData();
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests random data as raw bytes from the Random-Data-Service via gRPC API without blocking
+   * the calling thread.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return a future that is completed with the random bytes.
+   */
+  public CompletableFuture<ByteString> getRandomBytesAsync(int byteCount) {
+    GetRandomDataRequest request =
+        GetRandomDataRequest.newBuilder().setByteCount(byteCount).build();
+    UnaryResponseObserver<RandomBytesGrpcDto> responseObserver = new UnaryResponseObserver<>();
+    this.randomDataServiceStub.getRandomBytes(request, responseObserver);
+
+    return responseObserver.getFuture().thenApply(RandomBytesGrpcDto::getData);
+  }
+
+  /**
+   * Requests random data as a stream of raw byte chunks from the Random-Data-Service via gRPC API.
+   *
+   * @param byteCount the total amount of bytes that the stream should contain.
+   * @param chunkSize the amount of bytes per message.
+   * @param firstChunkListener is run once the first chunk was received.
+   * @return the amount of received bytes.
+   */
+  public long streamRandomBytes(int byteCount, int chunkSize, Runnable firstChunkListener) {
+    StreamRandomBytesRequest request =
+        StreamRandomBytesRequest.newBuilder()
+            .setByteCount(byteCount)
+            .setChunkSize(chunkSize)
+            .build();
+    try {
+      long receivedBytes = 0;
+      boolean firstChunk = true;
+      Iterator<RandomBytesGrpcDto> chunks =
+          this.randomDataServiceBlockingStub.streamRandomBytes(request);
+      while (chunks.hasNext()) {
+        receivedBytes += chunks.next().getData().size();
+        if (firstChunk) {
+          firstChunkListener.run();
+          firstChunk = false;
+        }
+      }
+      return receivedBytes;
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Uploads bytes to the Random-Data-Service via gRPC API in a single message.
+   *
+   * @param data the bytes to upload.
+   * @return the byte count and digest of the uploaded bytes.
+   */
+  public UploadSummaryGrpcDto uploadBytes(ByteString data) {
+    RandomBytesGrpcDto request = RandomBytesGrpcDto.newBuilder().setData(data).build();
+    try {
+      return this.randomDataServiceBlockingStub.uploadBytes(request);
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Uploads bytes to the Random-Data-Service via gRPC API as a stream of chunks. A chunk is only
+   * sent while the call is ready, so the chunks are not buffered by the client if the server reads
+   * them slower than they are sent.
+   *
+   * @param chunks the chunks of the bytes to upload.
+   * @return the byte count and digest of the uploaded bytes.
+   */
+  public UploadSummaryGrpcDto uploadByteStream(List<ByteString> chunks) {
+    UnaryResponseObserver<UploadSummaryGrpcDto> responseObserver = new UnaryResponseObserver<>();
+    this.randomDataServiceStub.uploadByteStream(
+        new ChunkUploadObserver(chunks.iterator(), responseObserver));
+
+    return responseObserver.getFuture().join();
+  }
+
+  /** Sends the chunks of an upload from the onReady handler of the call. */
+  private static class ChunkUploadObserver
+      implements ClientResponseObserver<RandomBytesGrpcDto, UploadSummaryGrpcDto> {
+    private final Iterator<ByteString> chunks;
+    private final StreamObserver<UploadSummaryGrpcDto> responseObserver;
+
+    // only accessed by the onReady handler, which is never called concurrently
+    private boolean completed;
+
+    private ChunkUploadObserver(
+        Iterator<ByteString> chunks, StreamObserver<UploadSummaryGrpcDto> responseObserver) {
+      this.chunks = chunks;
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<RandomBytesGrpcDto> requestStream) {
+      requestStream.setOnReadyHandler(
+          () -> {
+            while (!this.completed && requestStream.isReady()) {
+              if (!this.chunks.hasNext()) {
+                this.completed = true;
+                requestStream.onCompleted();
+                return;
+              }
+
+              requestStream.onNext(
+                  RandomBytesGrpcDto.newBuilder().setData(this.chunks.next()).build());
+            }
+          });
+    }
+
+    @Override
+    public void onNext(UploadSummaryGrpcDto response) {
+      this.responseObserver.onNext(response);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.responseObserver.onError(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+      this.responseObserver.onCompleted();
+    }
+  }
 }
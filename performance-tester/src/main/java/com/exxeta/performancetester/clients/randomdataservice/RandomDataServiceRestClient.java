@@ -1,12 +1,22 @@
 package com.exxeta.performancetester.clients.randomdataservice;
 
+import com.exxeta.performancetester.clients.PayloadCompressions;
 import com.exxeta.performancetester.clients.randomdataservice.dto.RandomDataRestDto;
+import com.exxeta.performancetester.clients.randomdataservice.dto.UploadSummaryRestDto;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
 import com.google.gson.Gson;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class RandomDataServiceRestClient {
   private static final String RANDOM_DATA_SERVICE_REST_API_BASE_URL = "http://localhost:8086";
@@ -42,4 +52,195 @@ public class RandomDataServiceRestClient {
       throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
     }
   }
+
+  /**
+   * Requests random data from the Random-Data-Service via REST API with a compressed response body.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @param compression the compression of the response body.
+   * @param wireSizeRecorder the recorder of the size of the response body.
+   * @return the random data string.
+   */
+  public String getRandomData(
+      int byteCount, PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    URI requestUri =
+        URI.create(RANDOM_DATA_SERVICE_REST_API_BASE_URL + "/data?byteCount=" + byteCount);
+    HttpRequest request = PayloadCompressions.createGetRequest(requestUri, compression);
+
+    try {
+      HttpResponse<byte[]> response = this.httpClient.send(request, BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+      }
+
+      String body =
+          new String(
+              PayloadCompressions.decodeBody(response, wireSizeRecorder), StandardCharsets.UTF_8);
+      return gson.fromJson(body, RandomDataRestDto.class).data();
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Requests random data from the Random-Data-Service via REST API without blocking the calling
+   * thread.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return a future that is completed with the random data string.
+   */
+  public CompletableFuture<String> getRandomDataAsync(int byteCount) {
+    URI requestUri =
+        URI.create(RANDOM_DATA_SERVICE_REST_API_BASE_URL + "/data?byteCount=" + byteCount);
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    return this.httpClient
+        .sendAsync(request, BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new RuntimeException(
+                    "HTTP-Request failed with code: " + response.statusCode());
+              }
+
+              return gson.fromJson(response.body(), RandomDataRestDto.class).data();
+            });
+  }
+
+  /**
+   * Requests random data as raw bytes from the Random-Data-Service via REST API.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return the random bytes.
+   */
+  public byte[] getRandomBytes(int byteCount) {
+    try {
+      HttpRequest request = this.createRandomBytesRequest(byteCount);
+      HttpResponse<byte[]> response = this.httpClient.send(request, BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+      }
+
+      return response.body();
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Requests random data as raw bytes from the Random-Data-Service via REST API without blocking
+   * the calling thread.
+   *
+   * @param byteCount the amount of bytes that the response should contain.
+   * @return a future that is completed with the random bytes.
+   */
+  public CompletableFuture<byte[]> getRandomBytesAsync(int byteCount) {
+    return this.httpClient
+        .sendAsync(this.createRandomBytesRequest(byteCount), BodyHandlers.ofByteArray())
+        .thenApply(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new RuntimeException(
+                    "HTTP-Request failed with code: " + response.statusCode());
+              }
+
+              return response.body();
+            });
+  }
+
+  private HttpRequest createRandomBytesRequest(int byteCount) {
+    URI requestUri =
+        URI.create(RANDOM_DATA_SERVICE_REST_API_BASE_URL + "/data/bytes?byteCount=" + byteCount);
+    return HttpRequest.newBuilder().uri(requestUri).build();
+  }
+
+  /**
+   * Requests random data as a chunked stream of raw bytes from the Random-Data-Service via REST
+   * API. The bytes are read into a buffer of the chunk size and discarded afterwards.
+   *
+   * @param byteCount the total amount of bytes that the stream should contain.
+   * @param chunkSize the amount of bytes per chunk.
+   * @param firstChunkListener is run once the first bytes were received.
+   * @return the amount of received bytes.
+   */
+  public long streamRandomBytes(int byteCount, int chunkSize, Runnable firstChunkListener) {
+    URI requestUri =
+        URI.create(
+            RANDOM_DATA_SERVICE_REST_API_BASE_URL
+                + "/data/bytes/stream?byteCount="
+                + byteCount
+                + "&chunkSize="
+                + chunkSize);
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    try {
+      HttpResponse<InputStream> response =
+          this.httpClient.send(request, BodyHandlers.ofInputStream());
+      try (InputStream body = response.body()) {
+        if (response.statusCode() != 200) {
+          throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+        }
+
+        long receivedBytes = 0;
+        boolean firstChunk = true;
+        byte[] buffer = new byte[Math.max(chunkSize, 1)];
+        int readBytes;
+        while ((readBytes = body.read(buffer)) != -1) {
+          receivedBytes += readBytes;
+          if (firstChunk) {
+            firstChunkListener.run();
+            firstChunk = false;
+          }
+        }
+        return receivedBytes;
+      }
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Uploads bytes to the Random-Data-Service via REST API as a request body with a content length.
+   *
+   * @param data the bytes to upload.
+   * @return the byte count and digest of the uploaded bytes.
+   */
+  public UploadSummaryRestDto uploadBytes(byte[] data) {
+    return this.upload(BodyPublishers.ofByteArray(data));
+  }
+
+  /**
+   * Uploads bytes to the Random-Data-Service via REST API as a request body without a content
+   * length, so the chunks are sent with chunked transfer encoding.
+   *
+   * @param chunks the chunks of the bytes to upload.
+   * @return the byte count and digest of the uploaded bytes.
+   */
+  public UploadSummaryRestDto uploadByteStream(List<byte[]> chunks) {
+    return this.upload(BodyPublishers.ofByteArrays(chunks));
+  }
+
+  private UploadSummaryRestDto upload(BodyPublisher bodyPublisher) {
+    URI requestUri = URI.create(RANDOM_DATA_SERVICE_REST_API_BASE_URL + "/data/upload");
+    // an upgrade to HTTP/2 would be rejected, since Tomcat does not buffer large request bodies
+    // during the upgrade
+    HttpRequest request =
+        HttpRequest.newBuilder()
+            .uri(requestUri)
+            .version(HttpClient.Version.HTTP_1_1)
+            .header("Content-Type", "application/octet-stream")
+            .POST(bodyPublisher)
+            .build();
+
+    try {
+      HttpResponse<String> response = this.httpClient.send(request, BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+      }
+
+      return gson.fromJson(response.body(), UploadSummaryRestDto.class);
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
 }
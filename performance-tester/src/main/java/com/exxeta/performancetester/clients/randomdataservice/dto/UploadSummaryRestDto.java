@@ -0,0 +1,3 @@
+package com.exxeta.performancetester.clients.randomdataservice.dto;
+
+public record UploadSummaryRestDto(long byteCount, String digest) {}
@@ -1,18 +1,36 @@
 package com.exxeta.performancetester.clients.shopservice;
 
+import com.exxeta.performancetester.clients.PayloadCompressions;
+import com.exxeta.performancetester.clients.UnaryResponseObserver;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
+import com.exxeta.shopservice.CreateOrderRequest;
+import com.exxeta.shopservice.CreateOrdersSummaryGrpcDto;
+import com.exxeta.shopservice.ListPageRequest;
 import com.exxeta.shopservice.ListRecommendedProductsRequest;
 import com.exxeta.shopservice.OrderGrpcDto;
 import com.exxeta.shopservice.OrderListGrpcDto;
+import com.exxeta.shopservice.OrderPageGrpcDto;
 import com.exxeta.shopservice.OrderServiceGrpc;
 import com.exxeta.shopservice.OrderServiceGrpc.OrderServiceBlockingStub;
+import com.exxeta.shopservice.OrderServiceGrpc.OrderServiceStub;
+import com.exxeta.shopservice.ProductGrpcDto;
+import com.exxeta.shopservice.ProductListGrpcDto;
+import com.exxeta.shopservice.ProductPageGrpcDto;
 import com.exxeta.shopservice.ProductRecommendationGrpcDto;
 import com.exxeta.shopservice.ProductServiceGrpc;
 import com.exxeta.shopservice.ProductServiceGrpc.ProductServiceBlockingStub;
+import com.exxeta.shopservice.ProductServiceGrpc.ProductServiceStub;
+import com.exxeta.shopservice.StreamListRequest;
 import com.google.protobuf.Empty;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
 
 public class ShopServiceGrpcClient {
 
@@ -21,15 +39,21 @@ public class ShopServiceGrpcClient {
 
   private final OrderServiceBlockingStub orderServiceBlockingStub;
   private final ProductServiceBlockingStub productServiceBlockingStub;
+  private final OrderServiceStub orderServiceStub;
+  private final ProductServiceStub productServiceStub;
 
   public ShopServiceGrpcClient() {
     ManagedChannel channel =
         ManagedChannelBuilder.forAddress(GRPC_API_HOST_NAME, SHOP_SERVICE_GRPC_API_PORT)
             .usePlaintext()
+            .compressorRegistry(PayloadCompressions.createCompressorRegistry())
+            .decompressorRegistry(PayloadCompressions.createDecompressorRegistry())
             .build();
 
     this.orderServiceBlockingStub = OrderServiceGrpc.newBlockingStub(channel);
     this.productServiceBlockingStub = ProductServiceGrpc.newBlockingStub(channel);
+    this.orderServiceStub = OrderServiceGrpc.newStub(channel);
+    this.productServiceStub = ProductServiceGrpc.newStub(channel);
   }
 
   /**
@@ -48,6 +72,142 @@ public class ShopServiceGrpcClient {
     }
   }
 
+  /**
+   * Requests all orders from the Shop-Service via gRPC API with compressed messages.
+   *
+   * @param compression the compression of the request and the response.
+   * @param wireSizeRecorder the recorder of the size of the response.
+   * @return a list containing all orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public List<OrderGrpcDto> listOrders(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    Empty emptyRequest = Empty.newBuilder().build();
+    try {
+      OrderListGrpcDto response =
+          this.orderServiceBlockingStub
+              .withCompression(compression.getGrpcEncoding())
+              .withInterceptors(
+                  PayloadCompressions.createWireSizeInterceptor(wireSizeRecorder),
+                  PayloadCompressions.createResponseEncodingInterceptor(compression))
+              .listOrders(emptyRequest);
+      return response.getOrdersList();
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests a single page of orders from the Shop-Service via gRPC API.
+   *
+   * @param pageSize the maximum amount of orders of the page.
+   * @param pageToken the token of the previous page, or null for the first page.
+   * @return the requested page.
+   * @throws RuntimeException if the request fails.
+   */
+  public OrderPageGrpcDto listOrdersPage(int pageSize, String pageToken) {
+    try {
+      return this.orderServiceBlockingStub.listOrdersPage(
+          this.createListPageRequest(pageSize, pageToken));
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests all orders as a stream of batches from the Shop-Service via gRPC API.
+   *
+   * @param batchSize the maximum amount of orders per batch.
+   * @param firstBatchListener called once the first batch has been received.
+   * @return the amount of received orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public int streamOrders(int batchSize, Runnable firstBatchListener) {
+    StreamListRequest request = StreamListRequest.newBuilder().setBatchSize(batchSize).build();
+    try {
+      return this.receiveBatches(
+          this.orderServiceBlockingStub.streamOrders(request),
+          OrderListGrpcDto::getOrdersCount,
+          firstBatchListener);
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Creates multiple orders in the Shop-Service by streaming them via gRPC API in a single call.
+   *
+   * @param requests the orders to create.
+   * @return the summary of the created orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public CreateOrdersSummaryGrpcDto createOrders(List<CreateOrderRequest> requests) {
+    UnaryResponseObserver<CreateOrdersSummaryGrpcDto> responseObserver =
+        new UnaryResponseObserver<>();
+    StreamObserver<CreateOrderRequest> requestObserver =
+        this.orderServiceStub.createOrders(responseObserver);
+
+    for (CreateOrderRequest request : requests) {
+      requestObserver.onNext(request);
+    }
+    requestObserver.onCompleted();
+
+    return responseObserver.getFuture().join();
+  }
+
+  /**
+   * Requests all products from the Shop-Service via gRPC API.
+   *
+   * @return a list containing all products.
+   * @throws RuntimeException if the request fails.
+   */
+  public List<ProductGrpcDto> listProducts() {
+    Empty emptyRequest = Empty.newBuilder().build();
+    try {
+      ProductListGrpcDto response = this.productServiceBlockingStub.listProducts(emptyRequest);
+      return response.getProductsList();
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests a single page of products from the Shop-Service via gRPC API.
+   *
+   * @param pageSize the maximum amount of products of the page.
+   * @param pageToken the token of the previous page, or null for the first page.
+   * @return the requested page.
+   * @throws RuntimeException if the request fails.
+   */
+  public ProductPageGrpcDto listProductsPage(int pageSize, String pageToken) {
+    try {
+      return this.productServiceBlockingStub.listProductsPage(
+          this.createListPageRequest(pageSize, pageToken));
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
+  /**
+   * Requests all products as a stream of batches from the Shop-Service via gRPC API.
+   *
+   * @param batchSize the maximum amount of products per batch.
+   * @param firstBatchListener called once the first batch has been received.
+   * @return the amount of received products.
+   * @throws RuntimeException if the request fails.
+   */
+  public int streamProducts(int batchSize, Runnable firstBatchListener) {
+    StreamListRequest request = StreamListRequest.newBuilder().setBatchSize(batchSize).build();
+    try {
+      return this.receiveBatches(
+          this.productServiceBlockingStub.streamProducts(request),
+          ProductListGrpcDto::getProductsCount,
+          firstBatchListener);
+    } catch (StatusRuntimeException ex) {
+      throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
+    }
+  }
+
   /**
    * Requests recommended products from the Shop-Service via gRPC-API.
    *
@@ -64,4 +224,57 @@ public class ShopServiceGrpcClient {
       throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
     }
   }
+
+  /**
+   * Requests all orders from the Shop-Service via gRPC API without blocking the calling thread.
+   *
+   * @return a future that is completed with a list containing all orders.
+   */
+  public CompletableFuture<List<OrderGrpcDto>> listOrdersAsync() {
+    Empty emptyRequest = Empty.newBuilder().build();
+    UnaryResponseObserver<OrderListGrpcDto> responseObserver = new UnaryResponseObserver<>();
+    this.orderServiceStub.listOrders(emptyRequest, responseObserver);
+
+    return responseObserver.getFuture().thenApply(OrderListGrpcDto::getOrdersList);
+  }
+
+  /**
+   * Requests recommended products from the Shop-Service via gRPC-API without blocking the calling
+   * thread.
+   *
+   * @param userId the id of the user for whom the products are recommended.
+   * @return a future that is completed with the product recommendations.
+   */
+  public CompletableFuture<ProductRecommendationGrpcDto> getProductRecommendationAsync(int userId) {
+    ListRecommendedProductsRequest request =
+        ListRecommendedProductsRequest.newBuilder().setUserId(userId).build();
+    UnaryResponseObserver<ProductRecommendationGrpcDto> responseObserver =
+        new UnaryResponseObserver<>();
+    this.productServiceStub.listRecommendedProducts(request, responseObserver);
+
+    return responseObserver.getFuture();
+  }
+
+  private ListPageRequest createListPageRequest(int pageSize, String pageToken) {
+    ListPageRequest.Builder request = ListPageRequest.newBuilder().setPageSize(pageSize);
+    if (pageToken != null) {
+      request.setPageToken(pageToken);
+    }
+    return request.build();
+  }
+
+  private <T> int receiveBatches(
+      Iterator<T> batches, ToIntFunction<T> itemCounter, Runnable firstBatchListener) {
+    int itemCount = 0;
+    boolean firstBatch = true;
+    while (batches.hasNext()) {
+      T batch = batches.next();
+      if (firstBatch) {
+        firstBatchListener.run();
+        firstBatch = false;
+      }
+      itemCount += itemCounter.applyAsInt(batch);
+    }
+    return itemCount;
+  }
 }
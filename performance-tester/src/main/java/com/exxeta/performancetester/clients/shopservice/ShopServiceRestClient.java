@@ -1,16 +1,31 @@
 package com.exxeta.performancetester.clients.shopservice;
 
+import com.exxeta.performancetester.clients.PayloadCompressions;
+import com.exxeta.performancetester.clients.shopservice.dto.CreateOrderRestDto;
+import com.exxeta.performancetester.clients.shopservice.dto.CreateOrdersSummaryRestDto;
+import com.exxeta.performancetester.clients.shopservice.dto.OrderPageRestDto;
 import com.exxeta.performancetester.clients.shopservice.dto.OrderRestDto;
+import com.exxeta.performancetester.clients.shopservice.dto.ProductPageRestDto;
 import com.exxeta.performancetester.clients.shopservice.dto.ProductRecommendationRestDto;
+import com.exxeta.performancetester.clients.shopservice.dto.ProductRestDto;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public class ShopServiceRestClient {
   private static final String SHOP_SERVICE_REST_API_BASE_URL = "http://localhost:8082";
@@ -46,6 +61,134 @@ public class ShopServiceRestClient {
     }
   }
 
+  /**
+   * Requests all orders from the Shop-Service via REST API with a compressed response body.
+   *
+   * @param compression the compression of the response body.
+   * @param wireSizeRecorder the recorder of the size of the response body.
+   * @return a list containing all orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public List<OrderRestDto> listOrders(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + "/orders");
+    HttpRequest request = PayloadCompressions.createGetRequest(requestUri, compression);
+
+    try {
+      HttpResponse<byte[]> response = httpClient.send(request, BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+      }
+
+      String body =
+          new String(
+              PayloadCompressions.decodeBody(response, wireSizeRecorder), StandardCharsets.UTF_8);
+      return gson.fromJson(body, new TypeToken<ArrayList<OrderRestDto>>() {}.getType());
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Requests a single page of orders from the Shop-Service via REST API.
+   *
+   * @param pageSize the maximum amount of orders of the page.
+   * @param pageToken the token of the previous page, or null for the first page.
+   * @return the requested page.
+   * @throws RuntimeException if the request fails.
+   */
+  public OrderPageRestDto listOrdersPage(int pageSize, String pageToken) {
+    return this.get(
+        this.createPagePath("/orders/page", pageSize, pageToken), OrderPageRestDto.class);
+  }
+
+  /**
+   * Requests all orders as a stream of batches from the Shop-Service via REST API. Every batch is
+   * received as a single line of newline delimited JSON.
+   *
+   * @param batchSize the maximum amount of orders per batch.
+   * @param firstBatchListener called once the first batch has been received.
+   * @return the amount of received orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public int streamOrders(int batchSize, Runnable firstBatchListener) {
+    return this.receiveBatches(
+        "/orders/stream?batchSize=" + batchSize,
+        new TypeToken<ArrayList<OrderRestDto>>() {}.getType(),
+        firstBatchListener);
+  }
+
+  /**
+   * Creates multiple orders in the Shop-Service via REST API in a single request.
+   *
+   * @param createOrderDtos the orders to create.
+   * @return the summary of the created orders.
+   * @throws RuntimeException if the request fails.
+   */
+  public CreateOrdersSummaryRestDto createOrders(List<CreateOrderRestDto> createOrderDtos) {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + "/orders/batch");
+    // an upgrade to HTTP/2 would be rejected, since Tomcat does not buffer large request bodies
+    // during the upgrade
+    HttpRequest request =
+        HttpRequest.newBuilder()
+            .uri(requestUri)
+            .version(HttpClient.Version.HTTP_1_1)
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(gson.toJson(createOrderDtos)))
+            .build();
+
+    try {
+      HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException(
+            "HTTP-Request failed with code: " + response.statusCode() + ", " + response.body());
+      }
+
+      return gson.fromJson(response.body(), CreateOrdersSummaryRestDto.class);
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Requests all products from the Shop-Service via REST API.
+   *
+   * @return a list containing all products.
+   * @throws RuntimeException if the request fails.
+   */
+  public List<ProductRestDto> listProducts() {
+    return this.get("/products", new TypeToken<ArrayList<ProductRestDto>>() {}.getType());
+  }
+
+  /**
+   * Requests a single page of products from the Shop-Service via REST API.
+   *
+   * @param pageSize the maximum amount of products of the page.
+   * @param pageToken the token of the previous page, or null for the first page.
+   * @return the requested page.
+   * @throws RuntimeException if the request fails.
+   */
+  public ProductPageRestDto listProductsPage(int pageSize, String pageToken) {
+    return this.get(
+        this.createPagePath("/products/page", pageSize, pageToken), ProductPageRestDto.class);
+  }
+
+  /**
+   * Requests all products as a stream of batches from the Shop-Service via REST API. Every batch is
+   * received as a single line of newline delimited JSON.
+   *
+   * @param batchSize the maximum amount of products per batch.
+   * @param firstBatchListener called once the first batch has been received.
+   * @return the amount of received products.
+   * @throws RuntimeException if the request fails.
+   */
+  public int streamProducts(int batchSize, Runnable firstBatchListener) {
+    return this.receiveBatches(
+        "/products/stream?batchSize=" + batchSize,
+        new TypeToken<ArrayList<ProductRestDto>>() {}.getType(),
+        firstBatchListener);
+  }
+
   /**
    * Requests recommended products from the Shop-Service via REST-API.
    *
@@ -68,4 +211,105 @@ public class ShopServiceRestClient {
       throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
     }
   }
+
+  /**
+   * Requests all orders from the Shop-Service via REST API without blocking the calling thread.
+   *
+   * @return a future that is completed with a list containing all orders.
+   */
+  public CompletableFuture<List<OrderRestDto>> listOrdersAsync() {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + "/orders");
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    return httpClient
+        .sendAsync(request, BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new RuntimeException(
+                    "HTTP-Request failed with code: " + response.statusCode());
+              }
+
+              return gson.fromJson(
+                  response.body(), new TypeToken<ArrayList<OrderRestDto>>() {}.getType());
+            });
+  }
+
+  /**
+   * Requests recommended products from the Shop-Service via REST-API without blocking the calling
+   * thread.
+   *
+   * @param userId the id of the user for whom the products are recommended.
+   * @return a future that is completed with the product recommendations.
+   */
+  public CompletableFuture<ProductRecommendationRestDto> getProductRecommendationAsync(int userId) {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + "/products/recommended/" + userId);
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    return httpClient
+        .sendAsync(request, BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new RuntimeException(
+                    "HTTP-Request failed with code: " + response.statusCode());
+              }
+
+              return gson.fromJson(response.body(), ProductRecommendationRestDto.class);
+            });
+  }
+
+  private String createPagePath(String path, int pageSize, String pageToken) {
+    String pagePath = path + "?pageSize=" + pageSize;
+    if (pageToken != null) {
+      pagePath += "&pageToken=" + URLEncoder.encode(pageToken, StandardCharsets.UTF_8);
+    }
+    return pagePath;
+  }
+
+  private <T> T get(String path, Type responseType) {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + path);
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    try {
+      HttpResponse<String> response = httpClient.send(request, BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new RuntimeException(
+            "HTTP-Request failed with code: " + response.statusCode() + ", " + response.body());
+      }
+
+      return gson.fromJson(response.body(), responseType);
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
+
+  private int receiveBatches(String path, Type batchType, Runnable firstBatchListener) {
+    URI requestUri = URI.create(SHOP_SERVICE_REST_API_BASE_URL + path);
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    try {
+      HttpResponse<Stream<String>> response = httpClient.send(request, BodyHandlers.ofLines());
+      try (Stream<String> lines = response.body()) {
+        if (response.statusCode() != 200) {
+          throw new RuntimeException("HTTP-Request failed with code: " + response.statusCode());
+        }
+
+        int itemCount = 0;
+        boolean firstBatch = true;
+        Iterator<String> batches = lines.iterator();
+        while (batches.hasNext()) {
+          List<?> batch = gson.fromJson(batches.next(), batchType);
+          if (firstBatch) {
+            firstBatchListener.run();
+            firstBatch = false;
+          }
+          itemCount += batch.size();
+        }
+        return itemCount;
+      }
+    } catch (Exception ex) {
+      throw new RuntimeException("HTTP-Request failed. Error: " + ex.getMessage());
+    }
+  }
 }
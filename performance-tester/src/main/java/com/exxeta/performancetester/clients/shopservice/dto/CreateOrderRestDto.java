@@ -0,0 +1,5 @@
+package com.exxeta.performancetester.clients.shopservice.dto;
+
+import java.util.List;
+
+public record CreateOrderRestDto(Integer userId, List<Integer> productIds) {}
@@ -0,0 +1,4 @@
+package com.exxeta.performancetester.clients.shopservice.dto;
+
+public record CreateOrdersSummaryRestDto(
+    Integer receivedCount, Integer createdCount, Integer rejectedCount, Integer batchCount) {}
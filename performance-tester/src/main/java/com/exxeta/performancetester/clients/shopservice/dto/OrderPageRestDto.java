@@ -0,0 +1,5 @@
+package com.exxeta.performancetester.clients.shopservice.dto;
+
+import java.util.List;
+
+public record OrderPageRestDto(List<OrderRestDto> orders, String nextPageToken) {}
@@ -0,0 +1,5 @@
+package com.exxeta.performancetester.clients.shopservice.dto;
+
+import java.util.List;
+
+public record ProductPageRestDto(List<ProductRestDto> products, String nextPageToken) {}
@@ -1,20 +1,24 @@
 package com.exxeta.performancetester.clients.userservice;
 
+import com.exxeta.performancetester.clients.UnaryResponseObserver;
 import com.exxeta.userservice.ListUsersRequest;
 import com.exxeta.userservice.UserGrpcDto;
 import com.exxeta.userservice.UserListGrpcDto;
 import com.exxeta.userservice.UserServiceGrpc;
 import com.exxeta.userservice.UserServiceGrpc.UserServiceBlockingStub;
+import com.exxeta.userservice.UserServiceGrpc.UserServiceStub;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class UserServiceGrpcClient {
   private static final String GRPC_API_HOST_NAME = "localhost";
   private static final int USER_SERVICE_GRPC_API_PORT = 8081;
 
   private final UserServiceBlockingStub userServiceBlockingStub;
+  private final UserServiceStub userServiceStub;
 
   public UserServiceGrpcClient() {
     ManagedChannel channel =
@@ -23,6 +27,7 @@ public class UserServiceGrpcClient {
             .build();
 
     this.userServiceBlockingStub = UserServiceGrpc.newBlockingStub(channel);
+    this.userServiceStub = UserServiceGrpc.newStub(channel);
   }
 
   /**
@@ -41,4 +46,17 @@ public class UserServiceGrpcClient {
       throw new RuntimeException("gRPC-Request failed with code: " + ex.getStatus().getCode());
     }
   }
+
+  /**
+   * Requests all users from the User-Service via gRPC API without blocking the calling thread.
+   *
+   * @return a future that is completed with a list containing all users.
+   */
+  public CompletableFuture<List<UserGrpcDto>> listUsersAsync() {
+    ListUsersRequest request = ListUsersRequest.getDefaultInstance();
+    UnaryResponseObserver<UserListGrpcDto> responseObserver = new UnaryResponseObserver<>();
+    this.userServiceStub.listUsers(request, responseObserver);
+
+    return responseObserver.getFuture().thenApply(UserListGrpcDto::getUsersList);
+  }
 }
@@ -11,6 +11,7 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class UserServiceRestClient {
   private static final String USER_SERVICE_REST_API_BASE_URL = "http://localhost:8080";
@@ -44,4 +45,27 @@ public class UserServiceRestClient {
       throw new RuntimeException("HTTP-Request failed. Error: " + ex.getClass().getSimpleName());
     }
   }
+
+  /**
+   * Requests all users from the User-Service via REST API without blocking the calling thread.
+   *
+   * @return a future that is completed with a list containing all users.
+   */
+  public CompletableFuture<List<UserRestDto>> listUsersAsync() {
+    URI requestUri = URI.create(USER_SERVICE_REST_API_BASE_URL + "/users");
+    HttpRequest request = HttpRequest.newBuilder().uri(requestUri).build();
+
+    return httpClient
+        .sendAsync(request, BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() != 200) {
+                throw new RuntimeException(
+                    "HTTP-Request failed with code: " + response.statusCode());
+              }
+
+              return gson.fromJson(
+                  response.body(), new TypeToken<ArrayList<UserRestDto>>() {}.getType());
+            });
+  }
 }
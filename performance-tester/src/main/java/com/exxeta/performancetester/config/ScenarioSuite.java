@@ -0,0 +1,13 @@
+package com.exxeta.performancetester.config;
+
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.scenarios.Scenario;
+import java.util.List;
+
+/**
+ * All scenarios of a scenario suite file.
+ *
+ * @param executorType the default executor type of all concurrent scenarios, or null if not set.
+ * @param scenarios the scenarios in the order in which they are defined.
+ */
+public record ScenarioSuite(ExecutorType executorType, List<Scenario> scenarios) {}
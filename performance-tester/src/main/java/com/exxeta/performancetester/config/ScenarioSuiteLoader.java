@@ -0,0 +1,367 @@
+package com.exxeta.performancetester.config;
+
+import com.exxeta.performancetester.config.definition.RequestDefinition;
+import com.exxeta.performancetester.config.definition.ScenarioDefinition;
+import com.exxeta.performancetester.config.definition.SweepDefinition;
+import com.exxeta.performancetester.config.definition.SweepScale;
+import com.exxeta.performancetester.exception.PerformanceTestException;
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.requests.CompressibleRequest;
+import com.exxeta.performancetester.requests.IngestRequest;
+import com.exxeta.performancetester.requests.Request;
+import com.exxeta.performancetester.requests.RequestAllOrders;
+import com.exxeta.performancetester.requests.RequestAllProducts;
+import com.exxeta.performancetester.requests.RequestAllUsers;
+import com.exxeta.performancetester.requests.RequestCreateOrders;
+import com.exxeta.performancetester.requests.RequestOrderPages;
+import com.exxeta.performancetester.requests.RequestOrderStream;
+import com.exxeta.performancetester.requests.RequestProductPages;
+import com.exxeta.performancetester.requests.RequestProductStream;
+import com.exxeta.performancetester.requests.RequestRandomBytes;
+import com.exxeta.performancetester.requests.RequestRandomBytesStream;
+import com.exxeta.performancetester.requests.RequestRandomData;
+import com.exxeta.performancetester.requests.RequestRecommendedProducts;
+import com.exxeta.performancetester.requests.RequestUploadByteStream;
+import com.exxeta.performancetester.requests.RequestUploadBytes;
+import com.exxeta.performancetester.requests.WeightedRequest;
+import com.exxeta.performancetester.scenarios.Scenario;
+import com.exxeta.performancetester.scenarios.concurrent.LoadTestScenario;
+import com.exxeta.performancetester.scenarios.concurrent.MixedWorkloadScenario;
+import com.exxeta.performancetester.scenarios.concurrent.StressTestScenario;
+import com.exxeta.performancetester.scenarios.concurrent.ThroughputSearchScenario;
+import com.exxeta.performancetester.scenarios.synchronous.CompressionTestScenario;
+import com.exxeta.performancetester.scenarios.synchronous.IngestTestScenario;
+import com.exxeta.performancetester.scenarios.synchronous.StreamingTestScenario;
+import com.exxeta.performancetester.scenarios.synchronous.SynchronousTestScenario;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a scenario suite from a JSON file. The file contains an optional default {@code
+ * executorType} and a list of {@code scenarios}, where every entry is a {@link ScenarioDefinition}.
+ * A scenario definition with a {@link SweepDefinition} is expanded into one scenario per value of
+ * the sweep.
+ */
+public class ScenarioSuiteLoader {
+  private static final String EXECUTOR_TYPE_KEY = "executorType";
+  private static final String SCENARIOS_KEY = "scenarios";
+  private static final String SWEEP_KEY = "sweep";
+
+  private final Gson gson = new Gson();
+
+  /**
+   * Loads all scenarios of a scenario suite file.
+   *
+   * @param path the path to the JSON file.
+   * @return the loaded scenario suite.
+   * @throws PerformanceTestException if the file cannot be read or contains an invalid definition.
+   */
+  public ScenarioSuite load(Path path) {
+    JsonObject suite;
+    try (Reader reader = Files.newBufferedReader(path)) {
+      suite = JsonParser.parseReader(reader).getAsJsonObject();
+    } catch (IOException | JsonParseException | IllegalStateException ex) {
+      throw new PerformanceTestException(
+          "Could not read scenario suite '%s': %s", path, ex.getMessage());
+    }
+
+    ExecutorType executorType = this.gson.fromJson(suite.get(EXECUTOR_TYPE_KEY), ExecutorType.class);
+    JsonArray scenarioDefinitions = suite.getAsJsonArray(SCENARIOS_KEY);
+    if (scenarioDefinitions == null) {
+      throw new PerformanceTestException("Scenario suite '%s' does not define any scenarios", path);
+    }
+
+    List<Scenario> scenarios = new ArrayList<>();
+    for (JsonElement scenarioDefinition : scenarioDefinitions) {
+      for (JsonObject expandedDefinition : this.expandSweep(scenarioDefinition.getAsJsonObject())) {
+        ScenarioDefinition definition =
+            this.gson.fromJson(expandedDefinition, ScenarioDefinition.class);
+        scenarios.add(this.createScenario(definition));
+      }
+    }
+
+    return new ScenarioSuite(executorType, scenarios);
+  }
+
+  /**
+   * Creates a scenario definition for every value of the sweep of the given definition.
+   *
+   * @param definition the scenario definition, optionally containing a sweep.
+   * @return the definition itself if it has no sweep, otherwise one definition per value.
+   */
+  private List<JsonObject> expandSweep(JsonObject definition) {
+    if (!definition.has(SWEEP_KEY)) {
+      return List.of(definition);
+    }
+
+    SweepDefinition sweep = this.gson.fromJson(definition.get(SWEEP_KEY), SweepDefinition.class);
+    if (sweep.variable() == null) {
+      throw new PerformanceTestException("Sweep of scenario does not define a variable");
+    }
+
+    JsonObject template = definition.deepCopy();
+    template.remove(SWEEP_KEY);
+    String placeholder = "${" + sweep.variable() + "}";
+
+    return this.createSweepValues(sweep).stream()
+        .map(value -> this.replacePlaceholder(template, placeholder, value).getAsJsonObject())
+        .toList();
+  }
+
+  private List<Long> createSweepValues(SweepDefinition sweep) {
+    if (sweep.values() != null) {
+      return sweep.values();
+    }
+    if (sweep.from() == null || sweep.to() == null || sweep.steps() == null || sweep.steps() < 1) {
+      throw new PerformanceTestException(
+          "Sweep of variable '%s' must define values or from, to and steps", sweep.variable());
+    }
+    if (sweep.steps() == 1) {
+      return List.of(sweep.from());
+    }
+
+    boolean logarithmic = sweep.scale() == SweepScale.LOGARITHMIC;
+    if (logarithmic && (sweep.from() <= 0 || sweep.to() <= 0)) {
+      throw new PerformanceTestException(
+          "Logarithmic sweep of variable '%s' requires positive values", sweep.variable());
+    }
+
+    List<Long> values = new ArrayList<>();
+    for (int i = 0; i < sweep.steps(); i++) {
+      double fraction = (double) i / (sweep.steps() - 1);
+      double value =
+          logarithmic
+              ? sweep.from() * Math.pow((double) sweep.to() / sweep.from(), fraction)
+              : sweep.from() + (sweep.to() - sweep.from()) * fraction;
+      values.add(Math.round(value));
+    }
+    return values;
+  }
+
+  /**
+   * Copies a JSON element and replaces every occurrence of a placeholder. A string that only
+   * consists of the placeholder is replaced by a number, otherwise the placeholder is replaced
+   * within the string.
+   */
+  private JsonElement replacePlaceholder(JsonElement element, String placeholder, long value) {
+    if (element.isJsonObject()) {
+      JsonObject copy = new JsonObject();
+      for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+        copy.add(entry.getKey(), this.replacePlaceholder(entry.getValue(), placeholder, value));
+      }
+      return copy;
+    }
+
+    if (element.isJsonArray()) {
+      JsonArray copy = new JsonArray();
+      for (JsonElement item : element.getAsJsonArray()) {
+        copy.add(this.replacePlaceholder(item, placeholder, value));
+      }
+      return copy;
+    }
+
+    if (element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()) {
+      String text = element.getAsString();
+      if (text.equals(placeholder)) {
+        return new JsonPrimitive(value);
+      }
+      return new JsonPrimitive(text.replace(placeholder, String.valueOf(value)));
+    }
+
+    return element;
+  }
+
+  /**
+   * Creates a scenario from its definition.
+   *
+   * @param definition the definition of the scenario.
+   * @return the created scenario.
+   * @throws PerformanceTestException if a required parameter of the scenario is missing.
+   */
+  private Scenario createScenario(ScenarioDefinition definition) {
+    try {
+      return switch (definition.kind()) {
+        case SYNCHRONOUS -> SynchronousTestScenario.builder()
+            .request(this.createRequest(definition.request()))
+            .requestCount(definition.requestCount())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .build();
+        case LOAD -> LoadTestScenario.builder()
+            .request(this.createRequest(definition.request()))
+            .requestsPerSecond(definition.requestsPerSecond())
+            .durationSeconds(definition.durationSeconds())
+            .openLoop(definition.openLoop())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .executorType(definition.executorType())
+            .build();
+        case STRESS -> StressTestScenario.builder()
+            .request(this.createRequest(definition.request()))
+            .concurrentUsers(definition.concurrentUsers())
+            .durationSeconds(definition.durationSeconds())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .executorType(definition.executorType())
+            .build();
+        case THROUGHPUT_SEARCH -> ThroughputSearchScenario.builder()
+            .request(this.createRequest(definition.request()))
+            .minRequestsPerSecond(definition.minRequestsPerSecond())
+            .maxRequestsPerSecond(definition.maxRequestsPerSecond())
+            .resolutionRequestsPerSecond(definition.resolutionRequestsPerSecond())
+            .stepDurationSeconds(definition.stepDurationSeconds())
+            .percentile(definition.percentile())
+            .maxLatencyMs(definition.maxLatencyMs())
+            .maxErrorRate(definition.maxErrorRate())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .executorType(definition.executorType())
+            .build();
+        case MIXED -> MixedWorkloadScenario.builder()
+            .requests(this.createWeightedRequests(definition.requests()))
+            .requestsPerSecond(definition.requestsPerSecond())
+            .concurrentUsers(definition.concurrentUsers())
+            .durationSeconds(definition.durationSeconds())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .executorType(definition.executorType())
+            .build();
+        case STREAMING -> StreamingTestScenario.builder()
+            .request(this.createRequest(definition.request()))
+            .requestCount(definition.requestCount())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .build();
+        case INGEST -> IngestTestScenario.builder()
+            .request(this.createIngestRequest(definition.request()))
+            .itemCount(definition.itemCount())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .build();
+        case COMPRESSION -> CompressionTestScenario.builder()
+            .request(this.createCompressibleRequest(definition.request()))
+            .compression(definition.compression())
+            .requestCount(definition.requestCount())
+            .description(definition.description())
+            .outputFileName(definition.outputFileName())
+            .requiredServices(definition.requiredServices())
+            .recordRawSamples(definition.recordRawSamples())
+            .warmupRequestCount(definition.warmupRequestCount())
+            .build();
+      };
+    } catch (NullPointerException | IllegalArgumentException ex) {
+      throw new PerformanceTestException(
+          "Invalid definition of scenario '%s': %s", definition.description(), ex.getMessage());
+    }
+  }
+
+  private List<WeightedRequest> createWeightedRequests(List<RequestDefinition> definitions) {
+    if (definitions == null) {
+      throw new IllegalArgumentException("requests are missing");
+    }
+
+    List<WeightedRequest> weightedRequests = new ArrayList<>();
+    for (RequestDefinition definition : definitions) {
+      if (definition.weight() == null) {
+        throw new IllegalArgumentException("weight is missing for request " + definition.type());
+      }
+      weightedRequests.add(
+          WeightedRequest.of(this.createRequest(definition), definition.weight()));
+    }
+    return weightedRequests;
+  }
+
+  private Request createRequest(RequestDefinition definition) {
+    if (definition == null || definition.type() == null) {
+      throw new IllegalArgumentException("request type is missing");
+    }
+
+    return switch (definition.type()) {
+      case ALL_ORDERS -> new RequestAllOrders();
+      case ALL_PRODUCTS -> new RequestAllProducts();
+      case ALL_USERS -> new RequestAllUsers();
+      case CREATE_ORDERS -> new RequestCreateOrders(this.requireBatchSize(definition));
+      case ORDER_PAGES -> new RequestOrderPages(this.requireBatchSize(definition));
+      case ORDER_STREAM -> new RequestOrderStream(this.requireBatchSize(definition));
+      case PRODUCT_PAGES -> new RequestProductPages(this.requireBatchSize(definition));
+      case PRODUCT_STREAM -> new RequestProductStream(this.requireBatchSize(definition));
+      case RANDOM_BYTES -> new RequestRandomBytes(this.requireByteCount(definition));
+      case RANDOM_BYTES_STREAM -> new RequestRandomBytesStream(
+          this.requireByteCount(definition), this.requireChunkSize(definition));
+      case RANDOM_DATA -> new RequestRandomData(this.requireByteCount(definition));
+      case RECOMMENDED_PRODUCTS -> new RequestRecommendedProducts();
+      case UPLOAD_BYTES -> new RequestUploadBytes(this.requireByteCount(definition));
+      case UPLOAD_BYTE_STREAM -> new RequestUploadByteStream(
+          this.requireByteCount(definition), this.requireChunkSize(definition));
+    };
+  }
+
+  private IngestRequest createIngestRequest(RequestDefinition definition) {
+    if (!(this.createRequest(definition) instanceof IngestRequest ingestRequest)) {
+      throw new IllegalArgumentException(
+          "request " + definition.type() + " cannot be used by an ingest scenario");
+    }
+    return ingestRequest;
+  }
+
+  private CompressibleRequest createCompressibleRequest(RequestDefinition definition) {
+    if (!(this.createRequest(definition) instanceof CompressibleRequest compressibleRequest)) {
+      throw new IllegalArgumentException(
+          "request " + definition.type() + " cannot be used by a compression scenario");
+    }
+    return compressibleRequest;
+  }
+
+  private int requireByteCount(RequestDefinition definition) {
+    if (definition.byteCount() == null) {
+      throw new IllegalArgumentException("byteCount is missing for request " + definition.type());
+    }
+    return definition.byteCount();
+  }
+
+  private int requireBatchSize(RequestDefinition definition) {
+    if (definition.batchSize() == null) {
+      throw new IllegalArgumentException("batchSize is missing for request " + definition.type());
+    }
+    return definition.batchSize();
+  }
+
+  private int requireChunkSize(RequestDefinition definition) {
+    if (definition.chunkSize() == null) {
+      throw new IllegalArgumentException("chunkSize is missing for request " + definition.type());
+    }
+    return definition.chunkSize();
+  }
+}
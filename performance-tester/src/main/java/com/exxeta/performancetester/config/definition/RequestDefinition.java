@@ -0,0 +1,16 @@
+package com.exxeta.performancetester.config.definition;
+
+/**
+ * Definition of the request that a scenario executes.
+ *
+ * @param type the kind of request.
+ * @param byteCount the amount of requested or uploaded bytes, only used by the random data and
+ *     upload requests.
+ * @param weight the relative frequency of the request, only used by mixed workloads.
+ * @param batchSize the amount of items per batch or page, only used by streamed, paged and ingest
+ *     requests.
+ * @param chunkSize the amount of bytes per chunk, only used by {@link
+ *     RequestType#RANDOM_BYTES_STREAM} and {@link RequestType#UPLOAD_BYTE_STREAM}.
+ */
+public record RequestDefinition(
+    RequestType type, Integer byteCount, Integer weight, Integer batchSize, Integer chunkSize) {}
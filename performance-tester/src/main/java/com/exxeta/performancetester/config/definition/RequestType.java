@@ -0,0 +1,19 @@
+package com.exxeta.performancetester.config.definition;
+
+/** The kinds of requests that can be defined in a scenario suite file. */
+public enum RequestType {
+  ALL_ORDERS,
+  ALL_PRODUCTS,
+  ALL_USERS,
+  CREATE_ORDERS,
+  ORDER_PAGES,
+  ORDER_STREAM,
+  PRODUCT_PAGES,
+  PRODUCT_STREAM,
+  RANDOM_BYTES,
+  RANDOM_BYTES_STREAM,
+  RANDOM_DATA,
+  RECOMMENDED_PRODUCTS,
+  UPLOAD_BYTES,
+  UPLOAD_BYTE_STREAM
+}
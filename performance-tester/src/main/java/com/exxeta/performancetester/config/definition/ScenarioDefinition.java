@@ -0,0 +1,62 @@
+package com.exxeta.performancetester.config.definition;
+
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.PayloadCompression;
+import java.util.List;
+
+/**
+ * Definition of a single scenario in a scenario suite file. Only the parameters of the given kind
+ * of scenario have to be set.
+ *
+ * @param kind the kind of scenario.
+ * @param description the description of the scenario.
+ * @param outputFileName the name of the JSON file the result is written to.
+ * @param request the request that the scenario executes.
+ * @param requests the weighted requests of a mixed workload.
+ * @param requiredServices the microservices that have to be started for the scenario.
+ * @param warmupRequestCount the amount of requests before the benchmark starts.
+ * @param recordRawSamples true if every single request duration should be written to the result.
+ * @param executorType the type of threads that execute concurrent requests.
+ * @param requestCount the amount of requests of a synchronous scenario.
+ * @param durationSeconds the duration of a load or stress scenario.
+ * @param requestsPerSecond the request rate of a load scenario or an open-loop mixed workload.
+ * @param openLoop true if a load scenario measures from the intended start of every request.
+ * @param concurrentUsers the amount of concurrent requests of a stress scenario or a closed-loop
+ *     mixed workload.
+ * @param minRequestsPerSecond the lowest request rate of a throughput search.
+ * @param maxRequestsPerSecond the highest request rate of a throughput search.
+ * @param resolutionRequestsPerSecond the precision of a throughput search.
+ * @param stepDurationSeconds the duration of every tested rate of a throughput search.
+ * @param percentile the latency percentile of a throughput search.
+ * @param maxLatencyMs the latency limit at the percentile of a throughput search.
+ * @param maxErrorRate the error rate limit of a throughput search.
+ * @param itemCount the amount of items that an ingest scenario ingests.
+ * @param compression the compression of the responses of a compression scenario.
+ * @param sweep the parameter sweep that creates multiple scenarios from this definition.
+ */
+public record ScenarioDefinition(
+    ScenarioKind kind,
+    String description,
+    String outputFileName,
+    RequestDefinition request,
+    List<RequestDefinition> requests,
+    List<Microservice> requiredServices,
+    Integer warmupRequestCount,
+    boolean recordRawSamples,
+    ExecutorType executorType,
+    Integer requestCount,
+    Integer durationSeconds,
+    Integer requestsPerSecond,
+    boolean openLoop,
+    Integer concurrentUsers,
+    Integer minRequestsPerSecond,
+    Integer maxRequestsPerSecond,
+    Integer resolutionRequestsPerSecond,
+    Integer stepDurationSeconds,
+    Double percentile,
+    Long maxLatencyMs,
+    Double maxErrorRate,
+    Integer itemCount,
+    PayloadCompression compression,
+    SweepDefinition sweep) {}
@@ -0,0 +1,13 @@
+package com.exxeta.performancetester.config.definition;
+
+/** The kinds of scenarios that can be defined in a scenario suite file. */
+public enum ScenarioKind {
+  SYNCHRONOUS,
+  LOAD,
+  STRESS,
+  THROUGHPUT_SEARCH,
+  MIXED,
+  STREAMING,
+  INGEST,
+  COMPRESSION
+}
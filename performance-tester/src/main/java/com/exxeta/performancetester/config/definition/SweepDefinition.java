@@ -0,0 +1,23 @@
+package com.exxeta.performancetester.config.definition;
+
+import java.util.List;
+
+/**
+ * Definition of a parameter sweep. The scenario is created once for every value of the sweep, and
+ * every occurrence of {@code ${variable}} in the scenario definition is replaced by the value.
+ * Either the values are listed explicitly, or they are generated from a range.
+ *
+ * @param variable the name of the placeholder.
+ * @param values the explicit values of the sweep.
+ * @param from the first value of the generated range.
+ * @param to the last value of the generated range.
+ * @param steps the amount of values in the generated range, including the first and the last one.
+ * @param scale how the values of the generated range are distributed, linear by default.
+ */
+public record SweepDefinition(
+    String variable,
+    List<Long> values,
+    Long from,
+    Long to,
+    Integer steps,
+    SweepScale scale) {}
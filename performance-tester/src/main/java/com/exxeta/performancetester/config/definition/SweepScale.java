@@ -0,0 +1,9 @@
+package com.exxeta.performancetester.config.definition;
+
+/** How the values of a sweep are distributed between its lowest and its highest value. */
+public enum SweepScale {
+  /** The values have the same distance to each other, e.g. 10, 20, 30. */
+  LINEAR,
+  /** The values have the same ratio to each other, e.g. 10, 100, 1000. */
+  LOGARITHMIC
+}
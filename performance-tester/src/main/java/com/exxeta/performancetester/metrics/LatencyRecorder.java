@@ -0,0 +1,122 @@
+package com.exxeta.performancetester.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Records request durations into one {@link Histogram} per recording thread. Recording a value does
+ * not allocate, so the recorder does not cause GC pauses that would distort the measured latencies.
+ * The per-thread histograms are merged once all requests have completed.
+ *
+ * <p>If every request runs on its own short-lived thread (e.g. virtual threads), a histogram per
+ * thread would be allocated for each request. In that case all threads record into a single shared
+ * {@link ConcurrentHistogram} instead.
+ */
+public class LatencyRecorder {
+  private static final long LOWEST_DISCERNIBLE_VALUE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long INITIAL_HIGHEST_TRACKABLE_VALUE_NANOS = TimeUnit.SECONDS.toNanos(10);
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+  private final Queue<Histogram> threadHistograms = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Histogram> threadHistogram =
+      ThreadLocal.withInitial(this::createThreadHistogram);
+
+  private final Histogram sharedHistogram;
+  private final Queue<Long> rawSamples;
+
+  /**
+   * Creates a new latency recorder with one histogram per recording thread.
+   *
+   * @param recordRawSamples true if every single duration should additionally be kept as a raw
+   *     sample, false if only the histogram should be recorded.
+   */
+  public LatencyRecorder(boolean recordRawSamples) {
+    this(recordRawSamples, true);
+  }
+
+  /**
+   * Creates a new latency recorder.
+   *
+   * @param recordRawSamples true if every single duration should additionally be kept as a raw
+   *     sample, false if only the histogram should be recorded.
+   * @param perThreadHistograms true if every recording thread should record into its own
+   *     histogram, false if all threads should record into a single shared histogram.
+   */
+  public LatencyRecorder(boolean recordRawSamples, boolean perThreadHistograms) {
+    this.sharedHistogram = perThreadHistograms ? null : this.createSharedHistogram();
+    this.rawSamples = recordRawSamples ? new ConcurrentLinkedQueue<>() : null;
+  }
+
+  /**
+   * Records the duration of a single request into the histogram of the calling thread.
+   *
+   * @param durationNanos the request duration in nanoseconds.
+   */
+  public void recordNanos(long durationNanos) {
+    Histogram histogram =
+        this.sharedHistogram != null ? this.sharedHistogram : this.threadHistogram.get();
+    histogram.recordValue(Math.max(durationNanos, 0));
+
+    if (this.rawSamples != null) {
+      this.rawSamples.add(durationNanos);
+    }
+  }
+
+  /**
+   * Merges the histograms of all recording threads. Must only be called after all recording
+   * threads have finished.
+   *
+   * @return a histogram containing all recorded durations.
+   */
+  public Histogram merge() {
+    Histogram merged = this.createHistogram();
+    if (this.sharedHistogram != null) {
+      merged.add(this.sharedHistogram);
+    }
+    for (Histogram histogram : this.threadHistograms) {
+      merged.add(histogram);
+    }
+
+    return merged;
+  }
+
+  /**
+   * Returns the raw samples if they have been recorded.
+   *
+   * @return all recorded durations in nanoseconds, or null if raw samples are not recorded.
+   */
+  public Collection<Long> getRawSamples() {
+    return this.rawSamples == null ? null : List.copyOf(this.rawSamples);
+  }
+
+  private Histogram createThreadHistogram() {
+    Histogram histogram = this.createHistogram();
+    this.threadHistograms.add(histogram);
+    return histogram;
+  }
+
+  private Histogram createSharedHistogram() {
+    ConcurrentHistogram histogram =
+        new ConcurrentHistogram(
+            LOWEST_DISCERNIBLE_VALUE_NANOS,
+            INITIAL_HIGHEST_TRACKABLE_VALUE_NANOS,
+            SIGNIFICANT_VALUE_DIGITS);
+    histogram.setAutoResize(true);
+    return histogram;
+  }
+
+  private Histogram createHistogram() {
+    Histogram histogram =
+        new Histogram(
+            LOWEST_DISCERNIBLE_VALUE_NANOS,
+            INITIAL_HIGHEST_TRACKABLE_VALUE_NANOS,
+            SIGNIFICANT_VALUE_DIGITS);
+    histogram.setAutoResize(true);
+    return histogram;
+  }
+}
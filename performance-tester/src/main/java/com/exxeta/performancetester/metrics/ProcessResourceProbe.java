@@ -0,0 +1,168 @@
+package com.exxeta.performancetester.metrics;
+
+import com.exxeta.performancetester.model.ResourceSample;
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.tools.attach.VirtualMachine;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the resource usage of a single microservice process. The JVM metrics are read via JMX by
+ * attaching to the process, the memory of the process is read from {@code /proc/<pid>/status}. If
+ * the process cannot be attached to, only the values that are available from outside the JVM are
+ * sampled.
+ */
+class ProcessResourceProbe implements AutoCloseable {
+  private static final Logger logger = LoggerFactory.getLogger(ProcessResourceProbe.class);
+
+  private static final String GARBAGE_COLLECTORS_PATTERN =
+      ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*";
+
+  private final Process process;
+  private final Path procStatusPath;
+
+  private JMXConnector jmxConnector;
+  private OperatingSystemMXBean operatingSystemBean;
+  private MemoryMXBean memoryBean;
+  private ThreadMXBean threadBean;
+  private final List<GarbageCollectorMXBean> garbageCollectorBeans = new ArrayList<>();
+
+  ProcessResourceProbe(String service, Process process) {
+    this.process = process;
+    this.procStatusPath = Path.of("/proc", String.valueOf(process.pid()), "status");
+
+    try {
+      this.connect();
+    } catch (Exception ex) {
+      logger.warn(
+          "Could not attach to '{}', JVM metrics will not be sampled: {}",
+          service,
+          ex.getMessage());
+      this.close();
+    }
+  }
+
+  /**
+   * Reads the current resource usage of the process.
+   *
+   * @param elapsedMs the time since the start of the benchmark in milliseconds.
+   * @return the current resource usage.
+   */
+  ResourceSample sample(long elapsedMs) {
+    Long cpuTimeMs = null;
+    Long heapUsedBytes = null;
+    Long gcCount = null;
+    Long gcTimeMs = null;
+    Integer threadCount = null;
+
+    if (this.jmxConnector != null) {
+      try {
+        cpuTimeMs = Duration.ofNanos(this.operatingSystemBean.getProcessCpuTime()).toMillis();
+        heapUsedBytes = this.memoryBean.getHeapMemoryUsage().getUsed();
+        threadCount = this.threadBean.getThreadCount();
+
+        gcCount = 0L;
+        gcTimeMs = 0L;
+        for (GarbageCollectorMXBean garbageCollectorBean : this.garbageCollectorBeans) {
+          gcCount += garbageCollectorBean.getCollectionCount();
+          gcTimeMs += garbageCollectorBean.getCollectionTime();
+        }
+      } catch (Exception ex) {
+        // the process has most likely exited, the remaining values are read from outside the JVM
+        heapUsedBytes = null;
+        gcCount = null;
+        gcTimeMs = null;
+      }
+    }
+
+    if (cpuTimeMs == null) {
+      cpuTimeMs =
+          this.process.info().totalCpuDuration().map(Duration::toMillis).orElse(null);
+    }
+    if (threadCount == null) {
+      threadCount = this.readProcStatus("Threads:").map(Long::intValue).orElse(null);
+    }
+    // VmRSS is reported in kB
+    Long rssBytes = this.readProcStatus("VmRSS:").map(kiloBytes -> kiloBytes * 1024).orElse(null);
+
+    return new ResourceSample(
+        elapsedMs, cpuTimeMs, rssBytes, heapUsedBytes, gcCount, gcTimeMs, threadCount);
+  }
+
+  @Override
+  public void close() {
+    if (this.jmxConnector != null) {
+      try {
+        this.jmxConnector.close();
+      } catch (IOException ex) {
+        // the connection is not used anymore
+      }
+      this.jmxConnector = null;
+    }
+  }
+
+  private void connect() throws Exception {
+    VirtualMachine virtualMachine = VirtualMachine.attach(String.valueOf(this.process.pid()));
+    String jmxServiceUrl;
+    try {
+      jmxServiceUrl = virtualMachine.startLocalManagementAgent();
+    } finally {
+      virtualMachine.detach();
+    }
+
+    this.jmxConnector = JMXConnectorFactory.connect(new JMXServiceURL(jmxServiceUrl));
+    MBeanServerConnection connection = this.jmxConnector.getMBeanServerConnection();
+
+    this.operatingSystemBean =
+        ManagementFactory.newPlatformMXBeanProxy(
+            connection,
+            ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME,
+            OperatingSystemMXBean.class);
+    this.memoryBean =
+        ManagementFactory.newPlatformMXBeanProxy(
+            connection, ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+    this.threadBean =
+        ManagementFactory.newPlatformMXBeanProxy(
+            connection, ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+    for (ObjectName name :
+        connection.queryNames(new ObjectName(GARBAGE_COLLECTORS_PATTERN), null)) {
+      this.garbageCollectorBeans.add(
+          ManagementFactory.newPlatformMXBeanProxy(
+              connection, name.getCanonicalName(), GarbageCollectorMXBean.class));
+    }
+  }
+
+  /**
+   * Reads a numeric value from {@code /proc/<pid>/status}, which only exists on Linux.
+   *
+   * @param key the key of the line, e.g. {@code VmRSS:}.
+   * @return the first number of the line, or empty if it could not be read.
+   */
+  private Optional<Long> readProcStatus(String key) {
+    try {
+      return Files.readAllLines(this.procStatusPath).stream()
+          .filter(line -> line.startsWith(key))
+          .map(line -> line.substring(key.length()).trim().split("\\s+")[0])
+          .map(Long::parseLong)
+          .findFirst();
+    } catch (IOException | NumberFormatException ex) {
+      return Optional.empty();
+    }
+  }
+}
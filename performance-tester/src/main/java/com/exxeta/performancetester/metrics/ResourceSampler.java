@@ -0,0 +1,90 @@
+package com.exxeta.performancetester.metrics;
+
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.ResourceSample;
+import com.exxeta.performancetester.model.ServiceResourceUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the resource usage of all running microservices during a benchmark. The
+ * sampling runs on a single background thread, so it barely competes with the benchmark itself.
+ */
+public class ResourceSampler implements AutoCloseable {
+  private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500);
+
+  private final Map<String, ProcessResourceProbe> probes = new LinkedHashMap<>();
+  private final Map<String, List<ResourceSample>> samples = new LinkedHashMap<>();
+  private final ScheduledExecutorService scheduler;
+  private final long startNanos;
+
+  private ResourceSampler(Map<Microservice, Process> runningMicroservices) {
+    runningMicroservices.forEach(
+        (microservice, process) -> {
+          this.probes.put(
+              microservice.getName(), new ProcessResourceProbe(microservice.getName(), process));
+          this.samples.put(microservice.getName(), new ArrayList<>());
+        });
+
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "resource-sampler");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Starts sampling the resource usage of the given microservices.
+   *
+   * @param runningMicroservices the processes of all running microservices.
+   * @return the started {@link ResourceSampler}.
+   */
+  public static ResourceSampler start(Map<Microservice, Process> runningMicroservices) {
+    ResourceSampler resourceSampler = new ResourceSampler(runningMicroservices);
+    resourceSampler.scheduler.scheduleAtFixedRate(
+        resourceSampler::sampleAll, 0, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    return resourceSampler;
+  }
+
+  /**
+   * Stops sampling, takes a last sample and summarizes the resource usage of every microservice.
+   *
+   * @return the resource usage of every sampled microservice.
+   */
+  public List<ServiceResourceUsage> stop() {
+    this.scheduler.shutdown();
+    try {
+      this.scheduler.awaitTermination(SAMPLE_INTERVAL.toMillis() * 2, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    this.sampleAll();
+
+    synchronized (this) {
+      return this.samples.entrySet().stream()
+          .map(entry -> ServiceResourceUsage.of(entry.getKey(), List.copyOf(entry.getValue())))
+          .toList();
+    }
+  }
+
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+    this.probes.values().forEach(ProcessResourceProbe::close);
+  }
+
+  private synchronized void sampleAll() {
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos);
+    this.probes.forEach(
+        (service, probe) -> this.samples.get(service).add(probe.sample(elapsedMs)));
+  }
+}
@@ -0,0 +1,77 @@
+package com.exxeta.performancetester.metrics;
+
+import com.exxeta.performancetester.model.TimelineBucket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Records the request durations of a benchmark in buckets of one second, based on the time at which
+ * a request completed. The buckets show whether the throughput and latency stayed stable over the
+ * whole benchmark.
+ */
+public class TimelineRecorder {
+  private static final long LOWEST_DISCERNIBLE_VALUE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long INITIAL_HIGHEST_TRACKABLE_VALUE_NANOS = TimeUnit.SECONDS.toNanos(10);
+  // a lower precision than the overall histogram keeps the memory per bucket small
+  private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+  private final ConcurrentMap<Integer, Histogram> buckets = new ConcurrentHashMap<>();
+  private final long startNanos;
+
+  /**
+   * Creates a new timeline recorder whose first bucket starts at the given time.
+   *
+   * @param startNanos the start of the benchmark as returned by {@link System#nanoTime()}.
+   */
+  public TimelineRecorder(long startNanos) {
+    this.startNanos = startNanos;
+  }
+
+  /**
+   * Records the duration of a request that completed at the given time.
+   *
+   * @param completionNanos the time the request completed as returned by {@link System#nanoTime()}.
+   * @param durationNanos the request duration in nanoseconds.
+   */
+  public void record(long completionNanos, long durationNanos) {
+    int second = (int) TimeUnit.NANOSECONDS.toSeconds(completionNanos - this.startNanos);
+    this.buckets
+        .computeIfAbsent(second, key -> this.createHistogram())
+        .recordValue(Math.max(durationNanos, 0));
+  }
+
+  /**
+   * Returns all recorded buckets ordered by their second. Must only be called after all recording
+   * threads have finished.
+   *
+   * @return the recorded buckets.
+   */
+  public List<TimelineBucket> getBuckets() {
+    return this.buckets.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(
+            entry ->
+                new TimelineBucket(
+                    entry.getKey(),
+                    entry.getValue().getTotalCount(),
+                    entry.getValue().getValueAtPercentile(50.0),
+                    entry.getValue().getValueAtPercentile(99.0),
+                    entry.getValue().getMaxValue()))
+        .toList();
+  }
+
+  private Histogram createHistogram() {
+    ConcurrentHistogram histogram =
+        new ConcurrentHistogram(
+            LOWEST_DISCERNIBLE_VALUE_NANOS,
+            INITIAL_HIGHEST_TRACKABLE_VALUE_NANOS,
+            SIGNIFICANT_VALUE_DIGITS);
+    histogram.setAutoResize(true);
+    return histogram;
+  }
+}
@@ -0,0 +1,38 @@
+package com.exxeta.performancetester.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the sizes of the received response payloads, once as they were transferred and once
+ * after they were decompressed. Only the payloads are counted, without headers and framing.
+ */
+public class WireSizeRecorder {
+  private final LongAdder wireBytes = new LongAdder();
+  private final LongAdder uncompressedBytes = new LongAdder();
+
+  /**
+   * Records the transferred size of received payload bytes.
+   *
+   * @param bytes the amount of bytes as they were transferred.
+   */
+  public void recordWireBytes(long bytes) {
+    this.wireBytes.add(bytes);
+  }
+
+  /**
+   * Records the decompressed size of received payload bytes.
+   *
+   * @param bytes the amount of bytes after they were decompressed.
+   */
+  public void recordUncompressedBytes(long bytes) {
+    this.uncompressedBytes.add(bytes);
+  }
+
+  public long getWireBytes() {
+    return this.wireBytes.sum();
+  }
+
+  public long getUncompressedBytes() {
+    return this.uncompressedBytes.sum();
+  }
+}
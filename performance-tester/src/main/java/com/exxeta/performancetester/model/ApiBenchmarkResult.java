@@ -1,6 +1,107 @@
 package com.exxeta.performancetester.model;
 
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import lombok.Builder;
+import lombok.With;
+import org.HdrHistogram.Histogram;
 
+/**
+ * Result of the benchmark of a single API type.
+ *
+ * @param requestCount the amount of successfully executed requests.
+ * @param totalDurationMs the duration of the whole benchmark in milliseconds.
+ * @param requestDurationPercentilesNanos percentiles of the request durations.
+ * @param encodedHistogram the compressed and base64 encoded HdrHistogram of all request durations.
+ * @param requestDurationNanos every single request duration, only set if raw samples are recorded.
+ * @param lateRequestCount the amount of requests that were sent later than intended, only set by
+ *     open-loop scenarios.
+ * @param timeline throughput and request durations per second, only set by scenarios that record
+ *     a timeline.
+ * @param serverResources the resource usage of every microservice during the benchmark.
+ * @param throughputSearch the steps and the result of a throughput search, only set by the
+ *     throughput search scenario.
+ * @param requestTypes the results of every request type, only set by the mixed workload scenario.
+ * @param streaming the durations until the first item was received, only set by the streaming
+ *     scenario.
+ * @param ingest the amount of ingested items, only set by the ingest scenario.
+ * @param compression the compression and the size of the responses, only set by the compression
+ *     scenario.
+ */
+@Builder
+@With
 public record ApiBenchmarkResult(
-    int requestCount, long totalDurationMs, Collection<Long> requestDurationNanos) {}
+    long requestCount,
+    long totalDurationMs,
+    LatencyPercentiles requestDurationPercentilesNanos,
+    String encodedHistogram,
+    Collection<Long> requestDurationNanos,
+    Long lateRequestCount,
+    List<TimelineBucket> timeline,
+    List<ServiceResourceUsage> serverResources,
+    ThroughputSearchResult throughputSearch,
+    List<RequestTypeResult> requestTypes,
+    StreamingResult streaming,
+    IngestResult ingest,
+    CompressionResult compression) {
+
+  /**
+   * Creates the benchmark result from all request durations of a {@link LatencyRecorder}.
+   *
+   * @param totalDurationMs the duration of the whole benchmark in milliseconds.
+   * @param latencyRecorder the recorder containing all request durations.
+   * @return the created {@link ApiBenchmarkResult}.
+   */
+  public static ApiBenchmarkResult of(long totalDurationMs, LatencyRecorder latencyRecorder) {
+    return of(totalDurationMs, latencyRecorder, null);
+  }
+
+  /**
+   * Creates the benchmark result of an open-loop scenario from all request durations of a {@link
+   * LatencyRecorder}.
+   *
+   * @param totalDurationMs the duration of the whole benchmark in milliseconds.
+   * @param latencyRecorder the recorder containing all request durations.
+   * @param lateRequestCount the amount of requests that were sent later than intended.
+   * @return the created {@link ApiBenchmarkResult}.
+   */
+  public static ApiBenchmarkResult of(
+      long totalDurationMs, LatencyRecorder latencyRecorder, Long lateRequestCount) {
+    Histogram histogram = latencyRecorder.merge();
+
+    return ApiBenchmarkResult.builder()
+        .requestCount(histogram.getTotalCount())
+        .totalDurationMs(totalDurationMs)
+        .requestDurationPercentilesNanos(LatencyPercentiles.fromHistogram(histogram))
+        .encodedHistogram(encodeHistogram(histogram))
+        .requestDurationNanos(latencyRecorder.getRawSamples())
+        .lateRequestCount(lateRequestCount)
+        .build();
+  }
+
+  /**
+   * Decodes the HdrHistogram of all request durations.
+   *
+   * @return the histogram of all request durations.
+   * @throws IllegalStateException if the encoded histogram is invalid.
+   */
+  public Histogram decodeHistogram() {
+    try {
+      return Histogram.decodeFromCompressedByteBuffer(
+          ByteBuffer.wrap(Base64.getDecoder().decode(this.encodedHistogram)), 0);
+    } catch (DataFormatException ex) {
+      throw new IllegalStateException("Invalid encoded histogram", ex);
+    }
+  }
+
+  static String encodeHistogram(Histogram histogram) {
+    ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+    int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+    return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+  }
+}
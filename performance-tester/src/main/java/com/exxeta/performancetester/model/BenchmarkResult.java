@@ -3,5 +3,6 @@ package com.exxeta.performancetester.model;
 public record BenchmarkResult(
     String description,
     int concurrentUsers,
+    ExecutorType executorType,
     ApiBenchmarkResult grpcApiBenchmark,
     ApiBenchmarkResult restApiBenchmark) {}
@@ -0,0 +1,27 @@
+package com.exxeta.performancetester.model;
+
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+
+/**
+ * Result of a compression scenario in addition to the request durations.
+ *
+ * @param compression the compression of the responses.
+ * @param wireBytes the amount of response bytes that were received on the wire.
+ * @param uncompressedBytes the amount of response bytes after the decompression.
+ */
+public record CompressionResult(
+    PayloadCompression compression, long wireBytes, long uncompressedBytes) {
+
+  /**
+   * Creates the compression result from the response sizes of a {@link WireSizeRecorder}.
+   *
+   * @param compression the compression of the responses.
+   * @param wireSizeRecorder the recorder containing the response sizes.
+   * @return the created {@link CompressionResult}.
+   */
+  public static CompressionResult of(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    return new CompressionResult(
+        compression, wireSizeRecorder.getWireBytes(), wireSizeRecorder.getUncompressedBytes());
+  }
+}
@@ -0,0 +1,14 @@
+package com.exxeta.performancetester.model;
+
+/** The type of threads that execute the requests of a concurrent scenario. */
+public enum ExecutorType {
+  /** Requests are executed by a pool of platform threads. */
+  PLATFORM,
+  /** Every request is executed by its own virtual thread. Requires Java 21 or newer. */
+  VIRTUAL,
+  /**
+   * Requests are sent without blocking and their responses are handled by the threads of the
+   * clients. Only supported for an {@link com.exxeta.performancetester.requests.AsyncRequest}.
+   */
+  ASYNC
+}
@@ -0,0 +1,9 @@
+package com.exxeta.performancetester.model;
+
+/**
+ * Result of an ingest scenario in addition to the request durations.
+ *
+ * @param batchSize the amount of items that every request ingested.
+ * @param ingestedItemCount the amount of items that all requests ingested.
+ */
+public record IngestResult(int batchSize, long ingestedItemCount) {}
@@ -0,0 +1,22 @@
+package com.exxeta.performancetester.model;
+
+import org.HdrHistogram.Histogram;
+
+/** Percentiles of the request durations of a benchmark in nanoseconds. */
+public record LatencyPercentiles(long p50, long p90, long p99, long p999, long max) {
+
+  /**
+   * Reads the percentiles from a histogram containing request durations in nanoseconds.
+   *
+   * @param histogram the histogram with all recorded request durations.
+   * @return the percentiles of the recorded request durations.
+   */
+  public static LatencyPercentiles fromHistogram(Histogram histogram) {
+    return new LatencyPercentiles(
+        histogram.getValueAtPercentile(50.0),
+        histogram.getValueAtPercentile(90.0),
+        histogram.getValueAtPercentile(99.0),
+        histogram.getValueAtPercentile(99.9),
+        histogram.getMaxValue());
+  }
+}
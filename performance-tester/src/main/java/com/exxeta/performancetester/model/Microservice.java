@@ -3,17 +3,28 @@ package com.exxeta.performancetester.model;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-/** Contains the paths to the jar of the microservices that have to be started for the tests. */
+/**
+ * Contains the paths to the jar and the ports of the microservices that have to be started for the
+ * tests.
+ */
 @RequiredArgsConstructor
 @Getter
 public enum Microservice {
   RANDOM_DATA_SERVICE(
-      "Random-Data-Service", "random-data-service/target/random-data-service-1.0.0.jar"),
-  USER_SERVICE("User-Service", "user-service/target/user-service-1.0.0.jar"),
-  SHOP_SERVICE("Shop-Service", "shop-service/target/shop-service-1.0.0.jar"),
+      "Random-Data-Service",
+      "random-data-service/target/random-data-service-1.0.0.jar",
+      8086,
+      8087),
+  USER_SERVICE("User-Service", "user-service/target/user-service-1.0.0.jar", 8080, 8081),
+  SHOP_SERVICE("Shop-Service", "shop-service/target/shop-service-1.0.0.jar", 8082, 8083),
   RECOMMENDATION_SERVICE(
-      "Recommendation-Service", "recommendation-service/target/recommendation-service-1.0.0.jar");
+      "Recommendation-Service",
+      "recommendation-service/target/recommendation-service-1.0.0.jar",
+      8084,
+      8085);
 
   private final String name;
   private final String jarPath;
+  private final int restPort;
+  private final int grpcPort;
 }
@@ -0,0 +1,33 @@
+package com.exxeta.performancetester.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The compression of the payloads of a request. Tomcat only supports gzip, so a REST request is
+ * only compressed with gzip, while a gRPC request can also be compressed with Snappy.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum PayloadCompression {
+  /** The payloads are not compressed. */
+  NONE("identity", null),
+  /** The payloads of both APIs are compressed with gzip. */
+  GZIP("gzip", "gzip"),
+  /** The gRPC payloads are compressed with Snappy, REST payloads are not compressed. */
+  SNAPPY("snappy", null);
+
+  // the gRPC message encoding
+  private final String grpcEncoding;
+  // the HTTP content encoding, or null if REST payloads are not compressed
+  private final String httpEncoding;
+
+  /**
+   * Returns the compression that is actually used by a REST request with this compression.
+   *
+   * @return this compression if REST payloads can be compressed with it, otherwise {@link #NONE}.
+   */
+  public PayloadCompression getRestCompression() {
+    return this.httpEncoding != null ? this : NONE;
+  }
+}
@@ -0,0 +1,42 @@
+package com.exxeta.performancetester.model;
+
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a single request type within a mixed workload.
+ *
+ * @param requestType the name of the request type.
+ * @param weight the relative frequency of the request type within the workload.
+ * @param requestCount the amount of successfully executed requests of this type.
+ * @param requestDurationPercentilesNanos percentiles of the request durations of this type.
+ * @param encodedHistogram the compressed and base64 encoded HdrHistogram of all request durations
+ *     of this type.
+ */
+public record RequestTypeResult(
+    String requestType,
+    int weight,
+    long requestCount,
+    LatencyPercentiles requestDurationPercentilesNanos,
+    String encodedHistogram) {
+
+  /**
+   * Creates the result of a request type from all request durations of a {@link LatencyRecorder}.
+   *
+   * @param requestType the name of the request type.
+   * @param weight the relative frequency of the request type within the workload.
+   * @param latencyRecorder the recorder containing all request durations of this type.
+   * @return the created {@link RequestTypeResult}.
+   */
+  public static RequestTypeResult of(
+      String requestType, int weight, LatencyRecorder latencyRecorder) {
+    Histogram histogram = latencyRecorder.merge();
+
+    return new RequestTypeResult(
+        requestType,
+        weight,
+        histogram.getTotalCount(),
+        LatencyPercentiles.fromHistogram(histogram),
+        ApiBenchmarkResult.encodeHistogram(histogram));
+  }
+}
@@ -0,0 +1,23 @@
+package com.exxeta.performancetester.model;
+
+/**
+ * Resource usage of a microservice at a single point in time. Values that could not be read are
+ * null.
+ *
+ * @param elapsedMs the time since the start of the benchmark in milliseconds.
+ * @param cpuTimeMs the CPU time consumed by the process since its start in milliseconds.
+ * @param rssBytes the resident set size of the process in bytes.
+ * @param heapUsedBytes the used heap memory of the JVM in bytes.
+ * @param gcCount the total amount of garbage collections since the start of the JVM.
+ * @param gcTimeMs the accumulated garbage collection time since the start of the JVM in
+ *     milliseconds.
+ * @param threadCount the amount of live threads.
+ */
+public record ResourceSample(
+    long elapsedMs,
+    Long cpuTimeMs,
+    Long rssBytes,
+    Long heapUsedBytes,
+    Long gcCount,
+    Long gcTimeMs,
+    Integer threadCount) {}
@@ -0,0 +1,69 @@
+package com.exxeta.performancetester.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resource usage of a single microservice during a benchmark, including the warm-up requests.
+ * Values that could not be read are null.
+ *
+ * @param service the name of the microservice.
+ * @param cpuTimeMs the CPU time consumed during the benchmark in milliseconds.
+ * @param gcCount the amount of garbage collections during the benchmark.
+ * @param gcTimeMs the garbage collection time during the benchmark in milliseconds.
+ * @param maxRssBytes the highest sampled resident set size in bytes.
+ * @param maxHeapUsedBytes the highest sampled used heap memory in bytes.
+ * @param maxThreadCount the highest sampled amount of live threads.
+ * @param samples all samples taken during the benchmark.
+ */
+public record ServiceResourceUsage(
+    String service,
+    Long cpuTimeMs,
+    Long gcCount,
+    Long gcTimeMs,
+    Long maxRssBytes,
+    Long maxHeapUsedBytes,
+    Long maxThreadCount,
+    List<ResourceSample> samples) {
+
+  /**
+   * Summarizes the samples of a microservice.
+   *
+   * @param service the name of the microservice.
+   * @param samples all samples in the order in which they were taken.
+   * @return the resource usage of the microservice.
+   */
+  public static ServiceResourceUsage of(String service, List<ResourceSample> samples) {
+    return new ServiceResourceUsage(
+        service,
+        difference(samples, ResourceSample::cpuTimeMs),
+        difference(samples, ResourceSample::gcCount),
+        difference(samples, ResourceSample::gcTimeMs),
+        maximum(samples, ResourceSample::rssBytes),
+        maximum(samples, ResourceSample::heapUsedBytes),
+        maximum(samples, ResourceSample::threadCount),
+        samples);
+  }
+
+  private static Long difference(
+      List<ResourceSample> samples, Function<ResourceSample, Long> value) {
+    if (samples.isEmpty()) {
+      return null;
+    }
+
+    Long first = value.apply(samples.get(0));
+    Long last = value.apply(samples.get(samples.size() - 1));
+    return first == null || last == null ? null : last - first;
+  }
+
+  private static Long maximum(
+      List<ResourceSample> samples, Function<ResourceSample, ? extends Number> value) {
+    return samples.stream()
+        .map(value)
+        .filter(Objects::nonNull)
+        .map(Number::longValue)
+        .max(Long::compare)
+        .orElse(null);
+  }
+}
@@ -0,0 +1,31 @@
+package com.exxeta.performancetester.model;
+
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a streaming scenario in addition to the request durations.
+ *
+ * @param firstItemDurationPercentilesNanos percentiles of the durations until the first item of
+ *     every response was received.
+ * @param encodedFirstItemHistogram the compressed and base64 encoded HdrHistogram of the durations
+ *     until the first item was received.
+ */
+public record StreamingResult(
+    LatencyPercentiles firstItemDurationPercentilesNanos, String encodedFirstItemHistogram) {
+
+  /**
+   * Creates the streaming result from the durations until the first item of a {@link
+   * LatencyRecorder}.
+   *
+   * @param firstItemRecorder the recorder containing the durations until the first item.
+   * @return the created {@link StreamingResult}.
+   */
+  public static StreamingResult of(LatencyRecorder firstItemRecorder) {
+    Histogram histogram = firstItemRecorder.merge();
+
+    return new StreamingResult(
+        LatencyPercentiles.fromHistogram(histogram),
+        ApiBenchmarkResult.encodeHistogram(histogram));
+  }
+}
@@ -0,0 +1,20 @@
+package com.exxeta.performancetester.model;
+
+import java.util.List;
+
+/**
+ * Result of a search for the highest request rate that an API can sustain.
+ *
+ * @param percentile the latency percentile that has to stay within the limit, e.g. 99.0.
+ * @param maxLatencyNanos the highest allowed request duration at the percentile in nanoseconds.
+ * @param maxErrorRate the highest allowed share of failed requests, between 0 and 1.
+ * @param maxSustainableRequestsPerSecond the highest tested request rate that stayed within the
+ *     limits, or 0 if not even the lowest request rate was sustainable.
+ * @param steps all tested request rates in the order in which they were tested.
+ */
+public record ThroughputSearchResult(
+    double percentile,
+    long maxLatencyNanos,
+    double maxErrorRate,
+    int maxSustainableRequestsPerSecond,
+    List<ThroughputSearchStep> steps) {}
@@ -0,0 +1,12 @@
+package com.exxeta.performancetester.model;
+
+/**
+ * A single request rate that has been tested during a throughput search.
+ *
+ * @param requestsPerSecond the tested request rate.
+ * @param percentileLatencyNanos the request duration at the configured percentile in nanoseconds.
+ * @param errorRate the share of requests that failed, between 0 and 1.
+ * @param sustainable true if the latency and the error rate stayed within their limits.
+ */
+public record ThroughputSearchStep(
+    int requestsPerSecond, long percentileLatencyNanos, double errorRate, boolean sustainable) {}
@@ -0,0 +1,14 @@
+package com.exxeta.performancetester.model;
+
+/**
+ * Throughput and request durations of all requests that completed within one second of a
+ * benchmark.
+ *
+ * @param second the second of the benchmark, starting at 0.
+ * @param requestCount the amount of requests that completed within this second.
+ * @param p50Nanos the median request duration in nanoseconds.
+ * @param p99Nanos the 99th percentile of the request durations in nanoseconds.
+ * @param maxNanos the maximum request duration in nanoseconds.
+ */
+public record TimelineBucket(
+    int second, long requestCount, long p50Nanos, long p99Nanos, long maxNanos) {}
@@ -0,0 +1,13 @@
+package com.exxeta.performancetester.requests;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link Request} that can also be executed without blocking the calling thread, which allows a
+ * small number of threads to keep many requests in flight.
+ */
+public interface AsyncRequest extends Request {
+  CompletableFuture<Void> executeGrpcRequestAsync();
+
+  CompletableFuture<Void> executeRestRequestAsync();
+}
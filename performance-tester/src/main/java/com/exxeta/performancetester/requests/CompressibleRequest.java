@@ -0,0 +1,15 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
+
+/**
+ * A {@link Request} whose response can be compressed. The size of the response on the wire and
+ * its uncompressed size are recorded, so the saved bandwidth can be compared with the additional
+ * latency of the compression.
+ */
+public interface CompressibleRequest extends Request {
+  void executeGrpcRequest(PayloadCompression compression, WireSizeRecorder wireSizeRecorder);
+
+  void executeRestRequest(PayloadCompression compression, WireSizeRecorder wireSizeRecorder);
+}
@@ -0,0 +1,12 @@
+package com.exxeta.performancetester.requests;
+
+/** A request that sends a fixed amount of items to a microservice, which stores all of them. */
+public interface IngestRequest extends Request {
+
+  /**
+   * Returns the amount of items that every execution of this request ingests.
+   *
+   * @return the amount of items per request.
+   */
+  int getItemCount();
+}
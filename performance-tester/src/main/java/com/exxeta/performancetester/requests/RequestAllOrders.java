@@ -3,13 +3,16 @@ package com.exxeta.performancetester.requests;
 import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
 import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
 import com.exxeta.performancetester.clients.shopservice.dto.OrderRestDto;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
 import com.exxeta.shopservice.OrderGrpcDto;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for performance tests where all orders are requested from the Shop-Service.
  */
-public class RequestAllOrders implements Request {
+public class RequestAllOrders implements AsyncRequest, CompressibleRequest {
   private final ShopServiceGrpcClient shopServiceGrpcClient;
   private final ShopServiceRestClient shopServiceRestClient;
 
@@ -29,4 +32,40 @@ public class RequestAllOrders implements Request {
     List<OrderRestDto> orders = this.shopServiceRestClient.listOrders();
     assert orders.size() == 100;
   }
+
+  @Override
+  public void executeGrpcRequest(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    List<OrderGrpcDto> orders =
+        this.shopServiceGrpcClient.listOrders(compression, wireSizeRecorder);
+    assert orders.size() == 100;
+  }
+
+  @Override
+  public void executeRestRequest(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    List<OrderRestDto> orders =
+        this.shopServiceRestClient.listOrders(compression, wireSizeRecorder);
+    assert orders.size() == 100;
+  }
+
+  @Override
+  public CompletableFuture<Void> executeGrpcRequestAsync() {
+    return this.shopServiceGrpcClient
+        .listOrdersAsync()
+        .thenAccept(
+            orders -> {
+              assert orders.size() == 100;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> executeRestRequestAsync() {
+    return this.shopServiceRestClient
+        .listOrdersAsync()
+        .thenAccept(
+            orders -> {
+              assert orders.size() == 100;
+            });
+  }
 }
@@ -0,0 +1,30 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+import com.exxeta.performancetester.clients.shopservice.dto.ProductRestDto;
+import com.exxeta.shopservice.ProductGrpcDto;
+import java.util.List;
+
+/** Class for performance tests where all products are requested from the Shop-Service. */
+public class RequestAllProducts implements Request {
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+
+  public RequestAllProducts() {
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+  }
+
+  @Override
+  public void executeGrpcRequest() {
+    List<ProductGrpcDto> products = this.shopServiceGrpcClient.listProducts();
+    assert products.size() == 100;
+  }
+
+  @Override
+  public void executeRestRequest() {
+    List<ProductRestDto> products = this.shopServiceRestClient.listProducts();
+    assert products.size() == 100;
+  }
+}
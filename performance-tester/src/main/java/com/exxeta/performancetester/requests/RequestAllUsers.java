@@ -5,11 +5,12 @@ import com.exxeta.performancetester.clients.userservice.UserServiceRestClient;
 import com.exxeta.performancetester.clients.userservice.dto.UserRestDto;
 import com.exxeta.userservice.UserGrpcDto;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for performance tests where all users are requested from the User-Service.
  */
-public class RequestAllUsers implements Request {
+public class RequestAllUsers implements AsyncRequest {
   private final UserServiceGrpcClient userServiceGrpcClient;
   private final UserServiceRestClient userServiceRestClient;
 
@@ -29,4 +30,24 @@ public class RequestAllUsers implements Request {
     List<UserRestDto> users = this.userServiceRestClient.listUsers();
     assert users.size() == 1000;
   }
+
+  @Override
+  public CompletableFuture<Void> executeGrpcRequestAsync() {
+    return this.userServiceGrpcClient
+        .listUsersAsync()
+        .thenAccept(
+            users -> {
+              assert users.size() == 1000;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> executeRestRequestAsync() {
+    return this.userServiceRestClient
+        .listUsersAsync()
+        .thenAccept(
+            users -> {
+              assert users.size() == 1000;
+            });
+  }
 }
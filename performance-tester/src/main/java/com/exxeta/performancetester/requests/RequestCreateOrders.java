@@ -0,0 +1,66 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+import com.exxeta.performancetester.clients.shopservice.dto.CreateOrderRestDto;
+import com.exxeta.performancetester.clients.shopservice.dto.CreateOrdersSummaryRestDto;
+import com.exxeta.shopservice.CreateOrderRequest;
+import com.exxeta.shopservice.CreateOrdersSummaryGrpcDto;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class for performance tests where a batch of orders is created in the Shop-Service with a single
+ * request. The orders are generated once, so only sending and creating the orders is measured.
+ * Every order contains three products and the orders are spread over the 100 mock users.
+ */
+public class RequestCreateOrders implements IngestRequest {
+  private static final int USER_COUNT = 100;
+  private static final int PRODUCT_COUNT = 100;
+  private static final int PRODUCTS_PER_ORDER = 3;
+
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+  private final List<CreateOrderRequest> grpcRequests;
+  private final List<CreateOrderRestDto> restDtos;
+
+  public RequestCreateOrders(int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+    this.grpcRequests = new ArrayList<>(batchSize);
+    this.restDtos = new ArrayList<>(batchSize);
+
+    for (int i = 0; i < batchSize; i++) {
+      int userId = i % USER_COUNT + 1;
+      List<Integer> productIds = new ArrayList<>(PRODUCTS_PER_ORDER);
+      for (int j = 0; j < PRODUCTS_PER_ORDER; j++) {
+        productIds.add((i * PRODUCTS_PER_ORDER + j) % PRODUCT_COUNT + 1);
+      }
+
+      this.grpcRequests.add(
+          CreateOrderRequest.newBuilder().setUserId(userId).addAllProductIds(productIds).build());
+      this.restDtos.add(new CreateOrderRestDto(userId, productIds));
+    }
+  }
+
+  @Override
+  public int getItemCount() {
+    return this.grpcRequests.size();
+  }
+
+  @Override
+  public void executeGrpcRequest() {
+    CreateOrdersSummaryGrpcDto summary = this.shopServiceGrpcClient.createOrders(this.grpcRequests);
+    assert summary.getCreatedCount() == this.grpcRequests.size();
+  }
+
+  @Override
+  public void executeRestRequest() {
+    CreateOrdersSummaryRestDto summary = this.shopServiceRestClient.createOrders(this.restDtos);
+    assert summary.createdCount() == this.restDtos.size();
+  }
+}
@@ -0,0 +1,48 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+import com.exxeta.performancetester.clients.shopservice.dto.OrderPageRestDto;
+import com.exxeta.shopservice.OrderPageGrpcDto;
+
+/**
+ * Class for performance tests where all orders are requested from the Shop-Service page by page,
+ * until the last page has been received.
+ */
+public class RequestOrderPages implements StreamingRequest {
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+  private final int pageSize;
+
+  public RequestOrderPages(int pageSize) {
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public void executeGrpcRequest(Runnable firstItemListener) {
+    OrderPageGrpcDto page = this.shopServiceGrpcClient.listOrdersPage(this.pageSize, null);
+    firstItemListener.run();
+
+    int orderCount = page.getOrdersCount();
+    while (!page.getNextPageToken().isEmpty()) {
+      page = this.shopServiceGrpcClient.listOrdersPage(this.pageSize, page.getNextPageToken());
+      orderCount += page.getOrdersCount();
+    }
+    assert orderCount == 100;
+  }
+
+  @Override
+  public void executeRestRequest(Runnable firstItemListener) {
+    OrderPageRestDto page = this.shopServiceRestClient.listOrdersPage(this.pageSize, null);
+    firstItemListener.run();
+
+    int orderCount = page.orders().size();
+    while (page.nextPageToken() != null) {
+      page = this.shopServiceRestClient.listOrdersPage(this.pageSize, page.nextPageToken());
+      orderCount += page.orders().size();
+    }
+    assert orderCount == 100;
+  }
+}
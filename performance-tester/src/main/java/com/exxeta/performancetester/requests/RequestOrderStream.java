@@ -0,0 +1,32 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+
+/**
+ * Class for performance tests where all orders are requested from the Shop-Service as a stream of
+ * batches.
+ */
+public class RequestOrderStream implements StreamingRequest {
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+  private final int batchSize;
+
+  public RequestOrderStream(int batchSize) {
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void executeGrpcRequest(Runnable firstItemListener) {
+    int orderCount = this.shopServiceGrpcClient.streamOrders(this.batchSize, firstItemListener);
+    assert orderCount == 100;
+  }
+
+  @Override
+  public void executeRestRequest(Runnable firstItemListener) {
+    int orderCount = this.shopServiceRestClient.streamOrders(this.batchSize, firstItemListener);
+    assert orderCount == 100;
+  }
+}
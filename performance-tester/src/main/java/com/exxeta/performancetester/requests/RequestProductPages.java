@@ -0,0 +1,48 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+import com.exxeta.performancetester.clients.shopservice.dto.ProductPageRestDto;
+import com.exxeta.shopservice.ProductPageGrpcDto;
+
+/**
+ * Class for performance tests where all products are requested from the Shop-Service page by page,
+ * until the last page has been received.
+ */
+public class RequestProductPages implements StreamingRequest {
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+  private final int pageSize;
+
+  public RequestProductPages(int pageSize) {
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public void executeGrpcRequest(Runnable firstItemListener) {
+    ProductPageGrpcDto page = this.shopServiceGrpcClient.listProductsPage(this.pageSize, null);
+    firstItemListener.run();
+
+    int productCount = page.getProductsCount();
+    while (!page.getNextPageToken().isEmpty()) {
+      page = this.shopServiceGrpcClient.listProductsPage(this.pageSize, page.getNextPageToken());
+      productCount += page.getProductsCount();
+    }
+    assert productCount == 100;
+  }
+
+  @Override
+  public void executeRestRequest(Runnable firstItemListener) {
+    ProductPageRestDto page = this.shopServiceRestClient.listProductsPage(this.pageSize, null);
+    firstItemListener.run();
+
+    int productCount = page.products().size();
+    while (page.nextPageToken() != null) {
+      page = this.shopServiceRestClient.listProductsPage(this.pageSize, page.nextPageToken());
+      productCount += page.products().size();
+    }
+    assert productCount == 100;
+  }
+}
@@ -0,0 +1,32 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
+import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
+
+/**
+ * Class for performance tests where all products are requested from the Shop-Service as a stream of
+ * batches.
+ */
+public class RequestProductStream implements StreamingRequest {
+  private final ShopServiceGrpcClient shopServiceGrpcClient;
+  private final ShopServiceRestClient shopServiceRestClient;
+  private final int batchSize;
+
+  public RequestProductStream(int batchSize) {
+    this.shopServiceGrpcClient = new ShopServiceGrpcClient();
+    this.shopServiceRestClient = new ShopServiceRestClient();
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void executeGrpcRequest(Runnable firstItemListener) {
+    int productCount = this.shopServiceGrpcClient.streamProducts(this.batchSize, firstItemListener);
+    assert productCount == 100;
+  }
+
+  @Override
+  public void executeRestRequest(Runnable firstItemListener) {
+    int productCount = this.shopServiceRestClient.streamProducts(this.batchSize, firstItemListener);
+    assert productCount == 100;
+  }
+}
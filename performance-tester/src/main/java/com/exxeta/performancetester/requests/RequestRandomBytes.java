@@ -0,0 +1,54 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceGrpcClient;
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceRestClient;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class for performance tests where random data is requested from the Random-Data-Service as raw
+ * bytes instead of a string.
+ */
+public class RequestRandomBytes implements AsyncRequest {
+  private final RandomDataServiceGrpcClient randomDataServiceGrpcClient;
+  private final RandomDataServiceRestClient randomDataServiceRestClient;
+
+  private final int byteCount;
+
+  public RequestRandomBytes(int byteCount) {
+    this.randomDataServiceGrpcClient = new RandomDataServiceGrpcClient();
+    this.randomDataServiceRestClient = new RandomDataServiceRestClient();
+    this.byteCount = byteCount;
+  }
+
+  @Override
+  public void executeGrpcRequest() {
+    int responseSize = this.randomDataServiceGrpcClient.getRandomBytes(byteCount).size();
+    assert responseSize == byteCount;
+  }
+
+  @Override
+  public void executeRestRequest() {
+    int responseSize = this.randomDataServiceRestClient.getRandomBytes(byteCount).length;
+    assert responseSize == byteCount;
+  }
+
+  @Override
+  public CompletableFuture<Void> executeGrpcRequestAsync() {
+    return this.randomDataServiceGrpcClient
+        .getRandomBytesAsync(byteCount)
+        .thenAccept(
+            response -> {
+              assert response.size() == byteCount;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> executeRestRequestAsync() {
+    return this.randomDataServiceRestClient
+        .getRandomBytesAsync(byteCount)
+        .thenAccept(
+            response -> {
+              assert response.length == byteCount;
+            });
+  }
+}
@@ -0,0 +1,44 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceGrpcClient;
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceRestClient;
+
+/**
+ * Class for performance tests where random data is requested from the Random-Data-Service as a
+ * stream of raw byte chunks, so payloads larger than the random data can be transferred without
+ * holding them in memory at once.
+ */
+public class RequestRandomBytesStream implements StreamingRequest {
+  private final RandomDataServiceGrpcClient randomDataServiceGrpcClient;
+  private final RandomDataServiceRestClient randomDataServiceRestClient;
+
+  private final int byteCount;
+  private final int chunkSize;
+
+  public RequestRandomBytesStream(int byteCount, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+
+    this.randomDataServiceGrpcClient = new RandomDataServiceGrpcClient();
+    this.randomDataServiceRestClient = new RandomDataServiceRestClient();
+    this.byteCount = byteCount;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void executeGrpcRequest(Runnable firstItemListener) {
+    long receivedBytes =
+        this.randomDataServiceGrpcClient.streamRandomBytes(
+            this.byteCount, this.chunkSize, firstItemListener);
+    assert receivedBytes == this.byteCount;
+  }
+
+  @Override
+  public void executeRestRequest(Runnable firstItemListener) {
+    long receivedBytes =
+        this.randomDataServiceRestClient.streamRandomBytes(
+            this.byteCount, this.chunkSize, firstItemListener);
+    assert receivedBytes == this.byteCount;
+  }
+}
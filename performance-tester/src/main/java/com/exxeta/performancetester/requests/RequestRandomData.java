@@ -2,11 +2,14 @@ package com.exxeta.performancetester.requests;
 
 import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceGrpcClient;
 import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceRestClient;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.PayloadCompression;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for performance tests where random data is requested from the Random-Data-Service.
  */
-public class RequestRandomData implements Request {
+public class RequestRandomData implements AsyncRequest, CompressibleRequest {
   private final RandomDataServiceGrpcClient randomDataServiceGrpcClient;
   private final RandomDataServiceRestClient randomDataServiceRestClient;
 
@@ -29,4 +32,40 @@ public class RequestRandomData implements Request {
     String response = this.randomDataServiceRestClient.getRandomData(byteCount);
     assert response.length() == byteCount;
   }
+
+  @Override
+  public void executeGrpcRequest(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    String response =
+        this.randomDataServiceGrpcClient.getRandomData(byteCount, compression, wireSizeRecorder);
+    assert response.length() == byteCount;
+  }
+
+  @Override
+  public void executeRestRequest(
+      PayloadCompression compression, WireSizeRecorder wireSizeRecorder) {
+    String response =
+        this.randomDataServiceRestClient.getRandomData(byteCount, compression, wireSizeRecorder);
+    assert response.length() == byteCount;
+  }
+
+  @Override
+  public CompletableFuture<Void> executeGrpcRequestAsync() {
+    return this.randomDataServiceGrpcClient
+        .getRandomDataAsync(byteCount)
+        .thenAccept(
+            response -> {
+              assert response.length() == byteCount;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> executeRestRequestAsync() {
+    return this.randomDataServiceRestClient
+        .getRandomDataAsync(byteCount)
+        .thenAccept(
+            response -> {
+              assert response.length() == byteCount;
+            });
+  }
 }
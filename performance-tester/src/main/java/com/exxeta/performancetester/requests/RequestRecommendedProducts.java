@@ -4,11 +4,12 @@ import com.exxeta.performancetester.clients.shopservice.ShopServiceGrpcClient;
 import com.exxeta.performancetester.clients.shopservice.ShopServiceRestClient;
 import com.exxeta.performancetester.clients.shopservice.dto.ProductRecommendationRestDto;
 import com.exxeta.shopservice.ProductRecommendationGrpcDto;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for performance tests where recommended products are requested from the Shop-Service.
  */
-public class RequestRecommendedProducts implements Request {
+public class RequestRecommendedProducts implements AsyncRequest {
   private final ShopServiceGrpcClient shopServiceGrpcClient;
   private final ShopServiceRestClient shopServiceRestClient;
 
@@ -28,4 +29,24 @@ public class RequestRecommendedProducts implements Request {
     ProductRecommendationRestDto response = this.shopServiceRestClient.getProductRecommendation(1);
     assert response.recommendedProducts().size() == 100;
   }
+
+  @Override
+  public CompletableFuture<Void> executeGrpcRequestAsync() {
+    return this.shopServiceGrpcClient
+        .getProductRecommendationAsync(1)
+        .thenAccept(
+            response -> {
+              assert response.getRecommendedProductsList().size() == 100;
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> executeRestRequestAsync() {
+    return this.shopServiceRestClient
+        .getProductRecommendationAsync(1)
+        .thenAccept(
+            response -> {
+              assert response.recommendedProducts().size() == 100;
+            });
+  }
 }
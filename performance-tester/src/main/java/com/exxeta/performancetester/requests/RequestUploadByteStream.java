@@ -0,0 +1,53 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceGrpcClient;
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceRestClient;
+import com.exxeta.performancetester.clients.randomdataservice.dto.UploadSummaryRestDto;
+import com.exxeta.randomdataservice.UploadSummaryGrpcDto;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.util.List;
+
+/**
+ * Class for performance tests where random bytes are uploaded to the Random-Data-Service in chunks,
+ * either as a client-streaming gRPC call or as a REST request body with chunked transfer encoding.
+ */
+public class RequestUploadByteStream implements Request {
+  private final RandomDataServiceGrpcClient randomDataServiceGrpcClient;
+  private final RandomDataServiceRestClient randomDataServiceRestClient;
+
+  private final int byteCount;
+  private final String digest;
+  private final List<byte[]> chunks;
+  private final List<ByteString> grpcChunks;
+
+  public RequestUploadByteStream(int byteCount, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+
+    this.randomDataServiceGrpcClient = new RandomDataServiceGrpcClient();
+    this.randomDataServiceRestClient = new RandomDataServiceRestClient();
+    // only the chunks are kept, so the bytes are not held in memory twice
+    UploadPayload payload = new UploadPayload(byteCount);
+    this.byteCount = byteCount;
+    this.digest = payload.getDigest();
+    this.chunks = payload.split(chunkSize);
+    this.grpcChunks = this.chunks.stream().map(UnsafeByteOperations::unsafeWrap).toList();
+  }
+
+  @Override
+  public void executeGrpcRequest() {
+    UploadSummaryGrpcDto summary =
+        this.randomDataServiceGrpcClient.uploadByteStream(this.grpcChunks);
+    assert summary.getByteCount() == this.byteCount;
+    assert summary.getDigest().equals(this.digest);
+  }
+
+  @Override
+  public void executeRestRequest() {
+    UploadSummaryRestDto summary = this.randomDataServiceRestClient.uploadByteStream(this.chunks);
+    assert summary.byteCount() == this.byteCount;
+    assert summary.digest().equals(this.digest);
+  }
+}
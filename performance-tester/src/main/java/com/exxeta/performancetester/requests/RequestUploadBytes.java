@@ -0,0 +1,42 @@
+package com.exxeta.performancetester.requests;
+
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceGrpcClient;
+import com.exxeta.performancetester.clients.randomdataservice.RandomDataServiceRestClient;
+import com.exxeta.performancetester.clients.randomdataservice.dto.UploadSummaryRestDto;
+import com.exxeta.randomdataservice.UploadSummaryGrpcDto;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+/**
+ * Class for performance tests where random bytes are uploaded to the Random-Data-Service in a
+ * single unary gRPC message or a single REST request body with a content length.
+ */
+public class RequestUploadBytes implements Request {
+  private final RandomDataServiceGrpcClient randomDataServiceGrpcClient;
+  private final RandomDataServiceRestClient randomDataServiceRestClient;
+
+  private final UploadPayload payload;
+  private final ByteString grpcData;
+
+  public RequestUploadBytes(int byteCount) {
+    this.randomDataServiceGrpcClient = new RandomDataServiceGrpcClient();
+    this.randomDataServiceRestClient = new RandomDataServiceRestClient();
+    this.payload = new UploadPayload(byteCount);
+    this.grpcData = UnsafeByteOperations.unsafeWrap(this.payload.getBytes());
+  }
+
+  @Override
+  public void executeGrpcRequest() {
+    UploadSummaryGrpcDto summary = this.randomDataServiceGrpcClient.uploadBytes(this.grpcData);
+    assert summary.getByteCount() == this.payload.getBytes().length;
+    assert summary.getDigest().equals(this.payload.getDigest());
+  }
+
+  @Override
+  public void executeRestRequest() {
+    UploadSummaryRestDto summary =
+        this.randomDataServiceRestClient.uploadBytes(this.payload.getBytes());
+    assert summary.byteCount() == this.payload.getBytes().length;
+    assert summary.digest().equals(this.payload.getDigest());
+  }
+}
@@ -0,0 +1,22 @@
+package com.exxeta.performancetester.requests;
+
+/**
+ * A {@link Request} whose response is received in multiple parts, e.g. as a stream of batches or as
+ * multiple pages. The receipt of the first part is reported, so the time until the first items can
+ * be processed is measured in addition to the time until all items have been received.
+ */
+public interface StreamingRequest extends Request {
+  void executeGrpcRequest(Runnable firstItemListener);
+
+  void executeRestRequest(Runnable firstItemListener);
+
+  @Override
+  default void executeGrpcRequest() {
+    this.executeGrpcRequest(() -> {});
+  }
+
+  @Override
+  default void executeRestRequest() {
+    this.executeRestRequest(() -> {});
+  }
+}
@@ -0,0 +1,61 @@
+package com.exxeta.performancetester.requests;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random bytes that are uploaded by the upload requests, together with their digest, so the digest
+ * returned by the Random-Data-Service can be verified. The bytes are generated once per request, so
+ * only the upload itself is measured.
+ */
+final class UploadPayload {
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final byte[] bytes;
+  private final String digest;
+
+  UploadPayload(int byteCount) {
+    if (byteCount < 0) {
+      throw new IllegalArgumentException("byteCount must not be negative");
+    }
+
+    this.bytes = new byte[byteCount];
+    new Random().nextBytes(this.bytes);
+
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+      this.digest = HexFormat.of().formatHex(messageDigest.digest(this.bytes));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported by the JVM", ex);
+    }
+  }
+
+  byte[] getBytes() {
+    return this.bytes;
+  }
+
+  String getDigest() {
+    return this.digest;
+  }
+
+  /**
+   * Splits the bytes into chunks. Every chunk except the last one contains exactly {@code
+   * chunkSize} bytes.
+   *
+   * @param chunkSize the amount of bytes per chunk.
+   * @return the chunks in order.
+   */
+  List<byte[]> split(int chunkSize) {
+    List<byte[]> chunks = new ArrayList<>((this.bytes.length + chunkSize - 1) / chunkSize);
+    for (int offset = 0; offset < this.bytes.length; offset += chunkSize) {
+      chunks.add(
+          Arrays.copyOfRange(this.bytes, offset, Math.min(offset + chunkSize, this.bytes.length)));
+    }
+    return chunks;
+  }
+}
@@ -0,0 +1,22 @@
+package com.exxeta.performancetester.requests;
+
+/**
+ * A request of a mixed workload together with its share of all executed requests.
+ *
+ * @param name the name under which the request durations of this request are reported.
+ * @param request the request to execute.
+ * @param weight the relative frequency of this request compared to the other requests.
+ */
+public record WeightedRequest(String name, Request request, int weight) {
+
+  /**
+   * Creates a weighted request that is reported under the class name of the request.
+   *
+   * @param request the request to execute.
+   * @param weight the relative frequency of this request compared to the other requests.
+   * @return the created {@link WeightedRequest}.
+   */
+  public static WeightedRequest of(Request request, int weight) {
+    return new WeightedRequest(request.getClass().getSimpleName(), request, weight);
+  }
+}
@@ -1,22 +1,58 @@
 package com.exxeta.performancetester.scenarios;
 
+import com.exxeta.performancetester.metrics.LatencyRecorder;
 import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
 import com.exxeta.performancetester.model.Microservice;
 import java.util.List;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 @Getter
 public abstract class Scenario {
-  protected static final int WARMUP_REQUEST_COUNT = 300;
+  public static final int DEFAULT_WARMUP_REQUEST_COUNT = 300;
 
   private final int concurrentUsers;
   private final List<Microservice> requiredServices;
   private final String outputFileName;
   private final String description;
+  private final boolean recordRawSamples;
+  private final int warmupRequestCount;
+
+  protected Scenario(
+      int concurrentUsers,
+      List<Microservice> requiredServices,
+      String outputFileName,
+      String description,
+      boolean recordRawSamples,
+      Integer warmupRequestCount) {
+    this.concurrentUsers = concurrentUsers;
+    this.requiredServices = requiredServices;
+    this.outputFileName = outputFileName;
+    this.description = description;
+    this.recordRawSamples = recordRawSamples;
+    this.warmupRequestCount =
+        warmupRequestCount != null ? warmupRequestCount : DEFAULT_WARMUP_REQUEST_COUNT;
+  }
 
   public abstract ApiBenchmarkResult runGrpcApiBenchmark();
 
   public abstract ApiBenchmarkResult runRestApiBenchmark();
+
+  /**
+   * Returns the type of threads that execute the requests of this scenario.
+   *
+   * @return the {@link ExecutorType}, or null if the requests are executed by the calling thread.
+   */
+  public ExecutorType getExecutorType() {
+    return null;
+  }
+
+  /**
+   * Creates a new {@link LatencyRecorder} for a single benchmark of this scenario.
+   *
+   * @return the created {@link LatencyRecorder}.
+   */
+  protected LatencyRecorder createLatencyRecorder() {
+    return new LatencyRecorder(this.recordRawSamples);
+  }
 }
@@ -0,0 +1,105 @@
+package com.exxeta.performancetester.scenarios.concurrent;
+
+import com.exxeta.performancetester.exception.PerformanceTestException;
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.requests.AsyncRequest;
+import com.exxeta.performancetester.requests.Request;
+import com.exxeta.performancetester.scenarios.Scenario;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/** Base class for scenarios that execute requests concurrently on an {@link ExecutorService}. */
+public abstract class ConcurrentScenario extends Scenario {
+  private ExecutorType executorType;
+
+  protected ConcurrentScenario(
+      int concurrentUsers,
+      List<Microservice> requiredServices,
+      String outputFileName,
+      String description,
+      boolean recordRawSamples,
+      Integer warmupRequestCount,
+      ExecutorType executorType) {
+    super(
+        concurrentUsers,
+        requiredServices,
+        outputFileName,
+        description,
+        recordRawSamples,
+        warmupRequestCount);
+    this.executorType = executorType;
+  }
+
+  @Override
+  public ExecutorType getExecutorType() {
+    return this.executorType != null ? this.executorType : ExecutorType.PLATFORM;
+  }
+
+  /**
+   * Sets the executor type if it has not been explicitly defined for this scenario.
+   *
+   * @param defaultExecutorType the executor type to use if none has been defined.
+   */
+  public void applyDefaultExecutorType(ExecutorType defaultExecutorType) {
+    if (this.executorType == null) {
+      this.executorType = defaultExecutorType;
+    }
+  }
+
+  /**
+   * Creates the {@link ExecutorService} that executes the requests of a single benchmark.
+   *
+   * @param platformExecutorFactory creates the executor if platform threads are used.
+   * @return the created {@link ExecutorService}.
+   * @throws PerformanceTestException if virtual threads are not supported by the running JVM.
+   */
+  protected ExecutorService createExecutor(Supplier<ExecutorService> platformExecutorFactory) {
+    if (this.getExecutorType() != ExecutorType.VIRTUAL) {
+      return platformExecutorFactory.get();
+    }
+
+    // the project is compiled for Java 17, so virtual threads can only be created reflectively
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+      throw new PerformanceTestException(
+          "Virtual threads are not supported by the running Java version: %s",
+          Runtime.version().toString());
+    }
+  }
+
+  /**
+   * Returns the request as an {@link AsyncRequest} for scenarios that use {@link
+   * ExecutorType#ASYNC}.
+   *
+   * @param request the request of the scenario.
+   * @return the request as an {@link AsyncRequest}.
+   * @throws PerformanceTestException if the request cannot be executed asynchronously.
+   */
+  protected AsyncRequest toAsyncRequest(Request request) {
+    if (request instanceof AsyncRequest asyncRequest) {
+      return asyncRequest;
+    }
+
+    throw new PerformanceTestException(
+        "Request '%s' cannot be executed asynchronously", request.getClass().getSimpleName());
+  }
+
+  /**
+   * Creates a new {@link LatencyRecorder} for a single benchmark of this scenario. Virtual threads
+   * only live for a single request, so they record into a shared histogram.
+   *
+   * @return the created {@link LatencyRecorder}.
+   */
+  @Override
+  protected LatencyRecorder createLatencyRecorder() {
+    return new LatencyRecorder(
+        this.isRecordRawSamples(), this.getExecutorType() != ExecutorType.VIRTUAL);
+  }
+}
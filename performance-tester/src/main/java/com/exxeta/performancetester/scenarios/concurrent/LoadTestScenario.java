@@ -1,16 +1,20 @@
 package com.exxeta.performancetester.scenarios.concurrent;
 
+import com.exxeta.performancetester.metrics.LatencyRecorder;
 import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
 import com.exxeta.performancetester.model.Microservice;
 import com.exxeta.performancetester.requests.Request;
-import com.exxeta.performancetester.scenarios.Scenario;
 import com.google.common.util.concurrent.RateLimiter;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.Singular;
@@ -18,11 +22,19 @@ import lombok.Singular;
 /**
  * Simulates a realistic load during the performance test by concurrently executing a defined amount of requests
  * per second for a specified amount of seconds.
+ *
+ * <p>In the open-loop mode every request has an intended start time that is derived from the
+ * target rate. The request duration is measured from that intended start time, so delays caused by
+ * a stalling service are part of the measured latency instead of being omitted.
  */
-public class LoadTestScenario extends Scenario {
+public class LoadTestScenario extends ConcurrentScenario {
+  // requests that are sent later than this after their intended start time are counted as late
+  private static final long LATE_REQUEST_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
   private final Request request;
   private final int durationSeconds;
   private final int requestsPerSecond;
+  private final boolean openLoop;
 
   @Builder
   public LoadTestScenario(
@@ -31,21 +43,41 @@ public class LoadTestScenario extends Scenario {
       @NonNull Integer requestsPerSecond,
       @NonNull String outputFileName,
       @NonNull String description,
-      @Singular @NonNull List<Microservice> requiredServices) {
-    super(requestsPerSecond, requiredServices, outputFileName, description);
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount,
+      ExecutorType executorType,
+      boolean openLoop) {
+    super(
+        requestsPerSecond,
+        requiredServices,
+        outputFileName,
+        description,
+        recordRawSamples,
+        warmupRequestCount,
+        executorType);
     this.request = request;
     this.durationSeconds = durationSeconds;
     this.requestsPerSecond = requestsPerSecond;
+    this.openLoop = openLoop;
   }
 
   @Override
   public ApiBenchmarkResult runGrpcApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeGrpcRequest();
     }
 
-    Queue<Long> requestDurations = new ConcurrentLinkedQueue<>();
+    if (this.getExecutorType() == ExecutorType.ASYNC) {
+      return this.runAsyncBenchmark(this.toAsyncRequest(this.request)::executeGrpcRequestAsync);
+    }
+
+    if (this.openLoop) {
+      return this.runOpenLoopBenchmark(this.request::executeGrpcRequest);
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
     Runnable runnable =
         () -> {
           try {
@@ -53,7 +85,7 @@ public class LoadTestScenario extends Scenario {
             this.request.executeGrpcRequest();
             long duration = System.nanoTime() - start;
 
-            requestDurations.add(duration);
+            latencyRecorder.recordNanos(duration);
           } catch (Exception ex) {
             ex.printStackTrace();
           }
@@ -63,17 +95,25 @@ public class LoadTestScenario extends Scenario {
     this.runConcurrentRequestsPerSecond(runnable);
     long totalDurationMs = System.currentTimeMillis() - start;
 
-    return new ApiBenchmarkResult(requestDurations.size(), totalDurationMs, requestDurations);
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder);
   }
 
   @Override
   public ApiBenchmarkResult runRestApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeRestRequest();
     }
 
-    Queue<Long> requestDurations = new ConcurrentLinkedQueue<>();
+    if (this.getExecutorType() == ExecutorType.ASYNC) {
+      return this.runAsyncBenchmark(this.toAsyncRequest(this.request)::executeRestRequestAsync);
+    }
+
+    if (this.openLoop) {
+      return this.runOpenLoopBenchmark(this.request::executeRestRequest);
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
     Runnable runnable =
         () -> {
           try {
@@ -81,7 +121,7 @@ public class LoadTestScenario extends Scenario {
             this.request.executeRestRequest();
             long duration = System.nanoTime() - start;
 
-            requestDurations.add(duration);
+            latencyRecorder.recordNanos(duration);
           } catch (Exception ex) {
             ex.printStackTrace();
           }
@@ -89,11 +129,123 @@ public class LoadTestScenario extends Scenario {
 
     long totalDurationMs = this.runConcurrentRequestsPerSecond(runnable);
 
-    return new ApiBenchmarkResult(requestDurations.size(), totalDurationMs, requestDurations);
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder);
+  }
+
+  /**
+   * Executes the requests in an open loop. The intended start time of each request is calculated
+   * from the target rate and the request duration is measured from that time. A request whose
+   * execution starts more than {@link #LATE_REQUEST_THRESHOLD_NANOS} after its intended start time
+   * is counted as late.
+   *
+   * @param executeRequest executes a single request.
+   * @return the result of the benchmark.
+   */
+  private ApiBenchmarkResult runOpenLoopBenchmark(Runnable executeRequest) {
+    ExecutorService executor = this.createExecutor(Executors::newCachedThreadPool);
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    LongAdder lateRequests = new LongAdder();
+
+    long totalRequests = (long) this.requestsPerSecond * this.durationSeconds;
+
+    long totalStart = System.currentTimeMillis();
+    long start = System.nanoTime();
+    for (long i = 0; i < totalRequests; i++) {
+      long intendedStart = start + i * TimeUnit.SECONDS.toNanos(1) / this.requestsPerSecond;
+
+      long waitNanos;
+      while ((waitNanos = intendedStart - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(waitNanos);
+      }
+
+      executor.execute(
+          () -> {
+            if (System.nanoTime() - intendedStart > LATE_REQUEST_THRESHOLD_NANOS) {
+              lateRequests.increment();
+            }
+
+            try {
+              executeRequest.run();
+              latencyRecorder.recordNanos(System.nanoTime() - intendedStart);
+            } catch (Exception ex) {
+              ex.printStackTrace();
+            }
+          });
+    }
+
+    try {
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      throw new RuntimeException("ThreadPoolExecutor has been interrupted");
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder, lateRequests.sum());
+  }
+
+  /**
+   * Sends the requests asynchronously from the calling thread at the target rate, so the number of
+   * requests in flight is not limited by the number of threads. In the open-loop mode the request
+   * duration is measured from the intended start time, otherwise from the time the request was
+   * sent.
+   *
+   * @param executeRequest sends a single request and returns a future of its completion.
+   * @return the result of the benchmark.
+   */
+  private ApiBenchmarkResult runAsyncBenchmark(Supplier<CompletableFuture<Void>> executeRequest) {
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    LongAdder lateRequests = new LongAdder();
+
+    long totalRequests = (long) this.requestsPerSecond * this.durationSeconds;
+    CountDownLatch completedRequests = new CountDownLatch(Math.toIntExact(totalRequests));
+
+    long totalStart = System.currentTimeMillis();
+    long start = System.nanoTime();
+    for (long i = 0; i < totalRequests; i++) {
+      long intendedStart = start + i * TimeUnit.SECONDS.toNanos(1) / this.requestsPerSecond;
+
+      long waitNanos;
+      while ((waitNanos = intendedStart - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(waitNanos);
+      }
+
+      long sendTime = System.nanoTime();
+      if (sendTime - intendedStart > LATE_REQUEST_THRESHOLD_NANOS) {
+        lateRequests.increment();
+      }
+      long measuredFrom = this.openLoop ? intendedStart : sendTime;
+
+      CompletableFuture<Void> response;
+      try {
+        response = executeRequest.get();
+      } catch (Exception ex) {
+        response = CompletableFuture.failedFuture(ex);
+      }
+      response.whenComplete(
+          (result, ex) -> {
+            if (ex != null) {
+              ex.printStackTrace();
+            } else {
+              latencyRecorder.recordNanos(System.nanoTime() - measuredFrom);
+            }
+            completedRequests.countDown();
+          });
+    }
+
+    try {
+      completedRequests.await();
+    } catch (InterruptedException ex) {
+      throw new RuntimeException("Asynchronous requests have been interrupted");
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(
+        totalDurationMs, latencyRecorder, this.openLoop ? lateRequests.sum() : null);
   }
 
   private long runConcurrentRequestsPerSecond(Runnable runnable) {
-    ExecutorService executor = Executors.newCachedThreadPool();
+    ExecutorService executor = this.createExecutor(Executors::newCachedThreadPool);
 
     int totalRequests = this.requestsPerSecond * this.durationSeconds;
     RateLimiter rateLimiter = RateLimiter.create(this.requestsPerSecond);
@@ -0,0 +1,261 @@
+package com.exxeta.performancetester.scenarios.concurrent;
+
+import com.exxeta.performancetester.exception.PerformanceTestException;
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.metrics.TimelineRecorder;
+import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.RequestTypeResult;
+import com.exxeta.performancetester.requests.Request;
+import com.exxeta.performancetester.requests.WeightedRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Simulates production traffic by interleaving multiple weighted requests against the same
+ * microservices for a specified amount of seconds.
+ *
+ * <p>The requests are either sent at a fixed rate in an open loop, where the request duration is
+ * measured from the intended start time, or by a fixed amount of concurrent users in a closed loop.
+ * The request durations are reported for the whole workload and additionally per request type, so
+ * the interference between the request types becomes visible.
+ *
+ * <p>The next request type is drawn from a random generator with a fixed seed, so the gRPC and REST
+ * benchmark execute the same sequence of request types.
+ */
+public class MixedWorkloadScenario extends ConcurrentScenario {
+  // requests that are sent later than this after their intended start time are counted as late
+  private static final long LATE_REQUEST_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long REQUEST_SEQUENCE_SEED = 42;
+
+  private final List<WeightedRequest> requests;
+  private final int durationSeconds;
+  private final Integer requestsPerSecond;
+  private final int[] cumulativeWeights;
+
+  /**
+   * Creates a mixed workload scenario. Exactly one of {@code requestsPerSecond} and {@code
+   * concurrentUsers} must be set.
+   *
+   * @param requests the requests of the workload with their weights.
+   * @param durationSeconds the duration of the benchmark in seconds.
+   * @param requestsPerSecond the rate at which requests are sent in an open loop.
+   * @param concurrentUsers the amount of concurrent users that send requests in a closed loop.
+   */
+  @Builder
+  public MixedWorkloadScenario(
+      @Singular @NonNull List<WeightedRequest> requests,
+      @NonNull Integer durationSeconds,
+      Integer requestsPerSecond,
+      Integer concurrentUsers,
+      @NonNull String outputFileName,
+      @NonNull String description,
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount,
+      ExecutorType executorType) {
+    super(
+        validateLoad(requestsPerSecond, concurrentUsers),
+        requiredServices,
+        outputFileName,
+        description,
+        recordRawSamples,
+        warmupRequestCount,
+        executorType);
+    if (requests.isEmpty()) {
+      throw new IllegalArgumentException("A mixed workload requires at least one request");
+    }
+
+    this.requests = requests;
+    this.durationSeconds = durationSeconds;
+    this.requestsPerSecond = requestsPerSecond;
+    this.cumulativeWeights = new int[requests.size()];
+
+    int totalWeight = 0;
+    for (int i = 0; i < requests.size(); i++) {
+      if (requests.get(i).weight() <= 0) {
+        throw new IllegalArgumentException(
+            "Weight of request '" + requests.get(i).name() + "' must be positive");
+      }
+      totalWeight += requests.get(i).weight();
+      this.cumulativeWeights[i] = totalWeight;
+    }
+  }
+
+  private static int validateLoad(Integer requestsPerSecond, Integer concurrentUsers) {
+    if ((requestsPerSecond == null) == (concurrentUsers == null)) {
+      throw new IllegalArgumentException(
+          "Exactly one of requestsPerSecond and concurrentUsers must be set");
+    }
+
+    return requestsPerSecond != null ? requestsPerSecond : concurrentUsers;
+  }
+
+  @Override
+  public ApiBenchmarkResult runGrpcApiBenchmark() {
+    return this.runBenchmark(true);
+  }
+
+  @Override
+  public ApiBenchmarkResult runRestApiBenchmark() {
+    return this.runBenchmark(false);
+  }
+
+  private ApiBenchmarkResult runBenchmark(boolean grpc) {
+    // warm-up
+    for (WeightedRequest weightedRequest : this.requests) {
+      for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
+        this.execute(weightedRequest.request(), grpc);
+      }
+    }
+
+    boolean openLoop = this.requestsPerSecond != null;
+    ExecutorService executor = null;
+    if (this.getExecutorType() != ExecutorType.ASYNC) {
+      executor =
+          openLoop
+              ? this.createExecutor(Executors::newCachedThreadPool)
+              : this.createExecutor(() -> Executors.newFixedThreadPool(this.getConcurrentUsers()));
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    List<LatencyRecorder> requestTypeRecorders = new ArrayList<>();
+    for (int i = 0; i < this.requests.size(); i++) {
+      requestTypeRecorders.add(this.createLatencyRecorder());
+    }
+    LongAdder lateRequests = new LongAdder();
+    SplittableRandom random = new SplittableRandom(REQUEST_SEQUENCE_SEED);
+
+    long totalStart = System.currentTimeMillis();
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.SECONDS.toNanos(this.durationSeconds);
+    TimelineRecorder timelineRecorder = new TimelineRecorder(start);
+
+    // every request takes a permit that is returned once it has completed, in the open loop the
+    // amount of requests in flight is not limited
+    int permits = openLoop ? Integer.MAX_VALUE : this.getConcurrentUsers();
+    Semaphore inFlightRequests = new Semaphore(permits);
+    long totalRequests = openLoop ? (long) this.requestsPerSecond * this.durationSeconds : 0;
+
+    try {
+      for (long i = 0; openLoop ? i < totalRequests : System.nanoTime() < deadline; i++) {
+        long requestStart;
+        if (openLoop) {
+          requestStart = start + i * TimeUnit.SECONDS.toNanos(1) / this.requestsPerSecond;
+
+          long waitNanos;
+          while ((waitNanos = requestStart - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+          }
+          if (System.nanoTime() - requestStart > LATE_REQUEST_THRESHOLD_NANOS) {
+            lateRequests.increment();
+          }
+          inFlightRequests.acquire();
+        } else {
+          // a timeout of zero still takes a free permit, so the deadline is checked separately
+          long remainingNanos = deadline - System.nanoTime();
+          if (remainingNanos <= 0
+              || !inFlightRequests.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS)) {
+            break;
+          }
+          requestStart = System.nanoTime();
+        }
+
+        int requestIndex = this.nextRequestIndex(random);
+        LatencyRecorder requestTypeRecorder = requestTypeRecorders.get(requestIndex);
+
+        this.send(this.requests.get(requestIndex).request(), grpc, executor)
+            .whenComplete(
+                (result, ex) -> {
+                  if (ex != null) {
+                    ex.printStackTrace();
+                  } else {
+                    long requestEnd = System.nanoTime();
+                    latencyRecorder.recordNanos(requestEnd - requestStart);
+                    requestTypeRecorder.recordNanos(requestEnd - requestStart);
+                    timelineRecorder.record(requestEnd, requestEnd - requestStart);
+                  }
+                  inFlightRequests.release();
+                });
+      }
+
+      inFlightRequests.acquire(permits);
+    } catch (InterruptedException ex) {
+      throw new RuntimeException("Mixed workload requests have been interrupted");
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    List<RequestTypeResult> requestTypes = new ArrayList<>();
+    for (int i = 0; i < this.requests.size(); i++) {
+      WeightedRequest weightedRequest = this.requests.get(i);
+      requestTypes.add(
+          RequestTypeResult.of(
+              weightedRequest.name(), weightedRequest.weight(), requestTypeRecorders.get(i)));
+    }
+
+    Long lateRequestCount = openLoop ? lateRequests.sum() : null;
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder, lateRequestCount)
+        .withTimeline(timelineRecorder.getBuckets())
+        .withRequestTypes(requestTypes);
+  }
+
+  private int nextRequestIndex(SplittableRandom random) {
+    int value = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+
+    int index = 0;
+    while (value >= this.cumulativeWeights[index]) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Sends a single request. Asynchronous requests are sent by the calling thread, synchronous
+   * requests are executed on the executor.
+   *
+   * @param request the request to send.
+   * @param grpc true if the gRPC API should be called, false if the REST API should be called.
+   * @param executor the executor for synchronous requests, null if requests are sent
+   *     asynchronously.
+   * @return a future of the completion of the request.
+   */
+  private CompletableFuture<Void> send(Request request, boolean grpc, ExecutorService executor) {
+    if (executor != null) {
+      return CompletableFuture.runAsync(() -> this.execute(request, grpc), executor);
+    }
+
+    try {
+      return grpc
+          ? this.toAsyncRequest(request).executeGrpcRequestAsync()
+          : this.toAsyncRequest(request).executeRestRequestAsync();
+    } catch (PerformanceTestException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private void execute(Request request, boolean grpc) {
+    if (grpc) {
+      request.executeGrpcRequest();
+    } else {
+      request.executeRestRequest();
+    }
+  }
+}
@@ -1,15 +1,18 @@
 package com.exxeta.performancetester.scenarios.concurrent;
 
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.metrics.TimelineRecorder;
 import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
 import com.exxeta.performancetester.model.Microservice;
 import com.exxeta.performancetester.requests.Request;
-import com.exxeta.performancetester.scenarios.Scenario;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.Singular;
@@ -17,8 +20,11 @@ import lombok.Singular;
 /**
  * Simulates a stress test during the performance test by concurrently executing a defined amount of
  * requests for a specified amount of seconds.
+ *
+ * <p>Every concurrent user sends its next request as soon as its previous request has completed.
+ * Once the duration has elapsed no new requests are sent and the requests in flight are completed.
  */
-public class StressTestScenario extends Scenario {
+public class StressTestScenario extends ConcurrentScenario {
   private final Request request;
   private final int durationSeconds;
 
@@ -29,8 +35,18 @@ public class StressTestScenario extends Scenario {
       @NonNull Integer durationSeconds,
       @NonNull String outputFileName,
       @NonNull String description,
-      @Singular @NonNull List<Microservice> requiredServices) {
-    super(concurrentUsers, requiredServices, outputFileName, description);
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount,
+      ExecutorType executorType) {
+    super(
+        concurrentUsers,
+        requiredServices,
+        outputFileName,
+        description,
+        recordRawSamples,
+        warmupRequestCount,
+        executorType);
     this.request = request;
     this.durationSeconds = durationSeconds;
   }
@@ -38,75 +54,132 @@ public class StressTestScenario extends Scenario {
   @Override
   public ApiBenchmarkResult runGrpcApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeGrpcRequest();
     }
 
-    Queue<Long> requestDurations = new ConcurrentLinkedQueue<>();
-    Runnable runnable =
-        () -> {
-          try {
-            long start = System.nanoTime();
-            this.request.executeGrpcRequest();
-            long duration = System.nanoTime() - start;
-
-            requestDurations.add(duration);
-          } catch (Exception ex) {
-            ex.printStackTrace();
-          }
-        };
-
-    long start = System.currentTimeMillis();
-    this.runConcurrentRequestsForDuration(runnable);
-    long totalDurationMs = System.currentTimeMillis() - start;
+    if (this.getExecutorType() == ExecutorType.ASYNC) {
+      return this.runAsyncBenchmark(this.toAsyncRequest(this.request)::executeGrpcRequestAsync);
+    }
 
-    return new ApiBenchmarkResult(requestDurations.size(), totalDurationMs, requestDurations);
+    return this.runClosedLoopBenchmark(this.request::executeGrpcRequest);
   }
 
   @Override
   public ApiBenchmarkResult runRestApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeRestRequest();
     }
 
-    Queue<Long> requestDurations = new ConcurrentLinkedQueue<>();
-    Runnable runnable =
+    if (this.getExecutorType() == ExecutorType.ASYNC) {
+      return this.runAsyncBenchmark(this.toAsyncRequest(this.request)::executeRestRequestAsync);
+    }
+
+    return this.runClosedLoopBenchmark(this.request::executeRestRequest);
+  }
+
+  /**
+   * Starts exactly one worker per concurrent user. Every worker executes requests one after another
+   * until the duration has elapsed and then finishes its current request.
+   *
+   * @param executeRequest executes a single request.
+   * @return the result of the benchmark.
+   */
+  private ApiBenchmarkResult runClosedLoopBenchmark(Runnable executeRequest) {
+    ExecutorService executor =
+        this.createExecutor(() -> Executors.newFixedThreadPool(this.getConcurrentUsers()));
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+
+    long totalStart = System.currentTimeMillis();
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.SECONDS.toNanos(this.durationSeconds);
+    TimelineRecorder timelineRecorder = new TimelineRecorder(start);
+
+    Runnable worker =
         () -> {
-          try {
-            long start = System.nanoTime();
-            this.request.executeRestRequest();
-            long duration = System.nanoTime() - start;
-
-            requestDurations.add(duration);
-          } catch (Exception ex) {
-            ex.printStackTrace();
+          while (System.nanoTime() < deadline) {
+            try {
+              long requestStart = System.nanoTime();
+              executeRequest.run();
+              long requestEnd = System.nanoTime();
+
+              latencyRecorder.recordNanos(requestEnd - requestStart);
+              timelineRecorder.record(requestEnd, requestEnd - requestStart);
+            } catch (Exception ex) {
+              ex.printStackTrace();
+            }
           }
         };
+    for (int i = 0; i < this.getConcurrentUsers(); i++) {
+      executor.execute(worker);
+    }
 
-    long totalDurationMs = this.runConcurrentRequestsForDuration(runnable);
+    try {
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      throw new RuntimeException("ThreadPoolExecutor has been interrupted");
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
 
-    return new ApiBenchmarkResult(requestDurations.size(), totalDurationMs, requestDurations);
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder)
+        .withTimeline(timelineRecorder.getBuckets());
   }
 
-  private long runConcurrentRequestsForDuration(Runnable runnable) {
-    ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1000);
+  /**
+   * Keeps one asynchronous request in flight per concurrent user until the duration has elapsed. A
+   * permit is taken for every request that is sent and returned once it has completed. At the end
+   * all permits are taken again, so every request in flight has completed before returning.
+   *
+   * @param executeRequest sends a single request and returns a future of its completion.
+   * @return the result of the benchmark.
+   */
+  private ApiBenchmarkResult runAsyncBenchmark(Supplier<CompletableFuture<Void>> executeRequest) {
+    Semaphore inFlightRequests = new Semaphore(this.getConcurrentUsers());
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+
+    long totalStart = System.currentTimeMillis();
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.SECONDS.toNanos(this.durationSeconds);
+    TimelineRecorder timelineRecorder = new TimelineRecorder(start);
 
-    long end = System.currentTimeMillis() + (this.durationSeconds * 1000L);
-    long start = System.currentTimeMillis();
-    while (System.currentTimeMillis() < end) {
-      for (int i = 0; i < this.getConcurrentUsers() - executor.getActiveCount(); i++) {
-        executor.submit(runnable);
+    try {
+      while (System.nanoTime() < deadline) {
+        // a timeout of zero still takes a free permit, so the deadline is checked separately
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0
+            || !inFlightRequests.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS)) {
+          break;
+        }
+        long requestStart = System.nanoTime();
+
+        CompletableFuture<Void> response;
+        try {
+          response = executeRequest.get();
+        } catch (Exception ex) {
+          response = CompletableFuture.failedFuture(ex);
+        }
+        response.whenComplete(
+            (result, ex) -> {
+              if (ex != null) {
+                ex.printStackTrace();
+              } else {
+                long requestEnd = System.nanoTime();
+                latencyRecorder.recordNanos(requestEnd - requestStart);
+                timelineRecorder.record(requestEnd, requestEnd - requestStart);
+              }
+              inFlightRequests.release();
+            });
       }
-    }
 
-    try {
-      executor.getQueue().clear();
-      executor.shutdown();
-      executor.awaitTermination(1, TimeUnit.SECONDS);
-      return System.currentTimeMillis() - start;
+      inFlightRequests.acquire(this.getConcurrentUsers());
     } catch (InterruptedException ex) {
-      throw new RuntimeException("ThreadPoolExecutor has been interrupted");
+      throw new RuntimeException("Asynchronous requests have been interrupted");
     }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder)
+        .withTimeline(timelineRecorder.getBuckets());
   }
 }
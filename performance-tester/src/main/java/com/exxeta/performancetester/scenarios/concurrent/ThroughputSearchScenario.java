@@ -0,0 +1,180 @@
+package com.exxeta.performancetester.scenarios.concurrent;
+
+import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.ExecutorType;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.ThroughputSearchResult;
+import com.exxeta.performancetester.model.ThroughputSearchStep;
+import com.exxeta.performancetester.requests.Request;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Searches for the highest request rate that an API can sustain. Every tested rate is executed as
+ * an open-loop load test. A rate is sustainable if the request duration at the configured
+ * percentile stays within the latency limit and the share of failed requests stays within the
+ * error rate limit. The rate is narrowed down by a binary search between the minimum and the
+ * maximum rate.
+ *
+ * <p>The returned benchmark result contains the latencies of the highest sustainable rate, or of
+ * the minimum rate if no rate was sustainable.
+ */
+public class ThroughputSearchScenario extends ConcurrentScenario {
+  // gives the services time to settle after a rate that overloaded them
+  private static final Duration STEP_COOL_DOWN = Duration.ofSeconds(2);
+
+  private final Request request;
+  private final int minRequestsPerSecond;
+  private final int maxRequestsPerSecond;
+  private final int resolutionRequestsPerSecond;
+  private final int stepDurationSeconds;
+  private final double percentile;
+  private final long maxLatencyNanos;
+  private final double maxErrorRate;
+
+  @Builder
+  public ThroughputSearchScenario(
+      @NonNull Request request,
+      @NonNull Integer minRequestsPerSecond,
+      @NonNull Integer maxRequestsPerSecond,
+      @NonNull Integer resolutionRequestsPerSecond,
+      @NonNull Integer stepDurationSeconds,
+      @NonNull Double percentile,
+      @NonNull Long maxLatencyMs,
+      @NonNull Double maxErrorRate,
+      @NonNull String outputFileName,
+      @NonNull String description,
+      @Singular @NonNull List<Microservice> requiredServices,
+      Integer warmupRequestCount,
+      ExecutorType executorType) {
+    super(
+        maxRequestsPerSecond,
+        requiredServices,
+        outputFileName,
+        description,
+        false,
+        warmupRequestCount,
+        executorType);
+    if (minRequestsPerSecond <= 0 || minRequestsPerSecond > maxRequestsPerSecond) {
+      throw new IllegalArgumentException(
+          "minRequestsPerSecond must be positive and not greater than maxRequestsPerSecond");
+    }
+
+    this.request = request;
+    this.minRequestsPerSecond = minRequestsPerSecond;
+    this.maxRequestsPerSecond = maxRequestsPerSecond;
+    this.resolutionRequestsPerSecond = Math.max(resolutionRequestsPerSecond, 1);
+    this.stepDurationSeconds = stepDurationSeconds;
+    this.percentile = percentile;
+    this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+    this.maxErrorRate = maxErrorRate;
+  }
+
+  @Override
+  public ApiBenchmarkResult runGrpcApiBenchmark() {
+    return this.search(LoadTestScenario::runGrpcApiBenchmark);
+  }
+
+  @Override
+  public ApiBenchmarkResult runRestApiBenchmark() {
+    return this.search(LoadTestScenario::runRestApiBenchmark);
+  }
+
+  /**
+   * Binary searches the highest sustainable request rate.
+   *
+   * @param runBenchmark runs the load test of a single request rate against one API type.
+   * @return the benchmark result of the highest sustainable rate including all tested steps.
+   */
+  private ApiBenchmarkResult search(Function<LoadTestScenario, ApiBenchmarkResult> runBenchmark) {
+    List<ThroughputSearchStep> steps = new ArrayList<>();
+
+    ApiBenchmarkResult lowestResult = this.runStep(this.minRequestsPerSecond, runBenchmark, steps);
+    if (!steps.get(0).sustainable()) {
+      return this.withSearchResult(lowestResult, 0, steps);
+    }
+
+    int sustainable = this.minRequestsPerSecond;
+    ApiBenchmarkResult sustainableResult = lowestResult;
+    int unsustainable = this.maxRequestsPerSecond + 1;
+
+    // the maximum rate is tested first, so a service that handles every rate needs only two steps
+    int nextRate = this.maxRequestsPerSecond;
+    while (nextRate > sustainable
+        && unsustainable - sustainable > this.resolutionRequestsPerSecond) {
+      ApiBenchmarkResult result = this.runStep(nextRate, runBenchmark, steps);
+      if (steps.get(steps.size() - 1).sustainable()) {
+        sustainable = nextRate;
+        sustainableResult = result;
+      } else {
+        unsustainable = nextRate;
+      }
+      nextRate = sustainable + (unsustainable - sustainable) / 2;
+    }
+
+    return this.withSearchResult(sustainableResult, sustainable, steps);
+  }
+
+  /**
+   * Runs an open-loop load test with a single request rate and evaluates it against the limits.
+   *
+   * @param requestsPerSecond the request rate to test.
+   * @param runBenchmark runs the load test against one API type.
+   * @param steps the list to which the evaluated step is added.
+   * @return the result of the load test.
+   */
+  private ApiBenchmarkResult runStep(
+      int requestsPerSecond,
+      Function<LoadTestScenario, ApiBenchmarkResult> runBenchmark,
+      List<ThroughputSearchStep> steps) {
+    LoadTestScenario loadTestScenario =
+        LoadTestScenario.builder()
+            .request(this.request)
+            .requestsPerSecond(requestsPerSecond)
+            .durationSeconds(this.stepDurationSeconds)
+            .openLoop(true)
+            .warmupRequestCount(this.getWarmupRequestCount())
+            .executorType(this.getExecutorType())
+            .requiredServices(this.getRequiredServices())
+            .outputFileName(this.getOutputFileName())
+            .description(this.getDescription())
+            .build();
+    ApiBenchmarkResult result = runBenchmark.apply(loadTestScenario);
+
+    long sentRequests = (long) requestsPerSecond * this.stepDurationSeconds;
+    double errorRate = 1.0 - (double) result.requestCount() / sentRequests;
+    long percentileLatencyNanos = result.decodeHistogram().getValueAtPercentile(this.percentile);
+    boolean sustainable =
+        percentileLatencyNanos <= this.maxLatencyNanos && errorRate <= this.maxErrorRate;
+    steps.add(
+        new ThroughputSearchStep(
+            requestsPerSecond, percentileLatencyNanos, errorRate, sustainable));
+
+    try {
+      Thread.sleep(STEP_COOL_DOWN.toMillis());
+    } catch (InterruptedException ex) {
+      throw new RuntimeException("Throughput search has been interrupted");
+    }
+
+    return result;
+  }
+
+  private ApiBenchmarkResult withSearchResult(
+      ApiBenchmarkResult result,
+      int maxSustainableRequestsPerSecond,
+      List<ThroughputSearchStep> steps) {
+    return result.withThroughputSearch(
+        new ThroughputSearchResult(
+            this.percentile,
+            this.maxLatencyNanos,
+            this.maxErrorRate,
+            maxSustainableRequestsPerSecond,
+            List.copyOf(steps)));
+  }
+}
@@ -0,0 +1,94 @@
+package com.exxeta.performancetester.scenarios.synchronous;
+
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.metrics.WireSizeRecorder;
+import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.CompressionResult;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.PayloadCompression;
+import com.exxeta.performancetester.requests.CompressibleRequest;
+import com.exxeta.performancetester.scenarios.Scenario;
+import java.util.List;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Synchronous scenario that executes requests with compressed responses one after another. The
+ * result contains the bytes that were received on the wire and the uncompressed bytes, so the
+ * same scenario with and without compression shows the saved bandwidth and the additional
+ * latency. REST requests use the {@link PayloadCompression#getRestCompression() REST compression},
+ * which is also recorded in the result of the REST benchmark.
+ */
+public class CompressionTestScenario extends Scenario {
+  private final CompressibleRequest request;
+  private final PayloadCompression compression;
+  private final int requestCount;
+
+  /**
+   * Creates a compression scenario.
+   *
+   * @param request the request whose responses are compressed.
+   * @param compression the compression of the requests and the responses.
+   * @param requestCount the amount of requests.
+   */
+  @Builder
+  public CompressionTestScenario(
+      @NonNull CompressibleRequest request,
+      @NonNull PayloadCompression compression,
+      @NonNull Integer requestCount,
+      @NonNull String outputFileName,
+      @NonNull String description,
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount) {
+    super(1, requiredServices, outputFileName, description, recordRawSamples, warmupRequestCount);
+    this.request = request;
+    this.compression = compression;
+    this.requestCount = requestCount;
+  }
+
+  @Override
+  public ApiBenchmarkResult runGrpcApiBenchmark() {
+    return this.runBenchmark(true);
+  }
+
+  @Override
+  public ApiBenchmarkResult runRestApiBenchmark() {
+    return this.runBenchmark(false);
+  }
+
+  private ApiBenchmarkResult runBenchmark(boolean grpc) {
+    PayloadCompression usedCompression =
+        grpc ? this.compression : this.compression.getRestCompression();
+
+    // warm-up
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
+      this.execute(grpc, usedCompression, new WireSizeRecorder());
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    WireSizeRecorder wireSizeRecorder = new WireSizeRecorder();
+    long totalStart = System.currentTimeMillis();
+    for (int i = 1; i <= this.requestCount; i++) {
+      long start = System.nanoTime();
+      this.execute(grpc, usedCompression, wireSizeRecorder);
+      long duration = System.nanoTime() - start;
+
+      latencyRecorder.recordNanos(duration);
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder)
+        .withCompression(CompressionResult.of(usedCompression, wireSizeRecorder));
+  }
+
+  private void execute(
+      boolean grpc, PayloadCompression usedCompression, WireSizeRecorder wireSizeRecorder) {
+    if (grpc) {
+      this.request.executeGrpcRequest(usedCompression, wireSizeRecorder);
+    } else {
+      this.request.executeRestRequest(usedCompression, wireSizeRecorder);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.exxeta.performancetester.scenarios.synchronous;
+
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.IngestResult;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.requests.IngestRequest;
+import com.exxeta.performancetester.scenarios.Scenario;
+import java.util.List;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Synchronous scenario that ingests a fixed amount of items in batches, one batch after another.
+ * Every request sends a single batch, so the amount of requests depends on the batch size of the
+ * request. The result contains the amount of ingested items, which yields the ingested items per
+ * second for different batch sizes.
+ */
+public class IngestTestScenario extends Scenario {
+  private final IngestRequest request;
+  private final int requestCount;
+
+  /**
+   * Creates an ingest scenario.
+   *
+   * @param request the request that ingests a single batch.
+   * @param itemCount the amount of items to ingest, rounded up to a multiple of the batch size.
+   */
+  @Builder
+  public IngestTestScenario(
+      @NonNull IngestRequest request,
+      @NonNull Integer itemCount,
+      @NonNull String outputFileName,
+      @NonNull String description,
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount) {
+    super(1, requiredServices, outputFileName, description, recordRawSamples, warmupRequestCount);
+    this.request = request;
+    this.requestCount =
+        Math.max(1, (itemCount + request.getItemCount() - 1) / request.getItemCount());
+  }
+
+  @Override
+  public ApiBenchmarkResult runGrpcApiBenchmark() {
+    return this.runBenchmark(true);
+  }
+
+  @Override
+  public ApiBenchmarkResult runRestApiBenchmark() {
+    return this.runBenchmark(false);
+  }
+
+  private ApiBenchmarkResult runBenchmark(boolean grpc) {
+    // warm-up
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
+      this.execute(grpc);
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    long totalStart = System.currentTimeMillis();
+    for (int i = 1; i <= this.requestCount; i++) {
+      long start = System.nanoTime();
+      this.execute(grpc);
+      long duration = System.nanoTime() - start;
+
+      latencyRecorder.recordNanos(duration);
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder)
+        .withIngest(
+            new IngestResult(
+                this.request.getItemCount(),
+                (long) this.requestCount * this.request.getItemCount()));
+  }
+
+  private void execute(boolean grpc) {
+    if (grpc) {
+      this.request.executeGrpcRequest();
+    } else {
+      this.request.executeRestRequest();
+    }
+  }
+}
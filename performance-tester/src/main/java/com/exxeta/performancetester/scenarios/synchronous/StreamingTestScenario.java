@@ -0,0 +1,89 @@
+package com.exxeta.performancetester.scenarios.synchronous;
+
+import com.exxeta.performancetester.metrics.LatencyRecorder;
+import com.exxeta.performancetester.model.ApiBenchmarkResult;
+import com.exxeta.performancetester.model.Microservice;
+import com.exxeta.performancetester.model.StreamingResult;
+import com.exxeta.performancetester.requests.Request;
+import com.exxeta.performancetester.requests.StreamingRequest;
+import com.exxeta.performancetester.scenarios.Scenario;
+import java.util.List;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Synchronous scenario that executes requests one after another and additionally measures the
+ * duration until the first item of every response has been received.
+ *
+ * <p>Streamed or paged responses are compared with unary responses this way: the first item of a
+ * {@link StreamingRequest} arrives with its first batch or page, while every other request receives
+ * all items at once, so its first item arrives when the request has completed.
+ */
+public class StreamingTestScenario extends Scenario {
+  private final Request request;
+  private final int requestCount;
+
+  @Builder
+  public StreamingTestScenario(
+      @NonNull Request request,
+      @NonNull Integer requestCount,
+      @NonNull String outputFileName,
+      @NonNull String description,
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount) {
+    super(1, requiredServices, outputFileName, description, recordRawSamples, warmupRequestCount);
+    this.request = request;
+    this.requestCount = requestCount;
+  }
+
+  @Override
+  public ApiBenchmarkResult runGrpcApiBenchmark() {
+    return this.runBenchmark(true);
+  }
+
+  @Override
+  public ApiBenchmarkResult runRestApiBenchmark() {
+    return this.runBenchmark(false);
+  }
+
+  private ApiBenchmarkResult runBenchmark(boolean grpc) {
+    // warm-up
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
+      this.execute(grpc, () -> {});
+    }
+
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
+    LatencyRecorder firstItemRecorder = this.createLatencyRecorder();
+    long[] firstItemTime = new long[1];
+    long totalStart = System.currentTimeMillis();
+    for (int i = 1; i <= this.requestCount; i++) {
+      firstItemTime[0] = 0;
+      long start = System.nanoTime();
+      this.execute(grpc, () -> firstItemTime[0] = System.nanoTime());
+      long end = System.nanoTime();
+
+      latencyRecorder.recordNanos(end - start);
+      firstItemRecorder.recordNanos((firstItemTime[0] != 0 ? firstItemTime[0] : end) - start);
+    }
+    long totalDurationMs = System.currentTimeMillis() - totalStart;
+
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder)
+        .withStreaming(StreamingResult.of(firstItemRecorder));
+  }
+
+  private void execute(boolean grpc, Runnable firstItemListener) {
+    if (this.request instanceof StreamingRequest streamingRequest) {
+      if (grpc) {
+        streamingRequest.executeGrpcRequest(firstItemListener);
+      } else {
+        streamingRequest.executeRestRequest(firstItemListener);
+      }
+    } else if (grpc) {
+      this.request.executeGrpcRequest();
+    } else {
+      this.request.executeRestRequest();
+    }
+  }
+}
@@ -1,10 +1,10 @@
 package com.exxeta.performancetester.scenarios.synchronous;
 
+import com.exxeta.performancetester.metrics.LatencyRecorder;
 import com.exxeta.performancetester.model.ApiBenchmarkResult;
 import com.exxeta.performancetester.model.Microservice;
 import com.exxeta.performancetester.requests.Request;
 import com.exxeta.performancetester.scenarios.Scenario;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.NonNull;
@@ -21,8 +21,10 @@ public class SynchronousTestScenario extends Scenario {
       @NonNull Integer requestCount,
       @NonNull String outputFileName,
       @NonNull String description,
-      @Singular @NonNull List<Microservice> requiredServices) {
-    super(1, requiredServices, outputFileName, description);
+      @Singular @NonNull List<Microservice> requiredServices,
+      boolean recordRawSamples,
+      Integer warmupRequestCount) {
+    super(1, requiredServices, outputFileName, description, recordRawSamples, warmupRequestCount);
     this.request = request;
     this.requestCount = requestCount;
   }
@@ -30,42 +32,42 @@ public class SynchronousTestScenario extends Scenario {
   @Override
   public ApiBenchmarkResult runGrpcApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeGrpcRequest();
     }
 
-    List<Long> durations = new ArrayList<>(this.requestCount);
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
     long totalStart = System.currentTimeMillis();
     for (int i = 1; i <= this.requestCount; i++) {
       long start = System.nanoTime();
       request.executeGrpcRequest();
       long duration = System.nanoTime() - start;
 
-      durations.add(duration);
+      latencyRecorder.recordNanos(duration);
     }
     long totalDurationMs = System.currentTimeMillis() - totalStart;
 
-    return new ApiBenchmarkResult(this.requestCount, totalDurationMs, durations);
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder);
   }
 
   @Override
   public ApiBenchmarkResult runRestApiBenchmark() {
     // warm-up
-    for (int i = 1; i <= WARMUP_REQUEST_COUNT; i++) {
+    for (int i = 1; i <= this.getWarmupRequestCount(); i++) {
       request.executeRestRequest();
     }
 
-    List<Long> durations = new ArrayList<>(this.requestCount);
+    LatencyRecorder latencyRecorder = this.createLatencyRecorder();
     long totalStart = System.currentTimeMillis();
     for (int i = 1; i <= this.requestCount; i++) {
       long start = System.nanoTime();
       request.executeRestRequest();
       long duration = System.nanoTime() - start;
 
-      durations.add(duration);
+      latencyRecorder.recordNanos(duration);
     }
     long totalDurationMs = System.currentTimeMillis() - totalStart;
 
-    return new ApiBenchmarkResult(this.requestCount, totalDurationMs, durations);
+    return ApiBenchmarkResult.of(totalDurationMs, latencyRecorder);
   }
 }
@@ -1,8 +1,10 @@
 package com.exxeta.randomdataservice.config;
 
 import com.exxeta.randomdataservice.randomdata.api.grpc.RandomDataServiceGrpcApi;
+import io.grpc.CompressorRegistry;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,10 +15,25 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @Slf4j
 public class GrpcServerConfig {
+  // a unary upload contains all uploaded bytes in a single message
+  private static final int MAX_INBOUND_MESSAGE_SIZE = 128 * 1024 * 1024;
 
   public GrpcServerConfig(
-      RandomDataServiceGrpcApi randomDataService, @Value("${server.grpc.port}") Integer grpcPort) {
-    Server server = ServerBuilder.forPort(grpcPort).addService(randomDataService).build();
+      RandomDataServiceGrpcApi randomDataService,
+      @Value("${server.grpc.port}") Integer grpcPort,
+      @Value("${server.grpc.compression}") String compression) {
+    CompressorRegistry compressorRegistry = GrpcCompression.createCompressorRegistry();
+    Server server =
+        ServerBuilder.forPort(grpcPort)
+            .addService(randomDataService)
+            .addService(new HealthStatusManager().getHealthService())
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .intercept(
+                GrpcCompression.createResponseCompressionInterceptor(
+                    compressorRegistry, compression))
+            .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
+            .build();
     try {
       server.start();
       log.info("gRPC-Server started on port: {}", grpcPort);
@@ -1,11 +1,20 @@
 package com.exxeta.randomdataservice.randomdata.api.grpc;
 
 import com.exxeta.randomdataservice.GetRandomDataRequest;
+import com.exxeta.randomdataservice.RandomBytesGrpcDto;
 import com.exxeta.randomdataservice.RandomDataGrpcDto;
 import com.exxeta.randomdataservice.RandomDataServiceGrpc.RandomDataServiceImplBase;
+import com.exxeta.randomdataservice.StreamRandomBytesRequest;
+import com.exxeta.randomdataservice.UploadSummaryGrpcDto;
 import com.exxeta.randomdataservice.randomdata.service.RandomDataService;
+import com.exxeta.randomdataservice.randomdata.service.UploadDigest;
+import com.exxeta.randomdataservice.randomdata.service.UploadSummary;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,10 +30,17 @@ public class RandomDataServiceGrpcApi extends RandomDataServiceImplBase {
   public void getRandomData(
       GetRandomDataRequest request, StreamObserver<RandomDataGrpcDto> responseObserver) {
     int byteCount = request.getByteCount();
-    if (byteCount > RandomDataService.MAX_LENGTH) {
+    if (byteCount > this.randomDataService.getMaxLength()) {
       responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
       return;
     }
+    if (!this.randomDataService.getEntropy().isPrintable()) {
+      responseObserver.onError(
+          Status.FAILED_PRECONDITION
+              .withDescription("Random data is only available as bytes")
+              .asRuntimeException());
+      return;
+    }
 
     String data = this.randomDataService.getRandomDataString(byteCount);
 
@@ -33,4 +49,118 @@ public class RandomDataServiceGrpcApi extends RandomDataServiceImplBase {
     responseObserver.onNext(response);
     responseObserver.onCompleted();
   }
+
+  /**
+   * Returns the random data as raw bytes. The bytes are wrapped without copying, so they are only
+   * copied once while the response is serialized.
+   */
+  @Override
+  public void getRandomBytes(
+      GetRandomDataRequest request, StreamObserver<RandomBytesGrpcDto> responseObserver) {
+    int byteCount = request.getByteCount();
+    if (byteCount < 0 || byteCount > this.randomDataService.getMaxLength()) {
+      responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+      return;
+    }
+
+    ByteString data =
+        UnsafeByteOperations.unsafeWrap(this.randomDataService.getRandomBytes(byteCount));
+
+    RandomBytesGrpcDto response = RandomBytesGrpcDto.newBuilder().setData(data).build();
+
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * Streams the random data as raw bytes in chunks. A chunk is only sent while the call is ready,
+   * so a slow client applies backpressure instead of the chunks being buffered on the server.
+   */
+  @Override
+  public void streamRandomBytes(
+      StreamRandomBytesRequest request, StreamObserver<RandomBytesGrpcDto> responseObserver) {
+    int byteCount = request.getByteCount();
+    if (byteCount < 0 || byteCount > RandomDataService.MAX_STREAM_LENGTH) {
+      responseObserver.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+      return;
+    }
+
+    int chunkSize = RandomDataService.resolveChunkSize(request.getChunkSize());
+    ServerCallStreamObserver<RandomBytesGrpcDto> serverCallObserver =
+        (ServerCallStreamObserver<RandomBytesGrpcDto>) responseObserver;
+
+    // chunks are no longer sent once the call is cancelled, since it is never ready again
+    serverCallObserver.setOnCancelHandler(() -> {});
+    serverCallObserver.setOnReadyHandler(
+        new Runnable() {
+          private int sentBytes;
+          private boolean completed;
+
+          @Override
+          public void run() {
+            while (!this.completed && serverCallObserver.isReady()) {
+              if (this.sentBytes == byteCount) {
+                this.completed = true;
+                serverCallObserver.onCompleted();
+                return;
+              }
+
+              ByteBuffer chunk =
+                  randomDataService.getRandomBytesChunk(
+                      this.sentBytes, Math.min(chunkSize, byteCount - this.sentBytes));
+              this.sentBytes += chunk.remaining();
+              serverCallObserver.onNext(
+                  RandomBytesGrpcDto.newBuilder()
+                      .setData(UnsafeByteOperations.unsafeWrap(chunk))
+                      .build());
+            }
+          }
+        });
+  }
+
+  /** Consumes the bytes of a single upload message and returns their byte count and digest. */
+  @Override
+  public void uploadBytes(
+      RandomBytesGrpcDto request, StreamObserver<UploadSummaryGrpcDto> responseObserver) {
+    UploadDigest uploadDigest = new UploadDigest();
+    uploadDigest.update(request.getData().asReadOnlyByteBuffer());
+
+    responseObserver.onNext(this.mapUploadSummary(uploadDigest.complete()));
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * Consumes the bytes of all streamed upload chunks. Every chunk is checksummed once it was
+   * received and discarded afterwards, so the uploaded bytes are never kept in memory.
+   */
+  @Override
+  public StreamObserver<RandomBytesGrpcDto> uploadByteStream(
+      StreamObserver<UploadSummaryGrpcDto> responseObserver) {
+    UploadDigest uploadDigest = new UploadDigest();
+
+    return new StreamObserver<>() {
+      @Override
+      public void onNext(RandomBytesGrpcDto chunk) {
+        uploadDigest.update(chunk.getData().asReadOnlyByteBuffer());
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        // the upload was cancelled by the client, so there is nobody to respond to
+      }
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onNext(mapUploadSummary(uploadDigest.complete()));
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
+  private UploadSummaryGrpcDto mapUploadSummary(UploadSummary uploadSummary) {
+    return UploadSummaryGrpcDto.newBuilder()
+        .setByteCount(uploadSummary.byteCount())
+        .setDigest(uploadSummary.digest())
+        .build();
+  }
 }
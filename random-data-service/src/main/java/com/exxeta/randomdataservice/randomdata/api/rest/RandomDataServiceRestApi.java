@@ -1,15 +1,21 @@
 package com.exxeta.randomdataservice.randomdata.api.rest;
 
 import com.exxeta.randomdataservice.randomdata.api.rest.dto.RandomDataRestDto;
+import com.exxeta.randomdataservice.randomdata.api.rest.dto.UploadSummaryRestDto;
 import com.exxeta.randomdataservice.randomdata.service.RandomDataService;
+import com.exxeta.randomdataservice.randomdata.service.UploadSummary;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(path = "/data", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -23,11 +29,75 @@ public class RandomDataServiceRestApi {
 
   @GetMapping
   public ResponseEntity<RandomDataRestDto> getRandomData(@RequestParam("byteCount") int byteCount) {
-    if (byteCount > RandomDataService.MAX_LENGTH) {
+    if (byteCount > this.randomDataService.getMaxLength()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
     }
+    if (!this.randomDataService.getEntropy().isPrintable()) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Random data is only available as bytes");
+    }
 
     String randomData = this.randomDataService.getRandomDataString(byteCount);
     return ResponseEntity.ok(new RandomDataRestDto(randomData));
   }
+
+  /**
+   * Streams the random data as raw bytes. The bytes are written directly from the shared buffer of
+   * the {@link RandomDataService}, without creating a string or encoding JSON.
+   */
+  @GetMapping(path = "/bytes", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<StreamingResponseBody> getRandomBytes(
+      @RequestParam("byteCount") int byteCount) {
+    if (byteCount < 0 || byteCount > this.randomDataService.getMaxLength()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+    }
+
+    StreamingResponseBody body =
+        outputStream -> this.randomDataService.writeRandomBytes(outputStream, byteCount);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .contentLength(byteCount)
+        .body(body);
+  }
+
+  /**
+   * Streams the random data as raw bytes in chunks. The response has no content length, so it is
+   * sent with chunked transfer encoding and every chunk is flushed once it was written.
+   */
+  @GetMapping(path = "/bytes/stream", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamRandomBytes(
+      @RequestParam("byteCount") int byteCount,
+      @RequestParam(value = "chunkSize", defaultValue = "0") int chunkSize) {
+    if (byteCount < 0 || byteCount > RandomDataService.MAX_STREAM_LENGTH) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+    }
+
+    int resolvedChunkSize = RandomDataService.resolveChunkSize(chunkSize);
+    StreamingResponseBody body =
+        outputStream -> {
+          int writtenBytes = 0;
+          while (writtenBytes < byteCount) {
+            writtenBytes +=
+                this.randomDataService.writeRandomBytesChunk(
+                    outputStream,
+                    writtenBytes,
+                    Math.min(resolvedChunkSize, byteCount - writtenBytes));
+            outputStream.flush();
+          }
+        };
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(body);
+  }
+
+  /**
+   * Consumes an upload of raw bytes and returns their byte count and digest. The request body is
+   * read in chunks while it is received, so it is never kept in memory.
+   */
+  @PostMapping(path = "/upload", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<UploadSummaryRestDto> uploadBytes(InputStream body) throws IOException {
+    UploadSummary uploadSummary = this.randomDataService.consumeUpload(body);
+    return ResponseEntity.ok(
+        new UploadSummaryRestDto(uploadSummary.byteCount(), uploadSummary.digest()));
+  }
 }
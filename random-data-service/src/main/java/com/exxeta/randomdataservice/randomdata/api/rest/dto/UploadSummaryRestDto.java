@@ -0,0 +1,3 @@
+package com.exxeta.randomdataservice.randomdata.api.rest.dto;
+
+public record UploadSummaryRestDto(long byteCount, String digest) {}
@@ -0,0 +1,124 @@
+package com.exxeta.randomdataservice.randomdata.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * The entropy of the generated random data, which determines how well the data can be compressed.
+ * Except for {@link #FULL}, every generated byte is a printable ASCII character, so the data can
+ * also be returned as a string with a single byte per character.
+ */
+public enum RandomDataEntropy {
+  /**
+   * Uniformly random bytes of the full byte range with 8 bits per byte, which no compression codec
+   * can reduce. The data is not printable, so it can only be returned as bytes.
+   */
+  FULL {
+    @Override
+    void fill(byte[] bytes, int from, int to, SplittableRandom random) {
+      int i = from;
+      while (i < to) {
+        long value = random.nextLong();
+        for (int end = Math.min(i + Long.BYTES, to); i < end; i++) {
+          bytes[i] = (byte) value;
+          value >>>= Byte.SIZE;
+        }
+      }
+    }
+
+    @Override
+    public boolean isPrintable() {
+      return false;
+    }
+  },
+
+  /**
+   * Uniformly random printable ASCII characters without quotes and backslashes, which are escaped
+   * in JSON. With about 6.5 bits per byte, gzip still reduces the size to about 83%.
+   */
+  HIGH {
+    @Override
+    void fill(byte[] bytes, int from, int to, SplittableRandom random) {
+      for (int i = from; i < to; i++) {
+        bytes[i] = PRINTABLE_CHARACTERS[random.nextInt(PRINTABLE_CHARACTERS.length)];
+      }
+    }
+  },
+
+  /** Uniformly random lowercase letters with about 4.7 bits per byte. */
+  MEDIUM {
+    @Override
+    void fill(byte[] bytes, int from, int to, SplittableRandom random) {
+      for (int i = from; i < to; i++) {
+        bytes[i] = (byte) (random.nextInt(26) + 'a');
+      }
+    }
+  },
+
+  /**
+   * Random words of a small vocabulary separated by spaces, which compresses similar to natural
+   * text.
+   */
+  LOW {
+    @Override
+    void fill(byte[] bytes, int from, int to, SplittableRandom random) {
+      int i = from;
+      while (i < to) {
+        byte[] word = WORDS[random.nextInt(WORDS.length)];
+        int length = Math.min(word.length, to - i);
+        System.arraycopy(word, 0, bytes, i, length);
+        i += length;
+        if (i < to) {
+          bytes[i++] = ' ';
+        }
+      }
+    }
+  };
+
+  private static final byte[] PRINTABLE_CHARACTERS = createPrintableCharacters();
+
+  private static final byte[][] WORDS =
+      toBytes(
+          "order", "product", "user", "price", "shop", "service", "request", "response",
+          "category", "recommend", "data", "random", "stream", "client", "server", "message",
+          "payload", "latency", "throughput", "the", "a", "of", "and", "to", "in", "is",
+          "for", "with", "on", "by", "from");
+
+  /**
+   * Fills a range of an array with random data of this entropy.
+   *
+   * @param bytes the array to fill.
+   * @param from the index of the first byte to fill, inclusive.
+   * @param to the index of the last byte to fill, exclusive.
+   * @param random the generator of the random values.
+   */
+  abstract void fill(byte[] bytes, int from, int to, SplittableRandom random);
+
+  /**
+   * Returns if every generated byte is a printable ASCII character.
+   *
+   * @return true if the data can be returned as a string.
+   */
+  public boolean isPrintable() {
+    return true;
+  }
+
+  private static byte[] createPrintableCharacters() {
+    byte[] characters = new byte['~' - ' ' + 1 - 2];
+    int index = 0;
+    for (char c = ' '; c <= '~'; c++) {
+      if (c != '"' && c != '\\') {
+        characters[index++] = (byte) c;
+      }
+    }
+    return characters;
+  }
+
+  private static byte[][] toBytes(String... words) {
+    byte[][] bytes = new byte[words.length][];
+    for (int i = 0; i < words.length; i++) {
+      bytes[i] = words[i].getBytes(StandardCharsets.US_ASCII);
+    }
+    return bytes;
+  }
+}
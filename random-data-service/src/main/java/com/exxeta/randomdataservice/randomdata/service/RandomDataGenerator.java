@@ -0,0 +1,52 @@
+package com.exxeta.randomdataservice.randomdata.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generates random data in parallel. The data is divided into blocks of a fixed size and each block
+ * is filled by its own generator, which is split from a generator with the configured seed. The
+ * generators are split in the order of the blocks, so the same seed always generates the same data,
+ * independent of the amount of threads.
+ */
+public class RandomDataGenerator {
+  private static final int BLOCK_SIZE = 1024 * 1024;
+
+  private final long seed;
+  private final RandomDataEntropy entropy;
+
+  public RandomDataGenerator(long seed, RandomDataEntropy entropy) {
+    this.seed = seed;
+    this.entropy = entropy;
+  }
+
+  /**
+   * Generates random data on the threads of the common fork-join pool.
+   *
+   * @param length the amount of bytes to generate.
+   * @return the generated bytes, each of them is a printable ASCII character.
+   */
+  public byte[] generate(int length) {
+    byte[] bytes = new byte[length];
+    int blockCount = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+    SplittableRandom random = new SplittableRandom(this.seed);
+    List<SplittableRandom> blockRandoms = new ArrayList<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      blockRandoms.add(random.split());
+    }
+
+    IntStream.range(0, blockCount)
+        .parallel()
+        .forEach(
+            block -> {
+              int from = block * BLOCK_SIZE;
+              int to = Math.min(from + BLOCK_SIZE, length);
+              this.entropy.fill(bytes, from, to, blockRandoms.get(block));
+            });
+
+    return bytes;
+  }
+}
@@ -1,19 +1,55 @@
 package com.exxeta.randomdataservice.randomdata.service;
 
-import java.util.Random;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Getter
+@Slf4j
 public class RandomDataService {
-  // 10 Megabytes if each char is encoded in a single byte
-  public static final int MAX_LENGTH = 10 * 1000 * 1000;
+  // 1 Gigabyte, which also keeps the generated data below the maximum size of an array
+  public static final int MAX_GENERATED_LENGTH = 1000 * 1000 * 1000;
 
-  private final String randomData10Mb;
+  // streams repeat the random bytes, so they are not limited by the size of the random bytes
+  public static final int MAX_STREAM_LENGTH = 1000 * 1000 * 1000;
+  public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+  // below the default maximum message size of gRPC
+  public static final int MAX_CHUNK_SIZE = 4 * 1000 * 1000;
 
-  public RandomDataService() {
-    this.randomData10Mb = this.generateRandomString();
+  // the maximum amount of random data that can be requested at once
+  private final int maxLength;
+
+  private final RandomDataEntropy entropy;
+
+  @Getter(AccessLevel.NONE)
+  private final byte[] randomBytes;
+
+  public RandomDataService(
+      @Value("${randomData.maxLength}") Integer maxLength,
+      @Value("${randomData.seed}") Long seed,
+      @Value("${randomData.entropy}") RandomDataEntropy entropy) {
+    if (maxLength <= 0 || maxLength > MAX_GENERATED_LENGTH) {
+      throw new IllegalArgumentException(
+          "randomData.maxLength must be between 1 and " + MAX_GENERATED_LENGTH);
+    }
+
+    long startTime = System.nanoTime();
+    this.maxLength = maxLength;
+    this.entropy = entropy;
+    this.randomBytes = new RandomDataGenerator(seed, entropy).generate(maxLength);
+    log.info(
+        "Generated {} bytes of random data with {} entropy in {} ms",
+        maxLength,
+        entropy,
+        (System.nanoTime() - startTime) / 1_000_000);
   }
 
   /**
@@ -21,23 +57,104 @@ public class RandomDataService {
    *
    * @param length the amount of characters that should be returned.
    * @return the random data string with the specified length.
+   * @throws IllegalStateException if the random data is not printable.
    */
   public String getRandomDataString(int length) {
-    return this.randomData10Mb.substring(0, length);
+    if (!this.entropy.isPrintable()) {
+      throw new IllegalStateException(this.entropy + " random data cannot be returned as a string");
+    }
+    return new String(this.randomBytes, 0, length, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Returns random generated bytes without copying them. The returned buffer is a read-only view of
+   * the same bytes for every call, so it can be shared by concurrent responses.
+   *
+   * @param length the amount of bytes that should be returned.
+   * @return a read-only buffer containing the specified amount of random bytes.
+   */
+  public ByteBuffer getRandomBytes(int length) {
+    return ByteBuffer.wrap(this.randomBytes, 0, length).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Writes random generated bytes directly from the shared bytes to an output stream, without
+   * copying them first.
+   *
+   * @param outputStream the stream to write the bytes to.
+   * @param length the amount of bytes that should be written.
+   * @throws IOException if the bytes cannot be written.
+   */
+  public void writeRandomBytes(OutputStream outputStream, int length) throws IOException {
+    outputStream.write(this.randomBytes, 0, length);
+  }
+
+  /**
+   * Returns the chunk of a stream of random bytes at the given position without copying it. The
+   * stream repeats the random bytes, so a chunk ends at the latest at the end of the random bytes.
+   *
+   * @param position the position of the chunk within the stream.
+   * @param maxChunkLength the maximum amount of bytes of the chunk.
+   * @return a read-only buffer containing at least one and at most {@code maxChunkLength} bytes.
+   */
+  public ByteBuffer getRandomBytesChunk(int position, int maxChunkLength) {
+    int offset = position % this.maxLength;
+    return ByteBuffer.wrap(this.randomBytes, offset, this.getChunkLength(offset, maxChunkLength))
+        .slice()
+        .asReadOnlyBuffer();
+  }
+
+  /**
+   * Writes the chunk of a stream of random bytes at the given position directly to an output
+   * stream, like {@link #getRandomBytesChunk(int, int)}.
+   *
+   * @param outputStream the stream to write the bytes to.
+   * @param position the position of the chunk within the stream.
+   * @param maxChunkLength the maximum amount of bytes of the chunk.
+   * @return the amount of written bytes.
+   * @throws IOException if the bytes cannot be written.
+   */
+  public int writeRandomBytesChunk(OutputStream outputStream, int position, int maxChunkLength)
+      throws IOException {
+    int offset = position % this.maxLength;
+    int length = this.getChunkLength(offset, maxChunkLength);
+    outputStream.write(this.randomBytes, offset, length);
+    return length;
   }
 
   /**
-   * Generates a string with a length of {@value #MAX_LENGTH} characters.
+   * Returns the size of a chunk, which is limited by the requested chunk size.
    *
-   * @return the random generated string.
+   * @param requestedChunkSize the requested chunk size, the default is used if it is not positive.
+   * @return the chunk size between 1 and {@value #MAX_CHUNK_SIZE}.
    */
-  private String generateRandomString() {
-    Random r = new Random();
-    char[] chars = new char[MAX_LENGTH];
-    for (int i = 0; i < chars.length; i++) {
-      chars[i] = (char) (r.nextInt(26) + 'a');
+  public static int resolveChunkSize(int requestedChunkSize) {
+    if (requestedChunkSize <= 0) {
+      return DEFAULT_CHUNK_SIZE;
     }
 
-    return new String(chars);
+    return Math.min(requestedChunkSize, MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * Consumes an upload and checksums its bytes. The bytes are read in chunks of {@value
+   * #DEFAULT_CHUNK_SIZE} bytes and discarded afterwards, so uploads of any size can be consumed.
+   *
+   * @param inputStream the stream of the uploaded bytes, which is read until its end.
+   * @return the amount of uploaded bytes and their digest.
+   * @throws IOException if the bytes cannot be read.
+   */
+  public UploadSummary consumeUpload(InputStream inputStream) throws IOException {
+    UploadDigest uploadDigest = new UploadDigest();
+    byte[] buffer = new byte[DEFAULT_CHUNK_SIZE];
+    int readBytes;
+    while ((readBytes = inputStream.read(buffer)) != -1) {
+      uploadDigest.update(buffer, 0, readBytes);
+    }
+    return uploadDigest.complete();
+  }
+
+  private int getChunkLength(int offset, int maxChunkLength) {
+    return Math.min(maxChunkLength, this.maxLength - offset);
   }
 }
@@ -0,0 +1,57 @@
+package com.exxeta.randomdataservice.randomdata.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Counts and checksums the bytes of an upload while they are received, so the uploaded bytes never
+ * have to be kept in memory. An instance belongs to a single upload and is not thread-safe.
+ */
+public class UploadDigest {
+  public static final String ALGORITHM = "SHA-256";
+
+  private final MessageDigest messageDigest;
+  private long byteCount;
+
+  public UploadDigest() {
+    try {
+      this.messageDigest = MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ALGORITHM + " is not supported by the JVM", ex);
+    }
+  }
+
+  /**
+   * Adds the remaining bytes of a buffer to the upload.
+   *
+   * @param bytes the received bytes.
+   */
+  public void update(ByteBuffer bytes) {
+    this.byteCount += bytes.remaining();
+    this.messageDigest.update(bytes);
+  }
+
+  /**
+   * Adds a range of an array to the upload.
+   *
+   * @param bytes the array containing the received bytes.
+   * @param offset the offset of the received bytes within the array.
+   * @param length the amount of received bytes.
+   */
+  public void update(byte[] bytes, int offset, int length) {
+    this.byteCount += length;
+    this.messageDigest.update(bytes, offset, length);
+  }
+
+  /**
+   * Completes the upload. No more bytes may be added afterwards.
+   *
+   * @return the amount of uploaded bytes and their hex encoded digest.
+   */
+  public UploadSummary complete() {
+    return new UploadSummary(
+        this.byteCount, HexFormat.of().formatHex(this.messageDigest.digest()));
+  }
+}
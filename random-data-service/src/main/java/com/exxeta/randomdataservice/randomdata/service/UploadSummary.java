@@ -0,0 +1,9 @@
+package com.exxeta.randomdataservice.randomdata.service;
+
+/**
+ * Summary of a completed upload.
+ *
+ * @param byteCount the amount of uploaded bytes.
+ * @param digest the hex encoded {@value UploadDigest#ALGORITHM} digest of the uploaded bytes.
+ */
+public record UploadSummary(long byteCount, String digest) {}
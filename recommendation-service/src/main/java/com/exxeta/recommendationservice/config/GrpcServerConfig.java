@@ -1,8 +1,10 @@
 package com.exxeta.recommendationservice.config;
 
 import com.exxeta.recommendationservice.recommendation.api.grpc.RecommendationServiceGrpcApi;
+import io.grpc.CompressorRegistry;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,9 +18,19 @@ public class GrpcServerConfig {
 
   public GrpcServerConfig(
       RecommendationServiceGrpcApi recommendationServiceGrpcApi,
-      @Value("${server.grpc.port}") Integer grpcPort) {
+      @Value("${server.grpc.port}") Integer grpcPort,
+      @Value("${server.grpc.compression}") String compression) {
+    CompressorRegistry compressorRegistry = GrpcCompression.createCompressorRegistry();
     Server server =
-        ServerBuilder.forPort(grpcPort).addService(recommendationServiceGrpcApi).build();
+        ServerBuilder.forPort(grpcPort)
+            .addService(recommendationServiceGrpcApi)
+            .addService(new HealthStatusManager().getHealthService())
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .intercept(
+                GrpcCompression.createResponseCompressionInterceptor(
+                    compressorRegistry, compression))
+            .build();
 
     try {
       server.start();
@@ -0,0 +1,33 @@
+package com.exxeta.recommendationservice.config;
+
+import io.grpc.Codec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.iq80.snappy.SnappyFramedInputStream;
+import org.iq80.snappy.SnappyFramedOutputStream;
+
+/**
+ * gRPC codec for the framed format of Snappy, which compresses less than gzip but is considerably
+ * faster. gRPC only supports gzip by default, so the codec has to be registered by the server and
+ * by the client.
+ */
+public class SnappyCodec implements Codec {
+  public static final String MESSAGE_ENCODING = "snappy";
+
+  @Override
+  public String getMessageEncoding() {
+    return MESSAGE_ENCODING;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    return new SnappyFramedOutputStream(outputStream);
+  }
+
+  @Override
+  public InputStream decompress(InputStream inputStream) throws IOException {
+    // the checksums are not verified, since HTTP/2 over TCP already detects corrupted data
+    return new SnappyFramedInputStream(inputStream, false);
+  }
+}
@@ -0,0 +1,53 @@
+package com.exxeta.shopservice.clients;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Observer of a unary gRPC call that completes a {@link CompletableFuture} with the single response
+ * of the call, so the call can be combined with other asynchronous calls.
+ *
+ * @param <T> the type of the response.
+ */
+public class FutureStreamObserver<T> implements StreamObserver<T> {
+  private final CompletableFuture<T> future;
+  private final String errorMessage;
+
+  /**
+   * Creates a new observer.
+   *
+   * @param errorMessage the message of the exception if the call fails, which is followed by the
+   *     status code.
+   */
+  public FutureStreamObserver(String errorMessage) {
+    this.future = new CompletableFuture<>();
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * Returns the future that is completed with the response of the call.
+   *
+   * @return the future of the response.
+   */
+  public CompletableFuture<T> getFuture() {
+    return this.future;
+  }
+
+  @Override
+  public void onNext(T response) {
+    this.future.complete(response);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.future.completeExceptionally(
+        new RuntimeException(this.errorMessage + Status.fromThrowable(throwable).getCode()));
+  }
+
+  @Override
+  public void onCompleted() {
+    this.future.completeExceptionally(
+        new RuntimeException(this.errorMessage + Status.Code.INTERNAL + " (no response)"));
+  }
+}
@@ -4,11 +4,15 @@ import com.exxeta.recommendationservice.CreateRecommendationRequest;
 import com.exxeta.recommendationservice.RecommendationGrpcDto;
 import com.exxeta.recommendationservice.RecommendationServiceGrpc;
 import com.exxeta.recommendationservice.RecommendationServiceGrpc.RecommendationServiceBlockingStub;
+import com.exxeta.recommendationservice.RecommendationServiceGrpc.RecommendationServiceStub;
+import com.exxeta.shopservice.clients.FutureStreamObserver;
+import com.exxeta.shopservice.config.GrpcCompression;
 import com.exxeta.shopservice.products.entity.Category;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.StatusRuntimeException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -17,14 +21,23 @@ import org.springframework.stereotype.Service;
 @Profile("!rest")
 public class RecommendationServiceGrpcClient {
   private final RecommendationServiceBlockingStub recommendationServiceStub;
+  private final RecommendationServiceStub recommendationServiceAsyncStub;
 
   public RecommendationServiceGrpcClient(
       @Value("${client.grpc.recommendationService.hostname}") String hostname,
-      @Value("${client.grpc.recommendationService.port}") Integer port) {
+      @Value("${client.grpc.recommendationService.port}") Integer port,
+      @Value("${client.grpc.compression}") String compression) {
     ManagedChannel channel =
-        ManagedChannelBuilder.forAddress(hostname, port).usePlaintext().build();
+        ManagedChannelBuilder.forAddress(hostname, port)
+            .usePlaintext()
+            .compressorRegistry(GrpcCompression.createCompressorRegistry())
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .build();
 
-    this.recommendationServiceStub = RecommendationServiceGrpc.newBlockingStub(channel);
+    this.recommendationServiceStub =
+        RecommendationServiceGrpc.newBlockingStub(channel).withCompression(compression);
+    this.recommendationServiceAsyncStub =
+        RecommendationServiceGrpc.newStub(channel).withCompression(compression);
   }
 
   /**
@@ -37,15 +50,8 @@ public class RecommendationServiceGrpcClient {
    */
   public RecommendationGrpcDto createRecommendation(
       List<Category> boughtCategories, List<Category> availableCategories) {
-    List<String> boughtCategoryNames = boughtCategories.stream().map(Category::getName).toList();
-    List<String> availableCategoryNames =
-        availableCategories.stream().map(Category::getName).toList();
-
     CreateRecommendationRequest request =
-        CreateRecommendationRequest.newBuilder()
-            .addAllBoughtCategories(boughtCategoryNames)
-            .addAllAvailableCategories(availableCategoryNames)
-            .build();
+        this.createRecommendationRequest(boughtCategories, availableCategories);
 
     try {
       return this.recommendationServiceStub.createRecommendation(request);
@@ -54,4 +60,36 @@ public class RecommendationServiceGrpcClient {
           "gRPC-Request for recommendations failed with status code: " + ex.getStatus().getCode());
     }
   }
+
+  /**
+   * Requests category recommendation from the Recommendation-Service without blocking the calling
+   * thread.
+   *
+   * @param boughtCategories Product categories that the user has bought.
+   * @param availableCategories Product categories that are available.
+   * @return a future of the category recommendations, which fails with a RuntimeException if the
+   *     request fails.
+   */
+  public CompletableFuture<RecommendationGrpcDto> createRecommendationAsync(
+      List<Category> boughtCategories, List<Category> availableCategories) {
+    CreateRecommendationRequest request =
+        this.createRecommendationRequest(boughtCategories, availableCategories);
+
+    FutureStreamObserver<RecommendationGrpcDto> responseObserver =
+        new FutureStreamObserver<>("gRPC-Request for recommendations failed with status code: ");
+    this.recommendationServiceAsyncStub.createRecommendation(request, responseObserver);
+    return responseObserver.getFuture();
+  }
+
+  private CreateRecommendationRequest createRecommendationRequest(
+      List<Category> boughtCategories, List<Category> availableCategories) {
+    List<String> boughtCategoryNames = boughtCategories.stream().map(Category::getName).toList();
+    List<String> availableCategoryNames =
+        availableCategories.stream().map(Category::getName).toList();
+
+    return CreateRecommendationRequest.newBuilder()
+        .addAllBoughtCategories(boughtCategoryNames)
+        .addAllAvailableCategories(availableCategoryNames)
+        .build();
+  }
 }
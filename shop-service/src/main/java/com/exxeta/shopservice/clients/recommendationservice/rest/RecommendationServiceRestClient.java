@@ -12,6 +12,7 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -32,19 +33,7 @@ public class RecommendationServiceRestClient {
 
   public RecommendationRestDto getRecommendedCategories(
       List<Category> boughtCategories, List<Category> availableCategories) {
-    List<String> boughtCategoryNames = boughtCategories.stream().map(Category::getName).toList();
-    List<String> availableCategoryNames =
-        availableCategories.stream().map(Category::getName).toList();
-
-    CreateRecommendationRestDto requestDto =
-        new CreateRecommendationRestDto(boughtCategoryNames, availableCategoryNames);
-
-    HttpRequest request =
-        HttpRequest.newBuilder()
-            .uri(URI.create(recommendationServiceBaseUrl))
-            .header("Content-Type", "application/json")
-            .POST(BodyPublishers.ofString(gson.toJson(requestDto)))
-            .build();
+    HttpRequest request = this.createRecommendationRequest(boughtCategories, availableCategories);
 
     HttpResponse<String> response;
     try {
@@ -53,6 +42,48 @@ public class RecommendationServiceRestClient {
       throw new RuntimeException("Could not execute REST-Request");
     }
 
+    return this.parseRecommendationResponse(response);
+  }
+
+  /**
+   * Requests category recommendation from the Recommendation-Service without blocking the calling
+   * thread.
+   *
+   * @param boughtCategories Product categories that the user has bought.
+   * @param availableCategories Product categories that are available.
+   * @return a future of the category recommendations, which fails with a RuntimeException if the
+   *     request fails.
+   */
+  public CompletableFuture<RecommendationRestDto> getRecommendedCategoriesAsync(
+      List<Category> boughtCategories, List<Category> availableCategories) {
+    HttpRequest request = this.createRecommendationRequest(boughtCategories, availableCategories);
+
+    return httpClient
+        .sendAsync(request, BodyHandlers.ofString())
+        .exceptionally(
+            ex -> {
+              throw new RuntimeException("Could not execute REST-Request");
+            })
+        .thenApply(this::parseRecommendationResponse);
+  }
+
+  private HttpRequest createRecommendationRequest(
+      List<Category> boughtCategories, List<Category> availableCategories) {
+    List<String> boughtCategoryNames = boughtCategories.stream().map(Category::getName).toList();
+    List<String> availableCategoryNames =
+        availableCategories.stream().map(Category::getName).toList();
+
+    CreateRecommendationRestDto requestDto =
+        new CreateRecommendationRestDto(boughtCategoryNames, availableCategoryNames);
+
+    return HttpRequest.newBuilder()
+        .uri(URI.create(recommendationServiceBaseUrl))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(gson.toJson(requestDto)))
+        .build();
+  }
+
+  private RecommendationRestDto parseRecommendationResponse(HttpResponse<String> response) {
     if (response.statusCode() != 200) {
       throw new RuntimeException(
           "REST-Request for recommendations failed with status code:" + response.statusCode());
@@ -0,0 +1,205 @@
+package com.exxeta.shopservice.clients.userservice;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of users that were requested from the User-Service. If the cache is full, the least
+ * recently used user is evicted. Every user additionally expires after a fixed time to live.
+ *
+ * <p>The cache is only used while the client is watching the user changes of the User-Service,
+ * since only then every change invalidates the cached user. While the cache is disabled all
+ * requests are passed directly to the loader.
+ *
+ * @param <U> the type of the cached users.
+ */
+public class UserCache<U> {
+  private final int maxSize;
+  private final long timeToLiveNanos;
+  private final Map<Integer, Entry<U>> entries;
+
+  // incremented by every invalidation, so users loaded before an invalidation are not cached
+  private long invalidationCount;
+  private volatile boolean enabled;
+
+  /**
+   * Creates a new and disabled cache.
+   *
+   * @param maxSize the maximum amount of cached users.
+   * @param timeToLiveSeconds the time in seconds after which a cached user expires.
+   */
+  public UserCache(int maxSize, long timeToLiveSeconds) {
+    this.maxSize = maxSize;
+    this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Integer, Entry<U>> eldest) {
+            return this.size() > UserCache.this.maxSize;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached user or loads the user if it is not cached.
+   *
+   * @param userId the ID of the user.
+   * @param loader requests a single user from the User-Service.
+   * @return the cached or loaded user.
+   */
+  public U get(Integer userId, Function<Integer, U> loader) {
+    if (!this.enabled) {
+      return loader.apply(userId);
+    }
+
+    long invalidationCountBeforeLoad;
+    synchronized (this) {
+      U user = this.getIfPresent(userId);
+      if (user != null) {
+        return user;
+      }
+      invalidationCountBeforeLoad = this.invalidationCount;
+    }
+
+    U user = loader.apply(userId);
+    synchronized (this) {
+      this.putIfNotInvalidated(userId, user, invalidationCountBeforeLoad);
+    }
+    return user;
+  }
+
+  /**
+   * Returns the cached user or loads the user asynchronously if it is not cached.
+   *
+   * @param userId the ID of the user.
+   * @param loader requests a single user from the User-Service without blocking.
+   * @return a future of the cached or loaded user.
+   */
+  public CompletableFuture<U> getAsync(
+      Integer userId, Function<Integer, CompletableFuture<U>> loader) {
+    if (!this.enabled) {
+      return loader.apply(userId);
+    }
+
+    long invalidationCountBeforeLoad;
+    synchronized (this) {
+      U user = this.getIfPresent(userId);
+      if (user != null) {
+        return CompletableFuture.completedFuture(user);
+      }
+      invalidationCountBeforeLoad = this.invalidationCount;
+    }
+
+    return loader
+        .apply(userId)
+        .thenApply(
+            user -> {
+              synchronized (this) {
+                this.putIfNotInvalidated(userId, user, invalidationCountBeforeLoad);
+              }
+              return user;
+            });
+  }
+
+  /**
+   * Returns all cached users and loads all users that are not cached with a single request.
+   *
+   * @param userIds the IDs of all users.
+   * @param loader requests multiple users from the User-Service.
+   * @param userIdExtractor returns the ID of a user.
+   * @return a list containing all cached users followed by all loaded users.
+   */
+  public List<U> getAll(
+      List<Integer> userIds,
+      Function<List<Integer>, List<U>> loader,
+      Function<U, Integer> userIdExtractor) {
+    if (!this.enabled) {
+      return loader.apply(userIds);
+    }
+
+    List<U> users = new ArrayList<>(userIds.size());
+    List<Integer> missingUserIds = new ArrayList<>();
+    long invalidationCountBeforeLoad;
+    synchronized (this) {
+      for (Integer userId : userIds) {
+        U user = this.getIfPresent(userId);
+        if (user != null) {
+          users.add(user);
+        } else {
+          missingUserIds.add(userId);
+        }
+      }
+      invalidationCountBeforeLoad = this.invalidationCount;
+    }
+
+    if (missingUserIds.isEmpty()) {
+      return users;
+    }
+
+    List<U> loadedUsers = loader.apply(missingUserIds);
+    synchronized (this) {
+      for (U user : loadedUsers) {
+        this.putIfNotInvalidated(userIdExtractor.apply(user), user, invalidationCountBeforeLoad);
+      }
+    }
+    users.addAll(loadedUsers);
+    return users;
+  }
+
+  /**
+   * Removes a single user from the cache.
+   *
+   * @param userId the ID of the changed user.
+   */
+  public synchronized void invalidate(Integer userId) {
+    this.invalidationCount++;
+    this.entries.remove(userId);
+  }
+
+  /** Removes all users from the cache. */
+  public synchronized void invalidateAll() {
+    this.invalidationCount++;
+    this.entries.clear();
+  }
+
+  /**
+   * Enables the cache once every change of a user is received. The cache is empty when it gets
+   * enabled, since changes might have been missed while it was disabled.
+   */
+  public synchronized void enable() {
+    this.invalidateAll();
+    this.enabled = true;
+  }
+
+  /** Disables the cache once changes of users might be missed. */
+  public synchronized void disable() {
+    this.enabled = false;
+    this.invalidateAll();
+  }
+
+  private U getIfPresent(Integer userId) {
+    Entry<U> entry = this.entries.get(userId);
+    if (entry == null) {
+      return null;
+    }
+    if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+      this.entries.remove(userId);
+      return null;
+    }
+
+    return entry.user();
+  }
+
+  private void putIfNotInvalidated(Integer userId, U user, long invalidationCountBeforeLoad) {
+    if (this.enabled && this.invalidationCount == invalidationCountBeforeLoad) {
+      this.entries.put(userId, new Entry<>(user, System.nanoTime() + this.timeToLiveNanos));
+    }
+  }
+
+  private record Entry<U>(U user, long expiresAtNanos) {}
+}
@@ -0,0 +1,198 @@
+package com.exxeta.shopservice.clients.userservice;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent requests for single users into fewer requests to the User-Service.
+ *
+ * <p>Concurrent requests for the same user share a single in-flight request. Requests for different
+ * users are collected for a short batch window and then sent as a single request for multiple
+ * users. A batch is sent early once it contains the maximum amount of users. If the batch window is
+ * zero, every request is sent immediately and only identical requests are coalesced.
+ *
+ * @param <U> the type of the requested users.
+ */
+public class UserRequestCoalescer<U> {
+  private final Function<List<Integer>, CompletableFuture<List<U>>> batchLoader;
+  private final Function<U, Integer> userIdExtractor;
+  private final long batchWindowMicros;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService batchScheduler;
+
+  private final Map<Integer, CompletableFuture<U>> inFlightRequests = new ConcurrentHashMap<>();
+
+  // guarded by this
+  private Map<Integer, CompletableFuture<U>> pendingRequests = new LinkedHashMap<>();
+  private ScheduledFuture<?> scheduledBatch;
+
+  /**
+   * Creates a new coalescer.
+   *
+   * @param batchLoader requests multiple users from the User-Service without blocking, unknown
+   *     users are omitted.
+   * @param userIdExtractor returns the ID of a user.
+   * @param batchWindowMicros the time in microseconds that requests are collected before they are
+   *     sent as a batch.
+   * @param maxBatchSize the maximum amount of users per batch.
+   */
+  public UserRequestCoalescer(
+      Function<List<Integer>, CompletableFuture<List<U>>> batchLoader,
+      Function<U, Integer> userIdExtractor,
+      long batchWindowMicros,
+      int maxBatchSize) {
+    this.batchLoader = batchLoader;
+    this.userIdExtractor = userIdExtractor;
+    this.batchWindowMicros = batchWindowMicros;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.batchScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "user-request-batcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Requests a single user, either by joining an in-flight request for the same user or as part of
+   * the next batch.
+   *
+   * @param userId the ID of the user.
+   * @return a future of the user, which fails with a RuntimeException if the request fails or the
+   *     user does not exist.
+   */
+  public CompletableFuture<U> get(Integer userId) {
+    CompletableFuture<U> request = new CompletableFuture<>();
+    CompletableFuture<U> inFlightRequest = this.inFlightRequests.putIfAbsent(userId, request);
+    if (inFlightRequest != null) {
+      return inFlightRequest;
+    }
+
+    request.whenComplete((user, ex) -> this.inFlightRequests.remove(userId, request));
+    this.enqueue(userId, request);
+    return request;
+  }
+
+  /**
+   * Requests a single user like {@link #get(Integer)} and blocks until the user has been received.
+   *
+   * @param userId the ID of the user.
+   * @return the requested user.
+   * @throws RuntimeException if the request fails or the user does not exist.
+   */
+  public U getAndWait(Integer userId) {
+    try {
+      return this.get(userId).join();
+    } catch (CompletionException ex) {
+      throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+    }
+  }
+
+  /**
+   * Stops sharing the in-flight request for a user, so later requests do not receive a user that
+   * was requested before it changed.
+   *
+   * @param userId the ID of the changed user.
+   */
+  public void invalidate(Integer userId) {
+    this.inFlightRequests.remove(userId);
+  }
+
+  private void enqueue(Integer userId, CompletableFuture<U> request) {
+    Map<Integer, CompletableFuture<U>> batch = null;
+    synchronized (this) {
+      // a request that was invalidated before its batch was sent is still pending, and it is not
+      // replaced, since it would never be completed, so the new request completes with it instead
+      CompletableFuture<U> pendingRequest = this.pendingRequests.putIfAbsent(userId, request);
+      if (pendingRequest != null) {
+        pendingRequest.whenComplete(
+            (user, ex) -> {
+              if (ex != null) {
+                request.completeExceptionally(ex);
+              } else {
+                request.complete(user);
+              }
+            });
+        return;
+      }
+
+      if (this.batchWindowMicros <= 0 || this.pendingRequests.size() >= this.maxBatchSize) {
+        batch = this.takePendingRequests();
+      } else if (this.scheduledBatch == null) {
+        this.scheduledBatch =
+            this.batchScheduler.schedule(
+                this::sendPendingRequests, this.batchWindowMicros, TimeUnit.MICROSECONDS);
+      }
+    }
+
+    if (batch != null) {
+      this.send(batch);
+    }
+  }
+
+  private void sendPendingRequests() {
+    Map<Integer, CompletableFuture<U>> batch;
+    synchronized (this) {
+      batch = this.takePendingRequests();
+    }
+
+    if (!batch.isEmpty()) {
+      this.send(batch);
+    }
+  }
+
+  private Map<Integer, CompletableFuture<U>> takePendingRequests() {
+    if (this.scheduledBatch != null) {
+      this.scheduledBatch.cancel(false);
+      this.scheduledBatch = null;
+    }
+
+    Map<Integer, CompletableFuture<U>> batch = this.pendingRequests;
+    this.pendingRequests = new LinkedHashMap<>();
+    return batch;
+  }
+
+  private void send(Map<Integer, CompletableFuture<U>> batch) {
+    CompletableFuture<List<U>> response;
+    try {
+      response = this.batchLoader.apply(List.copyOf(batch.keySet()));
+    } catch (RuntimeException ex) {
+      response = CompletableFuture.failedFuture(ex);
+    }
+
+    response.whenComplete(
+        (users, ex) -> {
+          if (ex != null) {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            batch.values().forEach(request -> request.completeExceptionally(cause));
+            return;
+          }
+
+          Map<Integer, U> usersById = new HashMap<>();
+          for (U user : users) {
+            usersById.put(this.userIdExtractor.apply(user), user);
+          }
+          batch.forEach(
+              (userId, request) -> {
+                U user = usersById.get(userId);
+                if (user != null) {
+                  request.complete(user);
+                } else {
+                  request.completeExceptionally(
+                      new RuntimeException("User with ID " + userId + " was not found"));
+                }
+              });
+        });
+  }
+}
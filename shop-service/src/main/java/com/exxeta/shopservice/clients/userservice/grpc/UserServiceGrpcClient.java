@@ -1,66 +1,178 @@
 package com.exxeta.shopservice.clients.userservice.grpc;
 
-import com.exxeta.userservice.GetUserRequest;
+import com.exxeta.shopservice.clients.FutureStreamObserver;
+import com.exxeta.shopservice.clients.userservice.UserCache;
+import com.exxeta.shopservice.clients.userservice.UserRequestCoalescer;
+import com.exxeta.shopservice.config.GrpcCompression;
 import com.exxeta.userservice.ListUsersRequest;
+import com.exxeta.userservice.UserChangeGrpcDto;
 import com.exxeta.userservice.UserGrpcDto;
 import com.exxeta.userservice.UserListGrpcDto;
 import com.exxeta.userservice.UserServiceGrpc;
 import com.exxeta.userservice.UserServiceGrpc.UserServiceBlockingStub;
+import com.exxeta.userservice.UserServiceGrpc.UserServiceStub;
+import com.google.protobuf.Empty;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 @Service
 @Profile("!rest")
+@Slf4j
 public class UserServiceGrpcClient {
+  private static final long WATCH_RETRY_DELAY_MS = 1000;
+
   private final UserServiceBlockingStub userServiceStub;
+  private final UserServiceStub userServiceAsyncStub;
+  private final UserCache<UserGrpcDto> userCache;
+  private final UserRequestCoalescer<UserGrpcDto> userRequestCoalescer;
+  private final ScheduledExecutorService watchExecutor;
 
   public UserServiceGrpcClient(
       @Value("${client.grpc.userService.hostname}") String hostname,
-      @Value("${client.grpc.userService.port}") Integer port) {
+      @Value("${client.grpc.userService.port}") Integer port,
+      @Value("${client.userCache.maxSize}") Integer cacheMaxSize,
+      @Value("${client.userCache.ttlSeconds}") Long cacheTimeToLiveSeconds,
+      @Value("${client.userBatch.windowMicros}") Long batchWindowMicros,
+      @Value("${client.userBatch.maxSize}") Integer batchMaxSize,
+      @Value("${client.grpc.compression}") String compression) {
     ManagedChannel channel =
-        ManagedChannelBuilder.forAddress(hostname, port).usePlaintext().build();
+        ManagedChannelBuilder.forAddress(hostname, port)
+            .usePlaintext()
+            .compressorRegistry(GrpcCompression.createCompressorRegistry())
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .build();
+
+    this.userServiceStub = UserServiceGrpc.newBlockingStub(channel).withCompression(compression);
+    this.userServiceAsyncStub = UserServiceGrpc.newStub(channel).withCompression(compression);
+    this.userCache = new UserCache<>(cacheMaxSize, cacheTimeToLiveSeconds);
+    this.userRequestCoalescer =
+        new UserRequestCoalescer<>(
+            this::requestUsersAsync, UserGrpcDto::getId, batchWindowMicros, batchMaxSize);
+    this.watchExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "user-change-watcher");
+              thread.setDaemon(true);
+              return thread;
+            });
 
-    this.userServiceStub = UserServiceGrpc.newBlockingStub(channel);
+    this.watchUserChanges();
   }
 
   /**
-   * Requests multiple users by their ID from the User-Service.
+   * Requests multiple users by their ID from the User-Service. Users that are cached are not
+   * requested again.
    *
    * @param userIds the User-IDs of all users to find.
    * @return a list containing all users that the User-Service returned.
    * @throws RuntimeException if the request fails.
    */
   public List<UserGrpcDto> listUsers(List<Integer> userIds) {
-    ListUsersRequest request = ListUsersRequest.newBuilder().addAllUserIds(userIds).build();
-
-    try {
-      UserListGrpcDto response = userServiceStub.listUsers(request);
-      return response.getUsersList();
-    } catch (StatusRuntimeException ex) {
-      throw new RuntimeException(
-          "gRPC-Request for multiple users failed with status code: " + ex.getStatus().getCode());
+    if (userIds.isEmpty()) {
+      return List.of();
     }
+
+    return this.userCache.getAll(userIds, this::requestUsers, UserGrpcDto::getId);
   }
 
   /**
-   * Requests a single user by its ID from the gRPC-API of the User-Service.
+   * Requests a single user by its ID from the gRPC-API of the User-Service, unless it is cached.
+   * Concurrent requests for single users are coalesced into a single request for multiple users.
    *
    * @param userId the User-ID of the user to find.
    * @return the found user that the User-Service returned.
    * @throws RuntimeException if the request fails.
    */
   public UserGrpcDto getUser(Integer userId) {
-    GetUserRequest request = GetUserRequest.newBuilder().setUserId(userId).build();
+    return this.userCache.get(userId, this.userRequestCoalescer::getAndWait);
+  }
+
+  /**
+   * Requests a single user by its ID from the gRPC-API of the User-Service without blocking the
+   * calling thread, unless it is cached. Concurrent requests for single users are coalesced into
+   * a single request for multiple users.
+   *
+   * @param userId the User-ID of the user to find.
+   * @return a future of the found user, which fails with a RuntimeException if the request fails.
+   */
+  public CompletableFuture<UserGrpcDto> getUserAsync(Integer userId) {
+    return this.userCache.getAsync(userId, this.userRequestCoalescer::get);
+  }
+
+  private List<UserGrpcDto> requestUsers(List<Integer> userIds) {
+    ListUsersRequest request = ListUsersRequest.newBuilder().addAllUserIds(userIds).build();
+
     try {
-      return userServiceStub.getUser(request);
+      UserListGrpcDto response = userServiceStub.listUsers(request);
+      return response.getUsersList();
     } catch (StatusRuntimeException ex) {
       throw new RuntimeException(
-          "gRPC-Request for a single user failed with status code: " + ex.getStatus().getCode());
+          "gRPC-Request for multiple users failed with status code: " + ex.getStatus().getCode());
     }
   }
+
+  private CompletableFuture<List<UserGrpcDto>> requestUsersAsync(List<Integer> userIds) {
+    ListUsersRequest request = ListUsersRequest.newBuilder().addAllUserIds(userIds).build();
+
+    FutureStreamObserver<UserListGrpcDto> responseObserver =
+        new FutureStreamObserver<>("gRPC-Request for multiple users failed with status code: ");
+    userServiceAsyncStub.listUsers(request, responseObserver);
+    return responseObserver.getFuture().thenApply(UserListGrpcDto::getUsersList);
+  }
+
+  /**
+   * Watches all user changes of the User-Service. The cache is enabled once the watch has started
+   * and every changed user is removed from the cache. If the watch ends, the cache is disabled and
+   * the watch is restarted after a short delay.
+   */
+  private void watchUserChanges() {
+    this.userServiceAsyncStub.watchUserChanges(
+        Empty.getDefaultInstance(),
+        new StreamObserver<>() {
+          @Override
+          public void onNext(UserChangeGrpcDto change) {
+            switch (change.getType()) {
+              case USER_CHANGE_TYPE_WATCH_STARTED -> {
+                log.info("Watching user changes, user cache enabled");
+                userCache.enable();
+              }
+              case USER_CHANGE_TYPE_UPDATED, USER_CHANGE_TYPE_DELETED -> {
+                userCache.invalidate(change.getUserId());
+                userRequestCoalescer.invalidate(change.getUserId());
+              }
+              default -> {}
+            }
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            restartWatch(Status.fromThrowable(throwable).getCode().toString());
+          }
+
+          @Override
+          public void onCompleted() {
+            restartWatch("stream completed");
+          }
+        });
+  }
+
+  private void restartWatch(String reason) {
+    this.userCache.disable();
+    log.debug("Watching user changes ended ({}), user cache disabled", reason);
+
+    this.watchExecutor.schedule(
+        this::watchUserChanges, WATCH_RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+  }
 }
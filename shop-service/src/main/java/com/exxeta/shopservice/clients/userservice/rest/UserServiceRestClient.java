@@ -1,8 +1,12 @@
 package com.exxeta.shopservice.clients.userservice.rest;
 
+import com.exxeta.shopservice.clients.userservice.UserCache;
+import com.exxeta.shopservice.clients.userservice.UserRequestCoalescer;
+import com.exxeta.shopservice.clients.userservice.rest.dto.UserChangeRestDto;
 import com.exxeta.shopservice.clients.userservice.rest.dto.UserRestDto;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -10,48 +14,123 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 @Service
 @Profile("!grpc")
+@Slf4j
 public class UserServiceRestClient {
+  private static final long WATCH_RETRY_DELAY_MS = 1000;
+  private static final String EVENT_DATA_PREFIX = "data:";
+  private static final String WATCH_STARTED_EVENT = "WATCH_STARTED";
+
   @Value("${client.rest.userService.baseUrl}")
   private String userServiceBaseUrl;
 
   private final HttpClient httpClient;
   private final Gson gson;
+  private final UserCache<UserRestDto> userCache;
+  private final UserRequestCoalescer<UserRestDto> userRequestCoalescer;
 
-  public UserServiceRestClient() {
+  public UserServiceRestClient(
+      @Value("${client.userCache.maxSize}") Integer cacheMaxSize,
+      @Value("${client.userCache.ttlSeconds}") Long cacheTimeToLiveSeconds,
+      @Value("${client.userBatch.windowMicros}") Long batchWindowMicros,
+      @Value("${client.userBatch.maxSize}") Integer batchMaxSize) {
     this.httpClient = HttpClient.newHttpClient();
     this.gson = new Gson();
+    this.userCache = new UserCache<>(cacheMaxSize, cacheTimeToLiveSeconds);
+    this.userRequestCoalescer =
+        new UserRequestCoalescer<>(
+            this::requestUsersAsync, UserRestDto::id, batchWindowMicros, batchMaxSize);
+  }
+
+  /** Starts watching the user changes of the User-Service on a background thread. */
+  @PostConstruct
+  void startWatchingUserChanges() {
+    Thread watcher = new Thread(this::watchUserChanges, "user-change-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
   }
 
   /**
-   * Requests multiple users by their ID from the REST-API of the User-Service.
+   * Requests multiple users by their ID from the REST-API of the User-Service. Users that are
+   * cached are not requested again.
    *
    * @param userIds the User-IDs of all users to find.
    * @return a list containing all users that the User-Service returned.
    * @throws RuntimeException if the request fails.
    */
   public List<UserRestDto> listUsers(List<Integer> userIds) {
-    String commaSeparatedUserIds =
-        userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
 
-    HttpRequest request =
-        HttpRequest.newBuilder()
-            .uri(URI.create(userServiceBaseUrl + "?userIds=" + commaSeparatedUserIds))
-            .build();
+    return this.userCache.getAll(userIds, this::requestUsers, UserRestDto::id);
+  }
+
+  /**
+   * Requests a single user by its ID from the REST-API of the User-Service, unless it is cached.
+   * Concurrent requests for single users are coalesced into a single request for multiple users.
+   *
+   * @param userId the User-ID of the user to find.
+   * @return the found user that the User-Service returned.
+   * @throws RuntimeException if the request fails.
+   */
+  public UserRestDto getUser(Integer userId) {
+    return this.userCache.get(userId, this.userRequestCoalescer::getAndWait);
+  }
+
+  /**
+   * Requests a single user by its ID from the REST-API of the User-Service without blocking the
+   * calling thread, unless it is cached. Concurrent requests for single users are coalesced into
+   * a single request for multiple users.
+   *
+   * @param userId the User-ID of the user to find.
+   * @return a future of the found user, which fails with a RuntimeException if the request fails.
+   */
+  public CompletableFuture<UserRestDto> getUserAsync(Integer userId) {
+    return this.userCache.getAsync(userId, this.userRequestCoalescer::get);
+  }
 
+  private List<UserRestDto> requestUsers(List<Integer> userIds) {
     HttpResponse<String> response;
     try {
-      response = httpClient.send(request, BodyHandlers.ofString());
+      response = httpClient.send(this.createListUsersRequest(userIds), BodyHandlers.ofString());
     } catch (IOException | InterruptedException ex) {
       throw new RuntimeException("Could not execute REST-Request. Error: " + ex.getMessage());
     }
 
+    return this.parseListUsersResponse(response);
+  }
+
+  private CompletableFuture<List<UserRestDto>> requestUsersAsync(List<Integer> userIds) {
+    return httpClient
+        .sendAsync(this.createListUsersRequest(userIds), BodyHandlers.ofString())
+        .exceptionally(
+            ex -> {
+              throw new RuntimeException(
+                  "Could not execute REST-Request. Error: " + ex.getMessage());
+            })
+        .thenApply(this::parseListUsersResponse);
+  }
+
+  private HttpRequest createListUsersRequest(List<Integer> userIds) {
+    String commaSeparatedUserIds =
+        userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+    return HttpRequest.newBuilder()
+        .uri(URI.create(userServiceBaseUrl + "?userIds=" + commaSeparatedUserIds))
+        .build();
+  }
+
+  private List<UserRestDto> parseListUsersResponse(HttpResponse<String> response) {
     if (response.statusCode() != 200) {
       throw new RuntimeException(
           "REST-Request for multiple users failed with status code: " + response.statusCode());
@@ -61,30 +140,51 @@ public class UserServiceRestClient {
   }
 
   /**
-   * Requests a single user by its ID from the REST-API of the User-Service.
-   *
-   * @param userId the User-ID of the user to find.
-   * @return the found user that the User-Service returned.
-   * @throws RuntimeException if the request fails.
+   * Watches all user changes of the User-Service, which are streamed as server-sent events. The
+   * cache is enabled once the watch has started and every changed user is removed from the cache.
+   * If the stream ends, the cache is disabled and the watch is restarted after a short delay.
    */
-  public UserRestDto getUser(Integer userId) {
+  private void watchUserChanges() {
     HttpRequest request =
         HttpRequest.newBuilder()
-            .uri(URI.create(userServiceBaseUrl + "/" + userId.toString()))
+            .uri(URI.create(userServiceBaseUrl + "/changes"))
+            .header("Accept", "text/event-stream")
             .build();
 
-    HttpResponse<String> response;
-    try {
-      response = httpClient.send(request, BodyHandlers.ofString());
-    } catch (IOException | InterruptedException ex) {
-      throw new RuntimeException("Could not execute REST-Request. Error: " + ex.getMessage());
-    }
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        HttpResponse<Stream<String>> response = httpClient.send(request, BodyHandlers.ofLines());
+        try (Stream<String> lines = response.body()) {
+          if (response.statusCode() == 200) {
+            lines
+                .filter(line -> line.startsWith(EVENT_DATA_PREFIX))
+                .map(line -> line.substring(EVENT_DATA_PREFIX.length()))
+                .map(data -> gson.fromJson(data, UserChangeRestDto.class))
+                .forEach(this::handleUserChange);
+          }
+        }
+      } catch (IOException | RuntimeException ex) {
+        log.debug("Watching user changes failed: {}", ex.getMessage());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
 
-    if (response.statusCode() != 200) {
-      throw new RuntimeException(
-          "REST-Request for a single user failed with status code: " + response.statusCode());
+      this.userCache.disable();
+      try {
+        Thread.sleep(WATCH_RETRY_DELAY_MS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
     }
+  }
 
-    return gson.fromJson(response.body(), UserRestDto.class);
+  private void handleUserChange(UserChangeRestDto change) {
+    if (WATCH_STARTED_EVENT.equals(change.type())) {
+      log.info("Watching user changes, user cache enabled");
+      this.userCache.enable();
+    } else if (change.userId() != null) {
+      this.userCache.invalidate(change.userId());
+      this.userRequestCoalescer.invalidate(change.userId());
+    }
   }
 }
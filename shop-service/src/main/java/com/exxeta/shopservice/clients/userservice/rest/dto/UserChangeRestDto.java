@@ -0,0 +1,3 @@
+package com.exxeta.shopservice.clients.userservice.rest.dto;
+
+public record UserChangeRestDto(Integer userId, String type) {}
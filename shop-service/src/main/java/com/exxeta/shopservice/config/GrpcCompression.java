@@ -0,0 +1,86 @@
+package com.exxeta.shopservice.config;
+
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Compression of gRPC messages with gzip or Snappy. A client chooses the compression of the
+ * response of a call with the {@value #RESPONSE_ENCODING_HEADER} header, where {@value
+ * #NO_COMPRESSION} disables the compression. Without this header, the response is compressed with
+ * the encoding of the request if the client compressed its request, and otherwise with the
+ * configured encoding of the service. A response is only compressed if the client accepts the
+ * encoding.
+ */
+public final class GrpcCompression {
+  public static final String NO_COMPRESSION = Codec.Identity.NONE.getMessageEncoding();
+  public static final String RESPONSE_ENCODING_HEADER = "response-encoding";
+
+  private static final Metadata.Key<String> MESSAGE_ENCODING_KEY =
+      Metadata.Key.of("grpc-encoding", Metadata.ASCII_STRING_MARSHALLER);
+  private static final Metadata.Key<String> RESPONSE_ENCODING_KEY =
+      Metadata.Key.of(RESPONSE_ENCODING_HEADER, Metadata.ASCII_STRING_MARSHALLER);
+
+  private GrpcCompression() {}
+
+  /**
+   * Creates a registry of all supported compressors.
+   *
+   * @return the registry containing identity, gzip and Snappy.
+   */
+  public static CompressorRegistry createCompressorRegistry() {
+    CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+    compressorRegistry.register(Codec.Identity.NONE);
+    compressorRegistry.register(new Codec.Gzip());
+    compressorRegistry.register(new SnappyCodec());
+    return compressorRegistry;
+  }
+
+  /**
+   * Creates a registry of all supported decompressors, which are all advertised to the peer.
+   *
+   * @return the registry containing identity, gzip and Snappy.
+   */
+  public static DecompressorRegistry createDecompressorRegistry() {
+    return DecompressorRegistry.getDefaultInstance().with(new SnappyCodec(), true);
+  }
+
+  /**
+   * Creates an interceptor that compresses the responses of every call.
+   *
+   * @param compressorRegistry the registry of the compressors of the server.
+   * @param defaultEncoding the encoding of the responses if the client neither chooses an encoding
+   *     nor compresses its request, {@value #NO_COMPRESSION} disables the compression.
+   * @return the interceptor.
+   * @throws IllegalArgumentException if the default encoding is not supported.
+   */
+  public static ServerInterceptor createResponseCompressionInterceptor(
+      CompressorRegistry compressorRegistry, String defaultEncoding) {
+    if (compressorRegistry.lookupCompressor(defaultEncoding) == null) {
+      throw new IllegalArgumentException("Unsupported gRPC compression: " + defaultEncoding);
+    }
+
+    return new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+          ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        String encoding = headers.get(RESPONSE_ENCODING_KEY);
+        if (encoding == null || compressorRegistry.lookupCompressor(encoding) == null) {
+          encoding = headers.get(MESSAGE_ENCODING_KEY);
+        }
+        if (encoding == null || compressorRegistry.lookupCompressor(encoding) == null) {
+          encoding = defaultEncoding;
+        }
+
+        if (!NO_COMPRESSION.equals(encoding)) {
+          call.setCompression(encoding);
+        }
+        return next.startCall(call, headers);
+      }
+    };
+  }
+}
@@ -2,8 +2,10 @@ package com.exxeta.shopservice.config;
 
 import com.exxeta.shopservice.orders.api.grpc.OrderServiceGrpcApi;
 import com.exxeta.shopservice.products.api.grpc.ProductServiceGrpcApi;
+import io.grpc.CompressorRegistry;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,9 +20,20 @@ public class GrpcServerConfig {
   public GrpcServerConfig(
       OrderServiceGrpcApi orderService,
       ProductServiceGrpcApi productService,
-      @Value("${server.grpc.port}") Integer grpcPort) {
+      @Value("${server.grpc.port}") Integer grpcPort,
+      @Value("${server.grpc.compression}") String compression) {
+    CompressorRegistry compressorRegistry = GrpcCompression.createCompressorRegistry();
     Server server =
-        ServerBuilder.forPort(grpcPort).addService(orderService).addService(productService).build();
+        ServerBuilder.forPort(grpcPort)
+            .addService(orderService)
+            .addService(productService)
+            .addService(new HealthStatusManager().getHealthService())
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .intercept(
+                GrpcCompression.createResponseCompressionInterceptor(
+                    compressorRegistry, compression))
+            .build();
 
     try {
       server.start();
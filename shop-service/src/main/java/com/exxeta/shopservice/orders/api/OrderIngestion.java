@@ -0,0 +1,138 @@
+package com.exxeta.shopservice.orders.api;
+
+import com.exxeta.shopservice.orders.service.NewOrder;
+import com.exxeta.shopservice.orders.service.OrderService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Creates a large amount of orders in batches. The received orders are validated immediately and
+ * collected until a batch is full. The users of a batch are then requested from the User-Service
+ * with a single request, where every distinct user is only requested once for the whole ingestion,
+ * and all orders of known users are created with a single call of the {@link OrderService}.
+ *
+ * <p>An ingestion belongs to a single request and is not thread-safe.
+ *
+ * @param <U> the type of the users returned by the User-Service.
+ */
+public class OrderIngestion<U> {
+  public static final int DEFAULT_BATCH_SIZE = 500;
+  public static final int MAX_BATCH_SIZE = 5000;
+
+  private final OrderService orderService;
+  private final Function<List<Integer>, List<U>> userLoader;
+  private final Function<U, Integer> userIdExtractor;
+  private final int batchSize;
+
+  private final List<NewOrder> pendingOrders = new ArrayList<>();
+  private final Set<Integer> knownUserIds = new HashSet<>();
+  private final Set<Integer> unknownUserIds = new HashSet<>();
+
+  private int receivedCount;
+  private int createdCount;
+  private int rejectedCount;
+  private int batchCount;
+
+  /**
+   * Creates a new ingestion.
+   *
+   * @param orderService the service that creates the orders.
+   * @param userLoader requests multiple users from the User-Service, unknown users are omitted.
+   * @param userIdExtractor returns the ID of a user.
+   * @param requestedBatchSize the amount of orders per batch, the default is used if it is not
+   *     positive and it is limited to {@link #MAX_BATCH_SIZE}.
+   */
+  public OrderIngestion(
+      OrderService orderService,
+      Function<List<Integer>, List<U>> userLoader,
+      Function<U, Integer> userIdExtractor,
+      int requestedBatchSize) {
+    this.orderService = orderService;
+    this.userLoader = userLoader;
+    this.userIdExtractor = userIdExtractor;
+    this.batchSize =
+        requestedBatchSize > 0 ? Math.min(requestedBatchSize, MAX_BATCH_SIZE) : DEFAULT_BATCH_SIZE;
+  }
+
+  /**
+   * Adds a single order. Invalid orders are rejected immediately, valid orders are created once
+   * the batch is full.
+   *
+   * @param userId the ID of the ordering user.
+   * @param productIds a list containing the IDs of all ordered products.
+   * @throws RuntimeException if the request to the User-Service fails.
+   */
+  public void add(Integer userId, List<Integer> productIds) {
+    this.receivedCount++;
+    if (userId == null || userId <= 0 || productIds == null || productIds.isEmpty()) {
+      this.rejectedCount++;
+      return;
+    }
+
+    this.pendingOrders.add(new NewOrder(userId, productIds));
+    if (this.pendingOrders.size() >= this.batchSize) {
+      this.createPendingOrders();
+    }
+  }
+
+  /**
+   * Creates all remaining orders and returns the summary of the whole ingestion.
+   *
+   * @return the summary of the ingestion.
+   * @throws RuntimeException if the request to the User-Service fails.
+   */
+  public OrderIngestionSummary complete() {
+    this.createPendingOrders();
+
+    return new OrderIngestionSummary(
+        this.receivedCount, this.createdCount, this.rejectedCount, this.batchCount);
+  }
+
+  private void createPendingOrders() {
+    if (this.pendingOrders.isEmpty()) {
+      return;
+    }
+
+    this.resolveUsers();
+
+    List<NewOrder> ordersOfKnownUsers = new ArrayList<>(this.pendingOrders.size());
+    for (NewOrder newOrder : this.pendingOrders) {
+      if (this.knownUserIds.contains(newOrder.userId())) {
+        ordersOfKnownUsers.add(newOrder);
+      }
+    }
+
+    int createdOrderCount = this.orderService.createOrders(ordersOfKnownUsers).size();
+    this.createdCount += createdOrderCount;
+    this.rejectedCount += this.pendingOrders.size() - createdOrderCount;
+    this.batchCount++;
+    this.pendingOrders.clear();
+  }
+
+  /** Requests all users of the pending orders that have not been requested yet. */
+  private void resolveUsers() {
+    Set<Integer> unresolvedUserIds = new LinkedHashSet<>();
+    for (NewOrder newOrder : this.pendingOrders) {
+      Integer userId = newOrder.userId();
+      if (!this.knownUserIds.contains(userId) && !this.unknownUserIds.contains(userId)) {
+        unresolvedUserIds.add(userId);
+      }
+    }
+    if (unresolvedUserIds.isEmpty()) {
+      return;
+    }
+
+    for (U user : this.userLoader.apply(List.copyOf(unresolvedUserIds))) {
+      this.knownUserIds.add(this.userIdExtractor.apply(user));
+    }
+    for (Integer userId : unresolvedUserIds) {
+      if (!this.knownUserIds.contains(userId)) {
+        this.unknownUserIds.add(userId);
+      }
+    }
+  }
+}
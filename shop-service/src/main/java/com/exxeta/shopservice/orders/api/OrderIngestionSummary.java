@@ -0,0 +1,13 @@
+package com.exxeta.shopservice.orders.api;
+
+/**
+ * Summary of an {@link OrderIngestion}.
+ *
+ * @param receivedCount the amount of received orders.
+ * @param createdCount the amount of created orders.
+ * @param rejectedCount the amount of orders that were invalid or contained an unknown user or
+ *     product.
+ * @param batchCount the amount of batches in which the orders were created.
+ */
+public record OrderIngestionSummary(
+    int receivedCount, int createdCount, int rejectedCount, int batchCount) {}
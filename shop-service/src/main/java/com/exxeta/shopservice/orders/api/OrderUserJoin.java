@@ -0,0 +1,64 @@
+package com.exxeta.shopservice.orders.api;
+
+import com.exxeta.shopservice.orders.entity.Order;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Joins orders with the users that created them. The users are indexed by their ID once, so every
+ * order is matched to its user in constant time instead of searching through all users.
+ */
+public final class OrderUserJoin {
+
+  private OrderUserJoin() {}
+
+  /**
+   * Returns the IDs of all users that created at least one of the given orders. Every ID is only
+   * contained once, even if the user created multiple orders.
+   *
+   * @param orders the orders whose users should be requested.
+   * @return a list containing every User-ID once, in the order of their first occurrence.
+   */
+  public static List<Integer> distinctUserIds(List<Order> orders) {
+    return orders.stream().map(Order::getUserId).distinct().toList();
+  }
+
+  /**
+   * Maps every order together with the user that created it. Orders whose user is not contained in
+   * the given users are skipped. If a user is contained multiple times, the first occurrence is
+   * used.
+   *
+   * @param orders the orders to map.
+   * @param users the users that created the orders.
+   * @param userIdExtractor returns the ID of a user.
+   * @param mapper maps an order together with its user to the result type.
+   * @param <U> the type of the users.
+   * @param <R> the type of the mapped orders.
+   * @return a list containing the mapped orders in the order of the given orders.
+   */
+  public static <U, R> List<R> join(
+      List<Order> orders,
+      Collection<U> users,
+      Function<U, Integer> userIdExtractor,
+      BiFunction<Order, U, R> mapper) {
+    Map<Integer, U> usersById = new HashMap<>((int) (users.size() / 0.75f) + 1);
+    for (U user : users) {
+      usersById.putIfAbsent(userIdExtractor.apply(user), user);
+    }
+
+    List<R> mappedOrders = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      U user = usersById.get(order.getUserId());
+      if (user != null) {
+        mappedOrders.add(mapper.apply(order, user));
+      }
+    }
+
+    return mappedOrders;
+  }
+}
@@ -1,26 +1,35 @@
 package com.exxeta.shopservice.orders.api.grpc;
 
 import com.exxeta.shopservice.CreateOrderRequest;
+import com.exxeta.shopservice.CreateOrdersSummaryGrpcDto;
 import com.exxeta.shopservice.DeleteOrderRequest;
 import com.exxeta.shopservice.GetOrderRequest;
+import com.exxeta.shopservice.ListPageRequest;
 import com.exxeta.shopservice.OrderGrpcDto;
 import com.exxeta.shopservice.OrderListGrpcDto;
+import com.exxeta.shopservice.OrderPageGrpcDto;
 import com.exxeta.shopservice.OrderServiceGrpc.OrderServiceImplBase;
-import com.exxeta.shopservice.ProductGrpcDto;
 import com.exxeta.shopservice.ProductList;
+import com.exxeta.shopservice.StreamListRequest;
 import com.exxeta.shopservice.UpdateOrderRequest;
 import com.exxeta.shopservice.clients.userservice.grpc.UserServiceGrpcClient;
+import com.exxeta.shopservice.orders.api.OrderIngestion;
+import com.exxeta.shopservice.orders.api.OrderIngestionSummary;
+import com.exxeta.shopservice.orders.api.OrderUserJoin;
 import com.exxeta.shopservice.orders.entity.Order;
 import com.exxeta.shopservice.orders.service.OrderNotFoundException;
 import com.exxeta.shopservice.orders.service.OrderService;
-import com.exxeta.shopservice.products.entity.Product;
+import com.exxeta.shopservice.paging.GrpcBatchStream;
+import com.exxeta.shopservice.paging.InvalidPageTokenException;
+import com.exxeta.shopservice.paging.Page;
+import com.exxeta.shopservice.paging.Paging;
+import com.exxeta.shopservice.products.api.grpc.ProductGrpcDtoCache;
 import com.exxeta.userservice.CreateUserRequest;
 import com.exxeta.userservice.UserGrpcDto;
 import com.google.protobuf.Empty;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
@@ -30,11 +39,15 @@ import org.springframework.stereotype.Controller;
 public class OrderServiceGrpcApi extends OrderServiceImplBase {
   private final OrderService orderService;
   private final UserServiceGrpcClient userServiceGrpcClient;
+  private final ProductGrpcDtoCache productGrpcDtoCache;
 
   public OrderServiceGrpcApi(
-      OrderService orderService, UserServiceGrpcClient userServiceGrpcClient) {
+      OrderService orderService,
+      UserServiceGrpcClient userServiceGrpcClient,
+      ProductGrpcDtoCache productGrpcDtoCache) {
     this.orderService = orderService;
     this.userServiceGrpcClient = userServiceGrpcClient;
+    this.productGrpcDtoCache = productGrpcDtoCache;
   }
 
   @Override
@@ -61,29 +74,105 @@ public class OrderServiceGrpcApi extends OrderServiceImplBase {
   }
 
   @Override
-  public void listOrders(Empty request, StreamObserver<OrderListGrpcDto> responseObserver) {
-    List<Order> orders = orderService.listOrders();
+  public StreamObserver<CreateOrderRequest> createOrders(
+      StreamObserver<CreateOrdersSummaryGrpcDto> responseObserver) {
+    OrderIngestion<UserGrpcDto> ingestion =
+        new OrderIngestion<>(
+            orderService,
+            userServiceGrpcClient::listUsers,
+            UserGrpcDto::getId,
+            OrderIngestion.DEFAULT_BATCH_SIZE);
 
-    List<Integer> userIds = orders.stream().map(Order::getUserId).toList();
-    List<UserGrpcDto> userDtos = userServiceGrpcClient.listUsers(userIds);
+    return new StreamObserver<>() {
+      private boolean failed;
 
-    List<OrderGrpcDto> orderDtos = new ArrayList<>();
-    for (Order order : orders) {
-      for (UserGrpcDto userDto : userDtos) {
-        if (userDto.getId() == order.getUserId()) {
-          OrderGrpcDto orderDto = this.mapOrderToOrderGrpcDto(order, userDto);
-          orderDtos.add(orderDto);
-          break;
+      @Override
+      public void onNext(CreateOrderRequest request) {
+        if (this.failed) {
+          return;
+        }
+
+        try {
+          ingestion.add(request.getUserId(), request.getProductIdsList());
+        } catch (Exception ex) {
+          this.failed = true;
+          responseObserver.onError(Status.INTERNAL.asRuntimeException());
         }
       }
-    }
 
-    OrderListGrpcDto response = OrderListGrpcDto.newBuilder().addAllOrders(orderDtos).build();
+      @Override
+      public void onError(Throwable throwable) {
+        // the client cancelled the stream, orders that have not been created yet are discarded
+      }
+
+      @Override
+      public void onCompleted() {
+        if (this.failed) {
+          return;
+        }
+
+        OrderIngestionSummary summary;
+        try {
+          summary = ingestion.complete();
+        } catch (Exception ex) {
+          responseObserver.onError(Status.INTERNAL.asRuntimeException());
+          return;
+        }
+
+        responseObserver.onNext(mapSummaryToCreateOrdersSummaryGrpcDto(summary));
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
+  @Override
+  public void listOrders(Empty request, StreamObserver<OrderListGrpcDto> responseObserver) {
+    List<Order> orders = orderService.listOrders();
+
+    OrderListGrpcDto response = this.mapOrdersToOrderListGrpcDto(orders);
 
     responseObserver.onNext(response);
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void listOrdersPage(
+      ListPageRequest request, StreamObserver<OrderPageGrpcDto> responseObserver) {
+    Page<Order> page;
+    try {
+      page =
+          Paging.loadPage(
+              orderService::listOrdersAfter,
+              request.getPageSize(),
+              request.getPageToken(),
+              Order::getId);
+    } catch (InvalidPageTokenException ex) {
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException());
+      return;
+    }
+
+    OrderPageGrpcDto.Builder response =
+        OrderPageGrpcDto.newBuilder().addAllOrders(this.mapOrdersWithUsers(page.items()));
+    if (page.nextPageToken() != null) {
+      response.setNextPageToken(page.nextPageToken());
+    }
+
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void streamOrders(
+      StreamListRequest request, StreamObserver<OrderListGrpcDto> responseObserver) {
+    GrpcBatchStream.start(
+        responseObserver,
+        request.getBatchSize(),
+        orderService::listOrdersAfter,
+        Order::getId,
+        this::mapOrdersToOrderListGrpcDto);
+  }
+
   @Override
   public void getOrder(GetOrderRequest request, StreamObserver<OrderGrpcDto> responseObserver) {
     Order order;
@@ -151,6 +240,38 @@ public class OrderServiceGrpcApi extends OrderServiceImplBase {
     responseObserver.onCompleted();
   }
 
+  /**
+   * Requests the users of all orders with a single request and maps every order together with its
+   * user to an {@link OrderGrpcDto}.
+   *
+   * @param orders the orders that should be mapped.
+   * @return a list containing the mapped orders.
+   */
+  private List<OrderGrpcDto> mapOrdersWithUsers(List<Order> orders) {
+    if (orders.isEmpty()) {
+      return List.of();
+    }
+
+    List<Integer> userIds = OrderUserJoin.distinctUserIds(orders);
+    List<UserGrpcDto> userDtos = userServiceGrpcClient.listUsers(userIds);
+
+    return OrderUserJoin.join(orders, userDtos, UserGrpcDto::getId, this::mapOrderToOrderGrpcDto);
+  }
+
+  private OrderListGrpcDto mapOrdersToOrderListGrpcDto(List<Order> orders) {
+    return OrderListGrpcDto.newBuilder().addAllOrders(this.mapOrdersWithUsers(orders)).build();
+  }
+
+  private CreateOrdersSummaryGrpcDto mapSummaryToCreateOrdersSummaryGrpcDto(
+      OrderIngestionSummary summary) {
+    return CreateOrdersSummaryGrpcDto.newBuilder()
+        .setReceivedCount(summary.receivedCount())
+        .setCreatedCount(summary.createdCount())
+        .setRejectedCount(summary.rejectedCount())
+        .setBatchCount(summary.batchCount())
+        .build();
+  }
+
   /**
    * Maps the {@link Order} object together with the corresponding {@link UserGrpcDto} to the
    * generated {@link OrderGrpcDto} object that is used as a response type for gRPC requests.
@@ -160,22 +281,16 @@ public class OrderServiceGrpcApi extends OrderServiceImplBase {
    * @return the mapped {@link UserGrpcDto} object.
    */
   private OrderGrpcDto mapOrderToOrderGrpcDto(Order order, UserGrpcDto userDto) {
-    var productListBuilder = ProductList.newBuilder();
-    for (Product product : order.getProducts()) {
-      productListBuilder.addProducts(
-          ProductGrpcDto.newBuilder()
-              .setId(product.getId())
-              .setName(product.getName())
-              .setCategory(product.getCategory().getName())
-              .setPrice(product.getPrice())
-              .build());
-    }
+    ProductList productList =
+        ProductList.newBuilder()
+            .addAllProducts(this.productGrpcDtoCache.getAll(order.getProducts()))
+            .build();
 
     String isoTimestamp = DateTimeFormatter.ISO_DATE_TIME.format(order.getDateTime());
     return OrderGrpcDto.newBuilder()
         .setId(order.getId())
         .setIsoTimestamp(isoTimestamp)
-        .setProducts(productListBuilder.build())
+        .setProducts(productList)
         .setTotalPrice(order.getTotalPrice())
         .setUser(userDto)
         .build();
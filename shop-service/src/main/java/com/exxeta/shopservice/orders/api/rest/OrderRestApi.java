@@ -2,17 +2,27 @@ package com.exxeta.shopservice.orders.api.rest;
 
 import com.exxeta.shopservice.clients.userservice.rest.UserServiceRestClient;
 import com.exxeta.shopservice.clients.userservice.rest.dto.UserRestDto;
+import com.exxeta.shopservice.orders.api.OrderIngestion;
+import com.exxeta.shopservice.orders.api.OrderIngestionSummary;
+import com.exxeta.shopservice.orders.api.OrderUserJoin;
 import com.exxeta.shopservice.orders.api.rest.dto.CreateOrderRestDto;
+import com.exxeta.shopservice.orders.api.rest.dto.CreateOrdersSummaryRestDto;
+import com.exxeta.shopservice.orders.api.rest.dto.OrderPageRestDto;
 import com.exxeta.shopservice.orders.api.rest.dto.OrderRestDto;
 import com.exxeta.shopservice.orders.api.rest.dto.UpdateOrderRestDto;
 import com.exxeta.shopservice.orders.entity.Order;
 import com.exxeta.shopservice.orders.service.OrderNotFoundException;
 import com.exxeta.shopservice.orders.service.OrderService;
-import com.exxeta.shopservice.products.api.rest.dto.ProductRestDto;
+import com.exxeta.shopservice.paging.InvalidPageTokenException;
+import com.exxeta.shopservice.paging.NdjsonBatchStream;
+import com.exxeta.shopservice.paging.Page;
+import com.exxeta.shopservice.paging.Paging;
+import com.exxeta.shopservice.products.api.rest.ProductJsonCache;
 import com.exxeta.shopservice.products.service.ProductNotFoundException;
 import com.exxeta.userservice.CreateUserRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
@@ -25,8 +35,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Profile("!grpc")
 @RestController
@@ -35,10 +47,18 @@ public class OrderRestApi {
 
   public OrderService orderService;
   public UserServiceRestClient userServiceRestClient;
+  private final ProductJsonCache productJsonCache;
+  private final ObjectMapper objectMapper;
 
-  public OrderRestApi(OrderService orderService, UserServiceRestClient userServiceRestClient) {
+  public OrderRestApi(
+      OrderService orderService,
+      UserServiceRestClient userServiceRestClient,
+      ProductJsonCache productJsonCache,
+      ObjectMapper objectMapper) {
     this.orderService = orderService;
     this.userServiceRestClient = userServiceRestClient;
+    this.productJsonCache = productJsonCache;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping()
@@ -60,30 +80,84 @@ public class OrderRestApi {
     return ResponseEntity.ok(orderDto);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<CreateOrdersSummaryRestDto> createOrders(
+      @RequestBody List<CreateOrderRestDto> createOrderDtos,
+      @RequestParam(defaultValue = "0") int batchSize) {
+    OrderIngestion<UserRestDto> ingestion =
+        new OrderIngestion<>(
+            orderService, userServiceRestClient::listUsers, UserRestDto::id, batchSize);
+
+    OrderIngestionSummary summary;
+    try {
+      for (CreateOrderRestDto createOrderDto : createOrderDtos) {
+        if (createOrderDto != null) {
+          ingestion.add(createOrderDto.userId(), createOrderDto.productIds());
+        } else {
+          ingestion.add(null, null);
+        }
+      }
+      summary = ingestion.complete();
+    } catch (Exception ex) {
+      throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+    }
+
+    return ResponseEntity.ok(
+        new CreateOrdersSummaryRestDto(
+            summary.receivedCount(),
+            summary.createdCount(),
+            summary.rejectedCount(),
+            summary.batchCount()));
+  }
+
   @GetMapping
   public ResponseEntity<List<OrderRestDto>> listOrders() {
 
     List<Order> orders = orderService.listOrders();
 
-    List<UserRestDto> userDtos;
+    List<OrderRestDto> orderDtos;
     try {
-      userDtos = userServiceRestClient.listUsers(orders.stream().map(Order::getUserId).toList());
+      orderDtos = this.mapOrdersWithUsers(orders);
     } catch (Exception ex) {
       throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
-    List<OrderRestDto> orderDtos = new ArrayList<>();
-    for (Order order : orders) {
-      for (UserRestDto userDto : userDtos) {
-        if (userDto.id().equals(order.getUserId())) {
-          OrderRestDto orderDto = this.mapOrderToOrderDto(order, userDto);
-          orderDtos.add(orderDto);
-          break;
-        }
-      }
+    return ResponseEntity.ok(orderDtos);
+  }
+
+  @GetMapping("/page")
+  public ResponseEntity<OrderPageRestDto> listOrdersPage(
+      @RequestParam(defaultValue = "0") int pageSize,
+      @RequestParam(required = false) String pageToken) {
+    Page<Order> page;
+    try {
+      page = Paging.loadPage(orderService::listOrdersAfter, pageSize, pageToken, Order::getId);
+    } catch (InvalidPageTokenException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
-    return ResponseEntity.ok(orderDtos);
+    List<OrderRestDto> orderDtos;
+    try {
+      orderDtos = this.mapOrdersWithUsers(page.items());
+    } catch (Exception ex) {
+      throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+    }
+
+    return ResponseEntity.ok(new OrderPageRestDto(orderDtos, page.nextPageToken()));
+  }
+
+  @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamOrders(
+      @RequestParam(defaultValue = "0") int batchSize) {
+    StreamingResponseBody body =
+        NdjsonBatchStream.create(
+            objectMapper,
+            batchSize,
+            orderService::listOrdersAfter,
+            Order::getId,
+            this::mapOrdersWithUsers);
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   @GetMapping("/{orderId}")
@@ -138,6 +212,25 @@ public class OrderRestApi {
     return ResponseEntity.ok(productDto);
   }
 
+  /**
+   * Requests the users of all orders with a single request and maps every order together with its
+   * user to an {@link OrderRestDto}.
+   *
+   * @param orders the orders that should be mapped.
+   * @return a list containing the mapped orders.
+   * @throws RuntimeException if the request for the users fails.
+   */
+  private List<OrderRestDto> mapOrdersWithUsers(List<Order> orders) {
+    if (orders.isEmpty()) {
+      return List.of();
+    }
+
+    List<UserRestDto> userDtos =
+        userServiceRestClient.listUsers(OrderUserJoin.distinctUserIds(orders));
+
+    return OrderUserJoin.join(orders, userDtos, UserRestDto::id, this::mapOrderToOrderDto);
+  }
+
   /**
    * Maps the {@link Order} object together with the corresponding {@link UserRestDto} to the {@link
    * OrderRestDto} object that is used as a response type for REST requests.
@@ -147,16 +240,7 @@ public class OrderRestApi {
    * @return the mapped {@link OrderRestDto} object.
    */
   private OrderRestDto mapOrderToOrderDto(Order order, UserRestDto userDto) {
-    List<ProductRestDto> productDtos =
-        order.getProducts().stream()
-            .map(
-                product ->
-                    new ProductRestDto(
-                        product.getId(),
-                        product.getName(),
-                        product.getPrice(),
-                        product.getCategory().getName()))
-            .toList();
+    List<RawValue> productDtos = this.productJsonCache.getAll(order.getProducts());
 
     String isoTimestamp = DateTimeFormatter.ISO_DATE_TIME.format(order.getDateTime());
     return new OrderRestDto(
@@ -0,0 +1,4 @@
+package com.exxeta.shopservice.orders.api.rest.dto;
+
+public record CreateOrdersSummaryRestDto(
+    Integer receivedCount, Integer createdCount, Integer rejectedCount, Integer batchCount) {}
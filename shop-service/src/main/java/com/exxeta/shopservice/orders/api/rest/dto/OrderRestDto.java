@@ -1,12 +1,12 @@
 package com.exxeta.shopservice.orders.api.rest.dto;
 
 import com.exxeta.shopservice.clients.userservice.rest.dto.UserRestDto;
-import com.exxeta.shopservice.products.api.rest.dto.ProductRestDto;
+import com.fasterxml.jackson.databind.util.RawValue;
 import java.util.List;
 
 public record OrderRestDto(
     Integer id,
     String isoTimestamp,
-    List<ProductRestDto> products,
+    List<RawValue> products,
     Float totalPrice,
     UserRestDto user) {}
@@ -4,17 +4,15 @@ import com.exxeta.shopservice.products.entity.Product;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
+import lombok.Value;
 
-@Builder
-@Getter
-@Setter
+@Value
+@Builder(toBuilder = true)
 public class Order {
-  @NonNull private Integer id;
-  @NonNull private Integer userId;
-  @NonNull private LocalDateTime dateTime;
-  @NonNull private List<Product> products;
-  @NonNull private Float totalPrice;
+  @NonNull Integer id;
+  @NonNull Integer userId;
+  @NonNull LocalDateTime dateTime;
+  @NonNull List<Product> products;
+  @NonNull Float totalPrice;
 }
@@ -0,0 +1,11 @@
+package com.exxeta.shopservice.orders.service;
+
+import java.util.List;
+
+/**
+ * An order that should be created as part of a batch.
+ *
+ * @param userId the ID of the ordering user.
+ * @param productIds a list containing the IDs of all ordered products.
+ */
+public record NewOrder(Integer userId, List<Integer> productIds) {}
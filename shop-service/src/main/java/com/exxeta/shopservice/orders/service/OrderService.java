@@ -7,11 +7,14 @@ import com.exxeta.shopservice.products.service.ProductNotFoundException;
 import com.exxeta.shopservice.products.service.ProductService;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +24,13 @@ public class OrderService {
 
   private final Map<Integer, Order> orders = new ConcurrentHashMap<>();
 
+  // IDs are never reused, even if an order has been deleted
+  private final AtomicInteger nextOrderId = new AtomicInteger();
+
+  // index of all order IDs per User-ID and the categories that each user has bought products from
+  private final Map<Integer, Set<Integer>> orderIdsByUser = new ConcurrentHashMap<>();
+  private final Map<Integer, List<Category>> boughtCategoriesByUser = new ConcurrentHashMap<>();
+
   public OrderService(ProductService productService) {
     this.productService = productService;
 
@@ -36,28 +46,62 @@ public class OrderService {
    * @throws ProductNotFoundException if any product id is not found.
    */
   public Order createOrder(Integer userId, List<Integer> productIds) {
-    Float totalPrice = 0f;
     List<Product> products = new ArrayList<>();
     for (int productId : productIds) {
-      Product product = this.productService.getProduct(productId);
-      products.add(product);
-
-      totalPrice += product.getPrice();
+      products.add(this.productService.getProduct(productId));
     }
 
-    final Order newOrder =
-        Order.builder()
-            .id(this.orders.size() + 1)
-            .userId(userId)
-            .dateTime(LocalDateTime.now())
-            .products(products)
-            .totalPrice(totalPrice)
-            .build();
+    Order newOrder = this.insertOrder(userId, products);
+    this.updateBoughtCategories(userId);
 
-    orders.put(newOrder.getId(), newOrder);
     return newOrder;
   }
 
+  /**
+   * Creates a batch of new orders. Every distinct product is only looked up once per batch and the
+   * bought categories are only recomputed once per distinct user, instead of once per order.
+   * Orders that contain an unknown product are skipped, all other orders are created.
+   *
+   * @param newOrders the orders to create.
+   * @return a list containing all created orders in the order of the given orders.
+   */
+  public List<Order> createOrders(List<NewOrder> newOrders) {
+    // unknown products are stored as null, so they are not looked up again either
+    Map<Integer, Product> productsById = new HashMap<>();
+    for (NewOrder newOrder : newOrders) {
+      for (Integer productId : newOrder.productIds()) {
+        if (!productsById.containsKey(productId)) {
+          productsById.put(productId, this.findProduct(productId));
+        }
+      }
+    }
+
+    List<Order> createdOrders = new ArrayList<>(newOrders.size());
+    Set<Integer> userIds = new LinkedHashSet<>();
+    for (NewOrder newOrder : newOrders) {
+      List<Product> products = new ArrayList<>(newOrder.productIds().size());
+      for (Integer productId : newOrder.productIds()) {
+        Product product = productsById.get(productId);
+        if (product == null) {
+          break;
+        }
+        products.add(product);
+      }
+      if (products.size() != newOrder.productIds().size()) {
+        continue;
+      }
+
+      createdOrders.add(this.insertOrder(newOrder.userId(), products));
+      userIds.add(newOrder.userId());
+    }
+
+    for (Integer userId : userIds) {
+      this.updateBoughtCategories(userId);
+    }
+
+    return createdOrders;
+  }
+
   /**
    * Returns all stored orders.
    *
@@ -67,6 +111,34 @@ public class OrderService {
     return orders.values().stream().toList();
   }
 
+  /**
+   * Returns the stored orders with an ID greater than the given ID, ordered by their ID. The IDs
+   * are assigned in ascending order, so the orders are looked up by their ID instead of sorting all
+   * orders.
+   *
+   * @param afterOrderId the ID after which the orders start, 0 to start with the first order.
+   * @param limit the maximum amount of orders to return.
+   * @return a list containing at most {@code limit} orders.
+   */
+  public List<Order> listOrdersAfter(int afterOrderId, int limit) {
+    int lastOrderId = this.nextOrderId.get();
+    if (afterOrderId >= lastOrderId) {
+      return List.of();
+    }
+
+    List<Order> page = new ArrayList<>(Math.min(limit, this.orders.size()));
+    for (int orderId = Math.max(afterOrderId, 0) + 1;
+        orderId <= lastOrderId && page.size() < limit;
+        orderId++) {
+      Order order = this.orders.get(orderId);
+      if (order != null) {
+        page.add(order);
+      }
+    }
+
+    return page;
+  }
+
   /**
    * Returns a single order with the given id.
    *
@@ -85,7 +157,8 @@ public class OrderService {
 
   /**
    * Update an order. All parameters except the id are optional and should be set to null if the
-   * corresponding field in the user object should not be changed.
+   * corresponding field in the user object should not be changed. The stored order is atomically
+   * replaced by an updated copy, so readers never see a partially updated order.
    *
    * @param orderId id of the user that will be updated.
    * @param updatedProductIds a list of products belonging to the updated order.
@@ -93,7 +166,7 @@ public class OrderService {
    * @throws ProductNotFoundException if the product with the given id is not found.
    */
   public Order updateOrder(Integer orderId, List<Integer> updatedProductIds) {
-    Order order = this.getOrder(orderId);
+    this.getOrder(orderId);
 
     Float updatedPrice = 0f;
     List<Product> updatedProducts = new ArrayList<>();
@@ -104,10 +177,21 @@ public class OrderService {
       updatedPrice += product.getPrice();
     }
 
-    order.setProducts(updatedProducts);
-    order.setTotalPrice(updatedPrice);
+    final Float totalPrice = updatedPrice;
+    final Order updatedOrder =
+        orders.computeIfPresent(
+            orderId,
+            (id, order) ->
+                order.toBuilder()
+                    .products(List.copyOf(updatedProducts))
+                    .totalPrice(totalPrice)
+                    .build());
+    if (updatedOrder == null) {
+      throw new OrderNotFoundException(orderId);
+    }
+    this.updateBoughtCategories(updatedOrder.getUserId());
 
-    return order;
+    return updatedOrder;
   }
 
   /**
@@ -123,25 +207,89 @@ public class OrderService {
       throw new OrderNotFoundException(orderId);
     }
 
+    Set<Integer> userOrderIds = this.orderIdsByUser.get(order.getUserId());
+    if (userOrderIds != null) {
+      userOrderIds.remove(orderId);
+    }
+    this.updateBoughtCategories(order.getUserId());
+
     return order;
   }
 
   /**
-   * Returns a list of all categories that the user has bought products from.
+   * Returns a list of all categories that the user has bought products from. The categories are
+   * precomputed whenever an order of the user changes.
    *
    * @param userId The ID of the user.
-   * @return a list containing all bought product categories.
+   * @return an unmodifiable list containing all bought product categories in declaration order.
    */
   public List<Category> getBoughtCategoriesByUser(Integer userId) {
-    List<Order> ordersByUser =
-        orders.values().stream().filter(order -> order.getUserId().equals(userId)).toList();
+    return this.boughtCategoriesByUser.getOrDefault(userId, List.of());
+  }
+
+  /**
+   * Stores a new order and adds it to the index of the orders of its user. The bought categories
+   * of the user are not updated.
+   *
+   * @param userId the id of the ordering user.
+   * @param products all ordered products.
+   * @return the created order.
+   */
+  private Order insertOrder(Integer userId, List<Product> products) {
+    Float totalPrice = 0f;
+    for (Product product : products) {
+      totalPrice += product.getPrice();
+    }
+
+    final Order newOrder =
+        Order.builder()
+            .id(this.nextOrderId.incrementAndGet())
+            .userId(userId)
+            .dateTime(LocalDateTime.now())
+            .products(List.copyOf(products))
+            .totalPrice(totalPrice)
+            .build();
 
-    Set<Category> boughtCategories = new HashSet<>();
-    ordersByUser.forEach(
-        order ->
-            order.getProducts().forEach(product -> boughtCategories.add(product.getCategory())));
+    orders.put(newOrder.getId(), newOrder);
+    this.orderIdsByUser
+        .computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet())
+        .add(newOrder.getId());
+
+    return newOrder;
+  }
+
+  private Product findProduct(Integer productId) {
+    try {
+      return this.productService.getProduct(productId);
+    } catch (ProductNotFoundException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Recomputes the categories that the user has bought products from. This only iterates over the
+   * orders of the given user and is executed atomically per user, so concurrent changes to the
+   * orders of a user are always reflected by the last update.
+   *
+   * @param userId The ID of the user.
+   */
+  private void updateBoughtCategories(Integer userId) {
+    this.boughtCategoriesByUser.compute(
+        userId,
+        (id, previous) -> {
+          Set<Category> categories = EnumSet.noneOf(Category.class);
+          for (Integer orderId : this.orderIdsByUser.getOrDefault(userId, Set.of())) {
+            Order order = this.orders.get(orderId);
+            if (order == null) {
+              continue;
+            }
+            for (Product product : order.getProducts()) {
+              categories.add(product.getCategory());
+            }
+          }
 
-    return boughtCategories.stream().toList();
+          return List.copyOf(categories);
+        });
   }
 
   /**
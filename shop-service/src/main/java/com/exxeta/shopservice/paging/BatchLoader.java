@@ -0,0 +1,23 @@
+package com.exxeta.shopservice.paging;
+
+import java.util.List;
+
+/**
+ * Loads the items of a store in the order of their IDs, starting after the ID of the last item that
+ * has already been loaded.
+ *
+ * @param <T> the type of the items.
+ */
+@FunctionalInterface
+public interface BatchLoader<T> {
+
+  /**
+   * Loads the next items.
+   *
+   * @param afterId the ID of the last loaded item, 0 to start with the first item.
+   * @param limit the maximum amount of items to load.
+   * @return a list containing at most {@code limit} items with an ID greater than {@code afterId},
+   *     ordered by their ID.
+   */
+  List<T> load(int afterId, int limit);
+}
@@ -0,0 +1,97 @@
+package com.exxeta.shopservice.paging;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams all items of a store in batches to the client of a server-streaming gRPC call.
+ *
+ * <p>The stream respects the flow control of the call: the next batch is only loaded and sent while
+ * the call is ready, so a slow client does not cause all items to be buffered in memory. Once the
+ * call becomes ready again, the stream continues after the ID of the last sent item.
+ *
+ * @param <T> the type of the items.
+ * @param <R> the type of the messages that contain a batch of items.
+ */
+public final class GrpcBatchStream<T, R> {
+  private final ServerCallStreamObserver<R> responseObserver;
+  private final BatchLoader<T> loader;
+  private final int batchSize;
+  private final Function<T, Integer> idExtractor;
+  private final Function<List<T>, R> batchMapper;
+
+  // only accessed by the onReady handler, which is never called concurrently
+  private int lastId;
+  private boolean completed;
+
+  private GrpcBatchStream(
+      ServerCallStreamObserver<R> responseObserver,
+      BatchLoader<T> loader,
+      int batchSize,
+      Function<T, Integer> idExtractor,
+      Function<List<T>, R> batchMapper) {
+    this.responseObserver = responseObserver;
+    this.loader = loader;
+    this.batchSize = batchSize;
+    this.idExtractor = idExtractor;
+    this.batchMapper = batchMapper;
+  }
+
+  /**
+   * Starts streaming all items. The batches are sent by the onReady handler of the call, so this
+   * method returns immediately.
+   *
+   * @param responseObserver the observer of the server-streaming call.
+   * @param requestedBatchSize the requested amount of items per message, the default size is used
+   *     if it is not positive.
+   * @param loader loads the next batch of items.
+   * @param idExtractor returns the ID of an item.
+   * @param batchMapper maps a batch of items to a message.
+   * @param <T> the type of the items.
+   * @param <R> the type of the messages.
+   */
+  public static <T, R> void start(
+      StreamObserver<R> responseObserver,
+      int requestedBatchSize,
+      BatchLoader<T> loader,
+      Function<T, Integer> idExtractor,
+      Function<List<T>, R> batchMapper) {
+    ServerCallStreamObserver<R> serverCallObserver =
+        (ServerCallStreamObserver<R>) responseObserver;
+    GrpcBatchStream<T, R> stream =
+        new GrpcBatchStream<>(
+            serverCallObserver,
+            loader,
+            Paging.resolveSize(requestedBatchSize),
+            idExtractor,
+            batchMapper);
+
+    // a cancelled call is never ready again, so the stream simply stops
+    serverCallObserver.setOnCancelHandler(() -> {});
+    serverCallObserver.setOnReadyHandler(stream::sendBatches);
+  }
+
+  private void sendBatches() {
+    try {
+      while (!this.completed && this.responseObserver.isReady()) {
+        List<T> batch = this.loader.load(this.lastId, this.batchSize);
+        if (!batch.isEmpty()) {
+          this.lastId = this.idExtractor.apply(batch.get(batch.size() - 1));
+          this.responseObserver.onNext(this.batchMapper.apply(batch));
+        }
+
+        if (batch.size() < this.batchSize) {
+          this.completed = true;
+          this.responseObserver.onCompleted();
+        }
+      }
+    } catch (RuntimeException ex) {
+      this.completed = true;
+      this.responseObserver.onError(
+          Status.INTERNAL.withDescription(ex.getMessage()).asRuntimeException());
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package com.exxeta.shopservice.paging;
+
+public class InvalidPageTokenException extends RuntimeException {
+  public InvalidPageTokenException(String pageToken) {
+    super(String.format("Page token '%s' is invalid", pageToken));
+  }
+}
@@ -0,0 +1,56 @@
+package com.exxeta.shopservice.paging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams all items of a store in batches as newline delimited JSON, where every line is a JSON
+ * array containing a single batch. Every line is flushed immediately, so the client can process the
+ * first batch before the last batch is loaded. Writing blocks while the client does not read, so a
+ * slow client does not cause all items to be buffered in memory.
+ */
+public final class NdjsonBatchStream {
+  private static final byte[] LINE_SEPARATOR = {'\n'};
+
+  private NdjsonBatchStream() {}
+
+  /**
+   * Creates the response body that streams all items.
+   *
+   * @param objectMapper the object mapper that encodes every batch.
+   * @param requestedBatchSize the requested amount of items per line, the default size is used if
+   *     it is not positive.
+   * @param loader loads the next batch of items.
+   * @param idExtractor returns the ID of an item.
+   * @param batchMapper maps a batch of items to the list of DTOs that is encoded as a line.
+   * @param <T> the type of the items.
+   * @param <R> the type of the DTOs.
+   * @return the response body that writes all batches.
+   */
+  public static <T, R> StreamingResponseBody create(
+      ObjectMapper objectMapper,
+      int requestedBatchSize,
+      BatchLoader<T> loader,
+      Function<T, Integer> idExtractor,
+      Function<List<T>, List<R>> batchMapper) {
+    int batchSize = Paging.resolveSize(requestedBatchSize);
+
+    return outputStream -> {
+      int lastId = 0;
+      List<T> batch;
+      do {
+        batch = loader.load(lastId, batchSize);
+        if (batch.isEmpty()) {
+          break;
+        }
+        lastId = idExtractor.apply(batch.get(batch.size() - 1));
+
+        outputStream.write(objectMapper.writeValueAsBytes(batchMapper.apply(batch)));
+        outputStream.write(LINE_SEPARATOR);
+        outputStream.flush();
+      } while (batch.size() == batchSize);
+    };
+  }
+}
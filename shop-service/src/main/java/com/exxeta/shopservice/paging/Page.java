@@ -0,0 +1,12 @@
+package com.exxeta.shopservice.paging;
+
+import java.util.List;
+
+/**
+ * A single page of items.
+ *
+ * @param items the items of the page, ordered by their ID.
+ * @param nextPageToken the token to request the next page, or null if this is the last page.
+ * @param <T> the type of the items.
+ */
+public record Page<T>(List<T> items, String nextPageToken) {}
@@ -0,0 +1,87 @@
+package com.exxeta.shopservice.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-based paging over items that are ordered by their ID. The page token encodes the ID of the
+ * last item of the previous page, so the next page neither repeats nor skips items if other items
+ * are created or deleted in between.
+ */
+public final class Paging {
+  public static final int DEFAULT_PAGE_SIZE = 20;
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  private Paging() {}
+
+  /**
+   * Loads a single page of items.
+   *
+   * @param loader loads the items after the cursor of the page token.
+   * @param requestedPageSize the requested amount of items, the default page size is used if it is
+   *     not positive.
+   * @param pageToken the token of the previous page, or null or empty for the first page.
+   * @param idExtractor returns the ID of an item.
+   * @param <T> the type of the items.
+   * @return the loaded page.
+   * @throws InvalidPageTokenException if the page token is invalid.
+   */
+  public static <T> Page<T> loadPage(
+      BatchLoader<T> loader,
+      int requestedPageSize,
+      String pageToken,
+      Function<T, Integer> idExtractor) {
+    int pageSize = resolveSize(requestedPageSize);
+
+    // one additional item is loaded to know if there is a next page
+    List<T> items = loader.load(decodePageToken(pageToken), pageSize + 1);
+    if (items.size() <= pageSize) {
+      return new Page<>(items, null);
+    }
+
+    List<T> pageItems = items.subList(0, pageSize);
+    int lastId = idExtractor.apply(pageItems.get(pageSize - 1));
+    return new Page<>(pageItems, encodePageToken(lastId));
+  }
+
+  /**
+   * Returns the page or batch size to use for a requested size.
+   *
+   * @param requestedSize the requested size.
+   * @return the default size if the requested size is not positive, otherwise the requested size
+   *     limited to the maximum size.
+   */
+  public static int resolveSize(int requestedSize) {
+    if (requestedSize <= 0) {
+      return DEFAULT_PAGE_SIZE;
+    }
+
+    return Math.min(requestedSize, MAX_PAGE_SIZE);
+  }
+
+  private static String encodePageToken(int lastId) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(Integer.toString(lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int decodePageToken(String pageToken) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      String encodedLastId =
+          new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      int lastId = Integer.parseInt(encodedLastId);
+      if (lastId < 0) {
+        throw new InvalidPageTokenException(pageToken);
+      }
+      return lastId;
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidPageTokenException(pageToken);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.exxeta.shopservice.products.api;
+
+import com.exxeta.shopservice.products.entity.Product;
+import com.exxeta.shopservice.products.service.ProductService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the immutable response representation of every product, so unchanged products are not
+ * mapped again for every response that contains them. A cached representation is removed once its
+ * product is updated or deleted.
+ *
+ * <p>Every cached representation remembers the product it was mapped from and is only returned for
+ * that exact product, so older versions of a product that are kept by orders are never answered
+ * with the representation of a newer version. Only the current version of a product is cached.
+ *
+ * @param <D> the type of the response representation.
+ */
+public class ProductDtoCache<D> {
+  private final Map<Integer, Entry<D>> entries = new ConcurrentHashMap<>();
+  private final ProductService productService;
+  private final Function<Product, D> mapper;
+
+  /**
+   * Creates a new cache that is invalidated by every change of a product.
+   *
+   * @param productService the service whose product changes invalidate the cache.
+   * @param mapper maps a product to its response representation.
+   */
+  public ProductDtoCache(ProductService productService, Function<Product, D> mapper) {
+    this.productService = productService;
+    this.mapper = mapper;
+
+    productService.addChangeListener(this.entries::remove);
+  }
+
+  /**
+   * Returns the cached representation of the product or maps the product if it is not cached.
+   *
+   * @param product the product to map.
+   * @return the representation of the product.
+   */
+  public D get(Product product) {
+    Entry<D> entry = this.entries.get(product.getId());
+    if (entry != null && entry.product() == product) {
+      return entry.dto();
+    }
+
+    D dto = this.mapper.apply(product);
+    if (this.productService.isCurrentVersion(product)) {
+      Entry<D> createdEntry = new Entry<>(product, dto);
+      this.entries.put(product.getId(), createdEntry);
+
+      // the product might have been changed after the check, so its invalidation might be missed
+      if (!this.productService.isCurrentVersion(product)) {
+        this.entries.remove(product.getId(), createdEntry);
+      }
+    }
+    return dto;
+  }
+
+  /**
+   * Returns the representations of all products by calling {@link #get} for every product.
+   *
+   * @param products the products to map.
+   * @return a list containing the representations in the order of the products.
+   */
+  public List<D> getAll(List<Product> products) {
+    return products.stream().map(this::get).toList();
+  }
+
+  private record Entry<D>(Product product, D dto) {}
+}
@@ -0,0 +1,37 @@
+package com.exxeta.shopservice.products.api.grpc;
+
+import com.exxeta.shopservice.ProductGrpcDto;
+import com.exxeta.shopservice.products.api.ProductDtoCache;
+import com.exxeta.shopservice.products.entity.Product;
+import com.exxeta.shopservice.products.service.ProductService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the built {@link ProductGrpcDto} of every product. Generated messages are immutable, so
+ * the same instance is added to every response that contains the product.
+ */
+@Profile("!rest")
+@Component
+public class ProductGrpcDtoCache extends ProductDtoCache<ProductGrpcDto> {
+
+  public ProductGrpcDtoCache(ProductService productService) {
+    super(productService, ProductGrpcDtoCache::mapProductToProductGrpcDto);
+  }
+
+  /**
+   * Maps the {@link Product} object to the generated {@link ProductGrpcDto} object that is used as
+   * a response type for gRPC requests.
+   *
+   * @param product the product that should be mapped to the DTO.
+   * @return the mapped {@link ProductGrpcDto} object.
+   */
+  private static ProductGrpcDto mapProductToProductGrpcDto(Product product) {
+    return ProductGrpcDto.newBuilder()
+        .setId(product.getId())
+        .setName(product.getName())
+        .setCategory(product.getCategory().getName())
+        .setPrice(product.getPrice())
+        .build();
+  }
+}
@@ -1,18 +1,24 @@
 package com.exxeta.shopservice.products.api.grpc;
 
-import com.exxeta.recommendationservice.RecommendationGrpcDto;
 import com.exxeta.shopservice.CreateProductRequest;
 import com.exxeta.shopservice.DeleteProductRequest;
 import com.exxeta.shopservice.GetProductRequest;
+import com.exxeta.shopservice.ListPageRequest;
 import com.exxeta.shopservice.ListRecommendedProductsRequest;
 import com.exxeta.shopservice.ProductGrpcDto;
 import com.exxeta.shopservice.ProductListGrpcDto;
+import com.exxeta.shopservice.ProductPageGrpcDto;
 import com.exxeta.shopservice.ProductRecommendationGrpcDto;
 import com.exxeta.shopservice.ProductServiceGrpc.ProductServiceImplBase;
+import com.exxeta.shopservice.StreamListRequest;
 import com.exxeta.shopservice.UpdateProductRequest;
 import com.exxeta.shopservice.clients.recommendationservice.grpc.RecommendationServiceGrpcClient;
 import com.exxeta.shopservice.clients.userservice.grpc.UserServiceGrpcClient;
 import com.exxeta.shopservice.orders.service.OrderService;
+import com.exxeta.shopservice.paging.GrpcBatchStream;
+import com.exxeta.shopservice.paging.InvalidPageTokenException;
+import com.exxeta.shopservice.paging.Page;
+import com.exxeta.shopservice.paging.Paging;
 import com.exxeta.shopservice.products.entity.Category;
 import com.exxeta.shopservice.products.entity.Product;
 import com.exxeta.shopservice.products.service.CategoryNotFoundException;
@@ -23,6 +29,8 @@ import com.google.protobuf.Empty;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 
@@ -31,6 +39,7 @@ import org.springframework.stereotype.Controller;
 public class ProductServiceGrpcApi extends ProductServiceImplBase {
   private final ProductService productService;
   private final OrderService orderService;
+  private final ProductGrpcDtoCache productGrpcDtoCache;
 
   private final UserServiceGrpcClient userServiceGrpcClient;
   private final RecommendationServiceGrpcClient recommendationServiceGrpcClient;
@@ -38,10 +47,12 @@ public class ProductServiceGrpcApi extends ProductServiceImplBase {
   public ProductServiceGrpcApi(
       ProductService productService,
       OrderService orderService,
+      ProductGrpcDtoCache productGrpcDtoCache,
       UserServiceGrpcClient userServiceGrpcClient,
       RecommendationServiceGrpcClient recommendationServiceGrpcClient) {
     this.orderService = orderService;
     this.productService = productService;
+    this.productGrpcDtoCache = productGrpcDtoCache;
     this.userServiceGrpcClient = userServiceGrpcClient;
     this.recommendationServiceGrpcClient = recommendationServiceGrpcClient;
   }
@@ -75,15 +86,51 @@ public class ProductServiceGrpcApi extends ProductServiceImplBase {
   public void listProducts(Empty request, StreamObserver<ProductListGrpcDto> responseObserver) {
     List<Product> products = productService.getAllProducts();
 
-    ProductListGrpcDto response =
-        ProductListGrpcDto.newBuilder()
-            .addAllProducts(products.stream().map(this::mapProductToProductGrpcDto).toList())
-            .build();
+    ProductListGrpcDto response = this.mapProductsToProductListGrpcDto(products);
 
     responseObserver.onNext(response);
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void listProductsPage(
+      ListPageRequest request, StreamObserver<ProductPageGrpcDto> responseObserver) {
+    Page<Product> page;
+    try {
+      page =
+          Paging.loadPage(
+              productService::getProductsAfter,
+              request.getPageSize(),
+              request.getPageToken(),
+              Product::getId);
+    } catch (InvalidPageTokenException ex) {
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException());
+      return;
+    }
+
+    ProductPageGrpcDto.Builder response =
+        ProductPageGrpcDto.newBuilder()
+            .addAllProducts(this.productGrpcDtoCache.getAll(page.items()));
+    if (page.nextPageToken() != null) {
+      response.setNextPageToken(page.nextPageToken());
+    }
+
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void streamProducts(
+      StreamListRequest request, StreamObserver<ProductListGrpcDto> responseObserver) {
+    GrpcBatchStream.start(
+        responseObserver,
+        request.getBatchSize(),
+        productService::getProductsAfter,
+        Product::getId,
+        this::mapProductsToProductListGrpcDto);
+  }
+
   @Override
   public void getProduct(
       GetProductRequest request, StreamObserver<ProductGrpcDto> responseObserver) {
@@ -148,73 +195,72 @@ public class ProductServiceGrpcApi extends ProductServiceImplBase {
   public void listRecommendedProducts(
       ListRecommendedProductsRequest request,
       StreamObserver<ProductRecommendationGrpcDto> responseObserver) {
-    try {
-      UserGrpcDto userDto = userServiceGrpcClient.getUser(request.getUserId());
-
-      List<Category> boughtCategories = orderService.getBoughtCategoriesByUser(userDto.getId());
-      List<Category> availableCategories = List.of(Category.values());
-
-      RecommendationGrpcDto recommendationDto =
-          recommendationServiceGrpcClient.createRecommendation(
-              boughtCategories, availableCategories);
-
-      List<Category> recommendedCategories =
-          recommendationDto.getRecommendedCategoriesList().stream()
-              .map(Category::fromName)
-              .toList();
-      List<Product> recommendedProducts =
-          productService.getAllProductsOfCategories(recommendedCategories);
-
-      ProductRecommendationGrpcDto productRecommendationDto =
-          this.mapToProductRecommendationDto(recommendedProducts, userDto);
-
-      responseObserver.onNext(productRecommendationDto);
-      responseObserver.onCompleted();
-    } catch (Exception ex) {
-      ex.printStackTrace();
-      responseObserver.onError(
-          Status.INTERNAL.withDescription(ex.getMessage()).asRuntimeException());
-    }
+    // the user and the recommendation only depend on the requested User-ID, so both requests are
+    // sent concurrently and the response is sent by the thread that completes the last request
+    CompletableFuture<UserGrpcDto> userFuture =
+        userServiceGrpcClient.getUserAsync(request.getUserId());
+
+    List<Category> boughtCategories =
+        orderService.getBoughtCategoriesByUser(request.getUserId());
+    List<Category> availableCategories = List.of(Category.values());
+
+    CompletableFuture<List<Product>> recommendedProductsFuture =
+        recommendationServiceGrpcClient
+            .createRecommendationAsync(boughtCategories, availableCategories)
+            .thenApply(
+                recommendationDto -> {
+                  List<Category> recommendedCategories =
+                      recommendationDto.getRecommendedCategoriesList().stream()
+                          .map(Category::fromName)
+                          .toList();
+                  return productService.getAllProductsOfCategories(recommendedCategories);
+                });
+
+    userFuture
+        .thenCombine(recommendedProductsFuture, this::mapToProductRecommendationDto)
+        .whenComplete(
+            (productRecommendationDto, ex) -> {
+              if (ex != null) {
+                Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                cause.printStackTrace();
+                responseObserver.onError(
+                    Status.INTERNAL.withDescription(cause.getMessage()).asRuntimeException());
+                return;
+              }
+
+              responseObserver.onNext(productRecommendationDto);
+              responseObserver.onCompleted();
+            });
   }
 
   /**
-   * Maps the {@link Product} object to the generated {@link ProductGrpcDto} object that is used as
-   * a response type for gRPC requests.
+   * Returns the cached {@link ProductGrpcDto} object of the {@link Product}, which is used as a
+   * response type for gRPC requests.
    *
    * @param product the product that should be mapped to the DTO.
    * @return the mapped {@link ProductGrpcDto} object.
    */
   private ProductGrpcDto mapProductToProductGrpcDto(Product product) {
-    return ProductGrpcDto.newBuilder()
-        .setId(product.getId())
-        .setName(product.getName())
-        .setCategory(product.getCategory().getName())
-        .setPrice(product.getPrice())
-        .build();
+    return this.productGrpcDtoCache.get(product);
   }
 
-  /**
-   * Maps a list of {@link Product} objects to a list of {@link ProductGrpcDto} objects by calling
-   * the {@link #mapProductToProductGrpcDto} method for each product of the list.
-   *
-   * @param products a list of products that should be mapped.
-   * @return a list containing all mapped {@link ProductGrpcDto} objects.
-   */
-  private List<ProductGrpcDto> mapProductsToProductGrpcDtos(List<Product> products) {
-    return products.stream().map(this::mapProductToProductGrpcDto).toList();
+  private ProductListGrpcDto mapProductsToProductListGrpcDto(List<Product> products) {
+    return ProductListGrpcDto.newBuilder()
+        .addAllProducts(this.productGrpcDtoCache.getAll(products))
+        .build();
   }
 
   /**
    * Maps a list of recommended {@link Product} together with a {@link UserGrpcDto} to a {@link
    * ProductRecommendationGrpcDto}
    *
-   * @param recommendedProducts the recommended products for the user.
    * @param userDto the user for whom the products are recommended.
+   * @param recommendedProducts the recommended products for the user.
    * @return the mapped {@link ProductRecommendationGrpcDto}
    */
   private ProductRecommendationGrpcDto mapToProductRecommendationDto(
-      List<Product> recommendedProducts, UserGrpcDto userDto) {
-    List<ProductGrpcDto> productGrpcDtos = this.mapProductsToProductGrpcDtos(recommendedProducts);
+      UserGrpcDto userDto, List<Product> recommendedProducts) {
+    List<ProductGrpcDto> productGrpcDtos = this.productGrpcDtoCache.getAll(recommendedProducts);
 
     return ProductRecommendationGrpcDto.newBuilder()
         .addAllRecommendedProducts(productGrpcDtos)
@@ -0,0 +1,46 @@
+package com.exxeta.shopservice.products.api.rest;
+
+import com.exxeta.shopservice.products.api.ProductDtoCache;
+import com.exxeta.shopservice.products.api.rest.dto.ProductRestDto;
+import com.exxeta.shopservice.products.entity.Product;
+import com.exxeta.shopservice.products.service.ProductService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the encoded JSON of every product as a {@link RawValue}, which is written into responses
+ * as it is, so a product is only serialized once instead of for every response that contains it.
+ */
+@Profile("!grpc")
+@Component
+public class ProductJsonCache extends ProductDtoCache<RawValue> {
+
+  public ProductJsonCache(ProductService productService, ObjectMapper objectMapper) {
+    super(productService, product -> encodeProduct(product, objectMapper));
+  }
+
+  /**
+   * Encodes a {@link Product} as the JSON of the corresponding {@link ProductRestDto}.
+   *
+   * @param product the product that should be encoded.
+   * @param objectMapper the object mapper that also encodes the responses.
+   * @return the encoded JSON of the product.
+   */
+  private static RawValue encodeProduct(Product product, ObjectMapper objectMapper) {
+    ProductRestDto productDto =
+        new ProductRestDto(
+            product.getId(),
+            product.getName(),
+            product.getPrice(),
+            product.getCategory().getName());
+
+    try {
+      return new RawValue(objectMapper.writeValueAsString(productDto));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not encode product: " + product.getId(), ex);
+    }
+  }
+}
@@ -1,11 +1,15 @@
 package com.exxeta.shopservice.products.api.rest;
 
 import com.exxeta.shopservice.clients.recommendationservice.rest.RecommendationServiceRestClient;
-import com.exxeta.shopservice.clients.recommendationservice.rest.dto.RecommendationRestDto;
 import com.exxeta.shopservice.clients.userservice.rest.UserServiceRestClient;
 import com.exxeta.shopservice.clients.userservice.rest.dto.UserRestDto;
 import com.exxeta.shopservice.orders.service.OrderService;
+import com.exxeta.shopservice.paging.InvalidPageTokenException;
+import com.exxeta.shopservice.paging.NdjsonBatchStream;
+import com.exxeta.shopservice.paging.Page;
+import com.exxeta.shopservice.paging.Paging;
 import com.exxeta.shopservice.products.api.rest.dto.CreateProductRestDto;
+import com.exxeta.shopservice.products.api.rest.dto.ProductPageRestDto;
 import com.exxeta.shopservice.products.api.rest.dto.ProductRecommendationRestDto;
 import com.exxeta.shopservice.products.api.rest.dto.ProductRestDto;
 import com.exxeta.shopservice.products.api.rest.dto.UpdateProductRestDto;
@@ -14,7 +18,11 @@ import com.exxeta.shopservice.products.entity.Product;
 import com.exxeta.shopservice.products.service.CategoryNotFoundException;
 import com.exxeta.shopservice.products.service.ProductNotFoundException;
 import com.exxeta.shopservice.products.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -26,8 +34,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Profile("!grpc")
 @RestController
@@ -35,6 +45,8 @@ import org.springframework.web.server.ResponseStatusException;
 public class ProductServiceRestApi {
   private final ProductService productService;
   private final OrderService orderService;
+  private final ProductJsonCache productJsonCache;
+  private final ObjectMapper objectMapper;
 
   private final UserServiceRestClient userServiceRestClient;
   private final RecommendationServiceRestClient recommendationServiceRestClient;
@@ -43,9 +55,13 @@ public class ProductServiceRestApi {
       ProductService productService,
       UserServiceRestClient userServiceRestClient,
       RecommendationServiceRestClient recommendationServiceRestClient,
-      OrderService orderService) {
+      OrderService orderService,
+      ProductJsonCache productJsonCache,
+      ObjectMapper objectMapper) {
     this.productService = productService;
     this.orderService = orderService;
+    this.productJsonCache = productJsonCache;
+    this.objectMapper = objectMapper;
 
     this.userServiceRestClient = userServiceRestClient;
     this.recommendationServiceRestClient = recommendationServiceRestClient;
@@ -72,15 +88,45 @@ public class ProductServiceRestApi {
   }
 
   @GetMapping
-  public ResponseEntity<List<ProductRestDto>> listProducts() {
+  public ResponseEntity<List<RawValue>> listProducts() {
     List<Product> products = productService.getAllProducts();
 
-    List<ProductRestDto> productDtos = this.mapProductListToProductRestDtoList(products);
+    List<RawValue> productDtos = this.productJsonCache.getAll(products);
     return ResponseEntity.ok(productDtos);
   }
 
+  @GetMapping("/page")
+  public ResponseEntity<ProductPageRestDto> listProductsPage(
+      @RequestParam(defaultValue = "0") int pageSize,
+      @RequestParam(required = false) String pageToken) {
+    Page<Product> page;
+    try {
+      page =
+          Paging.loadPage(productService::getProductsAfter, pageSize, pageToken, Product::getId);
+    } catch (InvalidPageTokenException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    List<RawValue> productDtos = this.productJsonCache.getAll(page.items());
+    return ResponseEntity.ok(new ProductPageRestDto(productDtos, page.nextPageToken()));
+  }
+
+  @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamProducts(
+      @RequestParam(defaultValue = "0") int batchSize) {
+    StreamingResponseBody body =
+        NdjsonBatchStream.create(
+            objectMapper,
+            batchSize,
+            productService::getProductsAfter,
+            Product::getId,
+            productJsonCache::getAll);
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
   @GetMapping("/{productId}")
-  public ResponseEntity<ProductRestDto> getProduct(@PathVariable Integer productId) {
+  public ResponseEntity<RawValue> getProduct(@PathVariable Integer productId) {
     Product product;
     try {
       product = productService.getProduct(productId);
@@ -88,7 +134,7 @@ public class ProductServiceRestApi {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
-    ProductRestDto productDto = this.mapProductToProductRestDto(product);
+    RawValue productDto = this.productJsonCache.get(product);
     return ResponseEntity.ok(productDto);
   }
 
@@ -125,30 +171,36 @@ public class ProductServiceRestApi {
   }
 
   @GetMapping("/recommended/{userId}")
-  public ResponseEntity<ProductRecommendationRestDto> listRecommendedProducts(
+  public CompletableFuture<ResponseEntity<ProductRecommendationRestDto>> listRecommendedProducts(
       @PathVariable Integer userId) {
-    try {
-      UserRestDto userDto = userServiceRestClient.getUser(userId);
-
-      List<Category> boughtCategories = orderService.getBoughtCategoriesByUser(userDto.id());
-      List<Category> availableCategories = List.of(Category.values());
-
-      RecommendationRestDto recommendationDto =
-          recommendationServiceRestClient.getRecommendedCategories(
-              boughtCategories, availableCategories);
-
-      List<Category> recommendedCategories =
-          recommendationDto.recommendedCategories().stream().map(Category::fromName).toList();
-      List<Product> recommendedProducts =
-          productService.getAllProductsOfCategories(recommendedCategories);
-
-      ProductRecommendationRestDto productRecommendationDto =
-          this.mapToProductRecommendationDto(recommendedProducts, userDto);
-
-      return ResponseEntity.ok(productRecommendationDto);
-    } catch (Exception ex) {
-      throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
-    }
+    // the user and the recommendation only depend on the requested User-ID, so both requests are
+    // sent concurrently and the request thread is released until the response is completed
+    CompletableFuture<UserRestDto> userFuture = userServiceRestClient.getUserAsync(userId);
+
+    List<Category> boughtCategories = orderService.getBoughtCategoriesByUser(userId);
+    List<Category> availableCategories = List.of(Category.values());
+
+    CompletableFuture<List<Product>> recommendedProductsFuture =
+        recommendationServiceRestClient
+            .getRecommendedCategoriesAsync(boughtCategories, availableCategories)
+            .thenApply(
+                recommendationDto -> {
+                  List<Category> recommendedCategories =
+                      recommendationDto.recommendedCategories().stream()
+                          .map(Category::fromName)
+                          .toList();
+                  return productService.getAllProductsOfCategories(recommendedCategories);
+                });
+
+    return userFuture
+        .thenCombine(recommendedProductsFuture, this::mapToProductRecommendationDto)
+        .thenApply(ResponseEntity::ok)
+        .exceptionally(
+            ex -> {
+              Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+              throw new ResponseStatusException(
+                  HttpStatus.INTERNAL_SERVER_ERROR, cause.getMessage());
+            });
   }
 
   /**
@@ -162,28 +214,17 @@ public class ProductServiceRestApi {
         product.getId(), product.getName(), product.getPrice(), product.getCategory().getName());
   }
 
-  /**
-   * Maps a list of {@link Product} to a list of {@link ProductRestDto}.
-   *
-   * @param products the products that should be mapped.
-   * @return a list containing all mapped {@link ProductRestDto}.
-   */
-  private List<ProductRestDto> mapProductListToProductRestDtoList(List<Product> products) {
-    return products.stream().map(this::mapProductToProductRestDto).toList();
-  }
-
   /**
    * Maps a list of recommended {@link Product} together with a {@link UserRestDto} to a {@link
    * ProductRecommendationRestDto}
    *
-   * @param recommendedProducts the recommended products for the user.
    * @param userDto the user for whom the products are recommended.
+   * @param recommendedProducts the recommended products for the user.
    * @return the mapped {@link ProductRecommendationRestDto}
    */
   private ProductRecommendationRestDto mapToProductRecommendationDto(
-      List<Product> recommendedProducts, UserRestDto userDto) {
-    List<ProductRestDto> productDtoList =
-        this.mapProductListToProductRestDtoList(recommendedProducts);
+      UserRestDto userDto, List<Product> recommendedProducts) {
+    List<RawValue> productDtoList = this.productJsonCache.getAll(recommendedProducts);
 
     return new ProductRecommendationRestDto(userDto, productDtoList);
   }
@@ -0,0 +1,6 @@
+package com.exxeta.shopservice.products.api.rest.dto;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.util.List;
+
+public record ProductPageRestDto(List<RawValue> products, String nextPageToken) {}
@@ -1,6 +1,7 @@
 package com.exxeta.shopservice.products.api.rest.dto;
 
 import com.exxeta.shopservice.clients.userservice.rest.dto.UserRestDto;
+import com.fasterxml.jackson.databind.util.RawValue;
 import java.util.List;
 
-public record ProductRecommendationRestDto(UserRestDto user, List<ProductRestDto> recommendedProducts) {}
+public record ProductRecommendationRestDto(UserRestDto user, List<RawValue> recommendedProducts) {}
@@ -1,16 +1,14 @@
 package com.exxeta.shopservice.products.entity;
 
 import lombok.Builder;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
+import lombok.Value;
 
-@Getter
-@Setter
-@Builder
+@Value
+@Builder(toBuilder = true)
 public class Product {
-  @NonNull private Integer id;
-  @NonNull private String name;
-  @NonNull private Category category;
-  @NonNull private Float price;
+  @NonNull Integer id;
+  @NonNull String name;
+  @NonNull Category category;
+  @NonNull Float price;
 }
@@ -2,15 +2,30 @@ package com.exxeta.shopservice.products.service;
 
 import com.exxeta.shopservice.products.entity.Category;
 import com.exxeta.shopservice.products.entity.Product;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ProductService {
   final Map<Integer, Product> products = new ConcurrentHashMap<>();
 
+  // all products partitioned by their category, every category has a bucket from the start, so the
+  // EnumMap itself is never modified and can be read concurrently
+  private final Map<Category, Map<Integer, Product>> productsByCategory = createCategoryIndex();
+
+  // IDs are never reused, even if a product has been deleted
+  private final AtomicInteger nextProductId = new AtomicInteger();
+
+  private final List<Consumer<Integer>> changeListeners = new CopyOnWriteArrayList<>();
+
   public ProductService() {
     this.insertMockProducts();
   }
@@ -29,11 +44,12 @@ public class ProductService {
 
     Product product =
         Product.builder()
-            .id(this.products.size() + 1)
+            .id(this.nextProductId.incrementAndGet())
             .name(name)
             .category(category)
             .price(price)
             .build();
+    this.productsByCategory.get(category).put(product.getId(), product);
     this.products.put(product.getId(), product);
 
     return product;
@@ -48,6 +64,34 @@ public class ProductService {
     return this.products.values().stream().toList();
   }
 
+  /**
+   * Returns the stored products with an ID greater than the given ID, ordered by their ID. The IDs
+   * are assigned in ascending order, so the products are looked up by their ID instead of sorting
+   * all products.
+   *
+   * @param afterProductId the ID after which the products start, 0 to start with the first product.
+   * @param limit the maximum amount of products to return.
+   * @return a list containing at most {@code limit} products.
+   */
+  public List<Product> getProductsAfter(int afterProductId, int limit) {
+    int lastProductId = this.nextProductId.get();
+    if (afterProductId >= lastProductId) {
+      return List.of();
+    }
+
+    List<Product> page = new ArrayList<>(Math.min(limit, this.products.size()));
+    for (int productId = Math.max(afterProductId, 0) + 1;
+        productId <= lastProductId && page.size() < limit;
+        productId++) {
+      Product product = this.products.get(productId);
+      if (product != null) {
+        page.add(product);
+      }
+    }
+
+    return page;
+  }
+
   /**
    * Returns all products of the specified categories.
    *
@@ -55,9 +99,15 @@ public class ProductService {
    * @return a list containing all products of the provided categories.
    */
   public List<Product> getAllProductsOfCategories(List<Category> categories) {
-    return this.products.values().stream()
-        .filter(product -> categories.contains(product.getCategory()))
-        .toList();
+    if (categories.isEmpty()) {
+      return List.of();
+    }
+
+    List<Product> categoryProducts = new ArrayList<>();
+    for (Category category : EnumSet.copyOf(categories)) {
+      categoryProducts.addAll(this.productsByCategory.get(category).values());
+    }
+    return categoryProducts;
   }
 
   /**
@@ -78,7 +128,9 @@ public class ProductService {
 
   /**
    * Update a product. All parameters except the id are optional and should be set to null if the
-   * corresponding field in the product object should not be changed.
+   * corresponding field in the product object should not be changed. The stored product is
+   * atomically replaced by an updated copy, so readers never see a partially updated product and
+   * orders keep the product as it was when they were created.
    *
    * @param productId id of the product that will be updated.
    * @param name updated name of the product.
@@ -88,23 +140,38 @@ public class ProductService {
    * @throws CategoryNotFoundException if the 'categoryName' is invalid.
    */
   public Product updateProduct(Integer productId, String name, String categoryName, Float price) {
-    final Product product = products.get(productId);
-    if (product == null) {
+    Category updatedCategory = categoryName != null ? Category.fromName(categoryName) : null;
+
+    // the category index is updated within the atomic replacement of the product, so concurrent
+    // updates of the same product are applied to the index in the same order
+    final Product updatedProduct =
+        this.products.computeIfPresent(
+            productId,
+            (id, product) -> {
+              Product.ProductBuilder builder = product.toBuilder();
+              if (name != null) {
+                builder.name(name);
+              }
+              if (updatedCategory != null) {
+                builder.category(updatedCategory);
+              }
+              if (price != null) {
+                builder.price(price);
+              }
+              Product updated = builder.build();
+
+              this.productsByCategory.get(updated.getCategory()).put(id, updated);
+              if (updated.getCategory() != product.getCategory()) {
+                this.productsByCategory.get(product.getCategory()).remove(id);
+              }
+              return updated;
+            });
+    if (updatedProduct == null) {
       throw new ProductNotFoundException(productId);
     }
+    this.publishChange(productId);
 
-    if (name != null) {
-      product.setName(name);
-    }
-    if (categoryName != null) {
-      Category category = Category.fromName(categoryName);
-      product.setCategory(category);
-    }
-    if (price != null) {
-      product.setPrice(price);
-    }
-
-    return product;
+    return updatedProduct;
   }
 
   /**
@@ -115,12 +182,56 @@ public class ProductService {
    * @throws ProductNotFoundException if the product with the given id is not found.
    */
   public Product deleteProduct(Integer productId) {
-    Product product = products.remove(productId);
-    if (product == null) {
+    final Product[] deletedProduct = new Product[1];
+    this.products.computeIfPresent(
+        productId,
+        (id, product) -> {
+          this.productsByCategory.get(product.getCategory()).remove(id);
+          deletedProduct[0] = product;
+          return null;
+        });
+    if (deletedProduct[0] == null) {
       throw new ProductNotFoundException(productId);
     }
+    this.publishChange(productId);
 
-    return product;
+    return deletedProduct[0];
+  }
+
+  /**
+   * Checks if the given product is the currently stored version of the product. Orders keep the
+   * version of the product that existed when the order was created.
+   *
+   * @param product the product to check.
+   * @return true if the product is stored and has not been updated or deleted since.
+   */
+  public boolean isCurrentVersion(Product product) {
+    return this.products.get(product.getId()) == product;
+  }
+
+  /**
+   * Registers a listener that is called with the ID of every updated or deleted product. The
+   * listener is called by the thread that changed the product, so it must not block.
+   *
+   * @param listener the listener to call for every change.
+   */
+  public void addChangeListener(Consumer<Integer> listener) {
+    this.changeListeners.add(listener);
+  }
+
+  private void publishChange(Integer productId) {
+    for (Consumer<Integer> listener : this.changeListeners) {
+      listener.accept(productId);
+    }
+  }
+
+  private static Map<Category, Map<Integer, Product>> createCategoryIndex() {
+    Map<Category, Map<Integer, Product>> productsByCategory = new EnumMap<>(Category.class);
+    for (Category category : Category.values()) {
+      productsByCategory.put(category, new ConcurrentHashMap<>());
+    }
+
+    return productsByCategory;
   }
 
   /** Inserts 100 mock products to the HashMap that serves as a storage for all products */
@@ -130,8 +241,14 @@ public class ProductService {
       Category category = categories[i % categories.length];
 
       Product product =
-          Product.builder().id(i).name("Product Nr." + i).price(10.00f).category(category).build();
+          Product.builder()
+              .id(this.nextProductId.incrementAndGet())
+              .name("Product Nr." + i)
+              .price(10.00f)
+              .category(category)
+              .build();
       this.products.put(product.getId(), product);
+      this.productsByCategory.get(category).put(product.getId(), product);
     }
   }
 }
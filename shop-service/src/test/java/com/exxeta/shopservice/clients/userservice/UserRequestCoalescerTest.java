@@ -0,0 +1,47 @@
+package com.exxeta.shopservice.clients.userservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UserRequestCoalescerTest {
+  // long enough that both requests of a test are made within the same batch window
+  private static final long BATCH_WINDOW_MICROS = 200_000;
+
+  private final List<List<Integer>> requestedBatches = new CopyOnWriteArrayList<>();
+
+  // the users are their own IDs, so every requested user exists
+  private final UserRequestCoalescer<Integer> coalescer =
+      new UserRequestCoalescer<>(
+          userIds -> {
+            this.requestedBatches.add(userIds);
+            return CompletableFuture.completedFuture(userIds);
+          },
+          userId -> userId,
+          BATCH_WINDOW_MICROS,
+          100);
+
+  @Test
+  void completesRequestsOfAUserThatWasInvalidatedWithinTheBatchWindow() throws Exception {
+    CompletableFuture<Integer> firstRequest = this.coalescer.get(1);
+    this.coalescer.invalidate(1);
+    CompletableFuture<Integer> secondRequest = this.coalescer.get(1);
+
+    assertEquals(1, firstRequest.get(5, TimeUnit.SECONDS));
+    assertEquals(1, secondRequest.get(5, TimeUnit.SECONDS));
+    assertEquals(List.of(List.of(1)), this.requestedBatches);
+  }
+
+  @Test
+  void requestsAUserAgainThatWasInvalidatedAfterItsBatchWasSent() throws Exception {
+    assertEquals(1, this.coalescer.get(1).get(5, TimeUnit.SECONDS));
+    this.coalescer.invalidate(1);
+    assertEquals(1, this.coalescer.get(1).get(5, TimeUnit.SECONDS));
+
+    assertEquals(List.of(List.of(1), List.of(1)), this.requestedBatches);
+  }
+}
@@ -0,0 +1,99 @@
+package com.exxeta.shopservice.orders.api;
+
+import com.exxeta.shopservice.orders.entity.Order;
+import com.exxeta.userservice.UserGrpcDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the previous nested loop, that searched through all users for every order, with the
+ * {@link OrderUserJoin} for an increasing amount of orders. The orders are created by the 1000 users
+ * of the User-Service, so the nested loop scales with orders times users and the join only with the
+ * amount of orders.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.exxeta.shopservice.orders.api.OrderUserJoinBenchmark} from the shop-service
+ * directory or directly from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderUserJoinBenchmark {
+  private static final int USER_COUNT = 1000;
+
+  @Param({"100", "1000", "10000", "100000", "1000000"})
+  private int orderCount;
+
+  private List<Order> orders;
+  private List<UserGrpcDto> users;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(OrderUserJoinBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    this.orders = new ArrayList<>(this.orderCount);
+    for (int i = 1; i <= this.orderCount; i++) {
+      this.orders.add(
+          Order.builder()
+              .id(i)
+              .userId((i - 1) % USER_COUNT + 1)
+              .dateTime(LocalDateTime.now())
+              .products(List.of())
+              .totalPrice(0f)
+              .build());
+    }
+
+    this.users = new ArrayList<>(USER_COUNT);
+    for (Integer userId : OrderUserJoin.distinctUserIds(this.orders)) {
+      this.users.add(UserGrpcDto.newBuilder().setId(userId).build());
+    }
+  }
+
+  @Benchmark
+  public List<UserGrpcDto> nestedLoop() {
+    List<UserGrpcDto> matchedUsers = new ArrayList<>();
+    for (Order order : this.orders) {
+      for (UserGrpcDto user : this.users) {
+        if (user.getId() == order.getUserId()) {
+          matchedUsers.add(user);
+          break;
+        }
+      }
+    }
+    return matchedUsers;
+  }
+
+  @Benchmark
+  public List<UserGrpcDto> hashJoin() {
+    return OrderUserJoin.join(
+        this.orders, this.users, UserGrpcDto::getId, (order, user) -> user);
+  }
+
+  @Benchmark
+  public List<Integer> distinctUserIds() {
+    return OrderUserJoin.distinctUserIds(this.orders);
+  }
+}
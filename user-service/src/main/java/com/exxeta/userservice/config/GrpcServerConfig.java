@@ -1,8 +1,10 @@
 package com.exxeta.userservice.config;
 
 import com.exxeta.userservice.users.api.grpc.UserServiceGrpcApi;
+import io.grpc.CompressorRegistry;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
 import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,8 +17,20 @@ import org.springframework.context.annotation.Configuration;
 public class GrpcServerConfig {
 
   public GrpcServerConfig(
-      UserServiceGrpcApi userServiceGrpcApi, @Value("${server.grpc.port}") Integer grpcPort) {
-    Server server = ServerBuilder.forPort(grpcPort).addService(userServiceGrpcApi).build();
+      UserServiceGrpcApi userServiceGrpcApi,
+      @Value("${server.grpc.port}") Integer grpcPort,
+      @Value("${server.grpc.compression}") String compression) {
+    CompressorRegistry compressorRegistry = GrpcCompression.createCompressorRegistry();
+    Server server =
+        ServerBuilder.forPort(grpcPort)
+            .addService(userServiceGrpcApi)
+            .addService(new HealthStatusManager().getHealthService())
+            .compressorRegistry(compressorRegistry)
+            .decompressorRegistry(GrpcCompression.createDecompressorRegistry())
+            .intercept(
+                GrpcCompression.createResponseCompressionInterceptor(
+                    compressorRegistry, compression))
+            .build();
 
     try {
       server.start();
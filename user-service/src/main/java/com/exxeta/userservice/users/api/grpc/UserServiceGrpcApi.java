@@ -5,15 +5,20 @@ import com.exxeta.userservice.DeleteUserRequest;
 import com.exxeta.userservice.GetUserRequest;
 import com.exxeta.userservice.ListUsersRequest;
 import com.exxeta.userservice.UpdateUserRequest;
+import com.exxeta.userservice.UserChangeGrpcDto;
 import com.exxeta.userservice.UserGrpcDto;
 import com.exxeta.userservice.UserListGrpcDto;
 import com.exxeta.userservice.UserServiceGrpc.UserServiceImplBase;
 import com.exxeta.userservice.users.entity.User;
+import com.exxeta.userservice.users.entity.UserChange;
 import com.exxeta.userservice.users.service.UserNotFoundException;
 import com.exxeta.userservice.users.service.UserService;
+import com.google.protobuf.Empty;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -127,6 +132,54 @@ public class UserServiceGrpcApi extends UserServiceImplBase {
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void watchUserChanges(
+      Empty request, StreamObserver<UserChangeGrpcDto> responseObserver) {
+    ServerCallStreamObserver<UserChangeGrpcDto> serverCallObserver =
+        (ServerCallStreamObserver<UserChangeGrpcDto>) responseObserver;
+
+    // changes are published by the threads that change users, so sending is synchronized
+    Consumer<UserChange> listener =
+        change -> {
+          synchronized (serverCallObserver) {
+            if (!serverCallObserver.isCancelled()) {
+              serverCallObserver.onNext(this.mapUserChangeToUserChangeGrpcDto(change));
+            }
+          }
+        };
+    serverCallObserver.setOnCancelHandler(() -> userService.removeChangeListener(listener));
+
+    synchronized (serverCallObserver) {
+      userService.addChangeListener(listener);
+      if (serverCallObserver.isCancelled()) {
+        userService.removeChangeListener(listener);
+        return;
+      }
+      serverCallObserver.onNext(
+          UserChangeGrpcDto.newBuilder()
+              .setType(com.exxeta.userservice.UserChangeType.USER_CHANGE_TYPE_WATCH_STARTED)
+              .build());
+    }
+  }
+
+  /**
+   * Maps the {@link UserChange} object to the generated {@link UserChangeGrpcDto} object that is
+   * streamed to clients watching user changes.
+   *
+   * @param change the change that should be mapped to the DTO.
+   * @return the mapped {@link UserChangeGrpcDto} object.
+   */
+  private UserChangeGrpcDto mapUserChangeToUserChangeGrpcDto(UserChange change) {
+    com.exxeta.userservice.UserChangeType type =
+        switch (change.type()) {
+          case CREATED -> com.exxeta.userservice.UserChangeType.USER_CHANGE_TYPE_CREATED;
+          case UPDATED -> com.exxeta.userservice.UserChangeType.USER_CHANGE_TYPE_UPDATED;
+          case DELETED -> com.exxeta.userservice.UserChangeType.USER_CHANGE_TYPE_DELETED;
+        };
+
+    return UserChangeGrpcDto.newBuilder().setUserId(change.userId()).setType(type).build();
+  }
+
   /**
    * Maps the {@link User} object to the generated {@link UserGrpcDto} object that is used as a
    * response type for gRPC requests.
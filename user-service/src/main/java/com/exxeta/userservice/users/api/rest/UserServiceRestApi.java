@@ -3,11 +3,15 @@ package com.exxeta.userservice.users.api.rest;
 import com.exxeta.userservice.CreateUserRequest;
 import com.exxeta.userservice.users.api.rest.dto.CreateUserRestDto;
 import com.exxeta.userservice.users.api.rest.dto.UpdateUserRestDto;
+import com.exxeta.userservice.users.api.rest.dto.UserChangeRestDto;
 import com.exxeta.userservice.users.api.rest.dto.UserRestDto;
 import com.exxeta.userservice.users.entity.User;
+import com.exxeta.userservice.users.entity.UserChange;
 import com.exxeta.userservice.users.service.UserNotFoundException;
 import com.exxeta.userservice.users.service.UserService;
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +22,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping(path = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
 public class UserServiceRestApi {
 
+  private static final String WATCH_STARTED_EVENT = "WATCH_STARTED";
+
   private final UserService userService;
 
   public UserServiceRestApi(final UserService userService) {
@@ -51,8 +59,12 @@ public class UserServiceRestApi {
   }
 
   @GetMapping
-  public ResponseEntity<List<UserRestDto>> listUsers() {
-    List<User> users = this.userService.getAllUsers();
+  public ResponseEntity<List<UserRestDto>> listUsers(
+      @RequestParam(required = false) List<Integer> userIds) {
+    List<User> users =
+        userIds == null || userIds.isEmpty()
+            ? this.userService.getAllUsers()
+            : this.userService.getAllUsers(userIds);
 
     List<UserRestDto> userDtoList = this.mapUserListToUserRestDtoList(users);
     return ResponseEntity.ok(userDtoList);
@@ -99,6 +111,47 @@ public class UserServiceRestApi {
     }
   }
 
+  /**
+   * Streams every change of a user as a server-sent event. The first event is always {@code
+   * WATCH_STARTED}, all changes after that event are guaranteed to be delivered while the stream is
+   * open.
+   *
+   * @return the emitter of the event stream.
+   */
+  @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter watchUserChanges() {
+    // the stream never times out and stays open until the client disconnects
+    SseEmitter emitter = new SseEmitter(0L);
+
+    // changes are published by the threads that change users, so sending is synchronized
+    Consumer<UserChange> listener =
+        change -> {
+          synchronized (emitter) {
+            this.sendUserChange(
+                emitter, new UserChangeRestDto(change.userId(), change.type().name()));
+          }
+        };
+    emitter.onCompletion(() -> this.userService.removeChangeListener(listener));
+    emitter.onError(ex -> this.userService.removeChangeListener(listener));
+
+    synchronized (emitter) {
+      this.userService.addChangeListener(listener);
+      this.sendUserChange(emitter, new UserChangeRestDto(null, WATCH_STARTED_EVENT));
+    }
+
+    return emitter;
+  }
+
+  private void sendUserChange(SseEmitter emitter, UserChangeRestDto changeDto) {
+    try {
+      emitter.send(
+          SseEmitter.event().name(changeDto.type()).data(changeDto, MediaType.APPLICATION_JSON));
+    } catch (IOException | IllegalStateException ex) {
+      // the client has disconnected, completing the emitter removes the listener
+      emitter.completeWithError(ex);
+    }
+  }
+
   /**
    * Maps the {@link User} object to the {@link UserRestDto} object that is used as a response type
    * for REST requests.
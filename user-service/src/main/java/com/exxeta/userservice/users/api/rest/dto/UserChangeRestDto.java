@@ -0,0 +1,3 @@
+package com.exxeta.userservice.users.api.rest.dto;
+
+public record UserChangeRestDto(Integer userId, String type) {}
@@ -1,20 +1,18 @@
 package com.exxeta.userservice.users.entity;
 
 import lombok.Builder;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
+import lombok.Value;
 
-@Builder
-@Getter
-@Setter
+@Value
+@Builder(toBuilder = true)
 public class User {
-  @NonNull private Integer id;
-  @NonNull private String firstName;
-  @NonNull private String lastName;
-  @NonNull private String postCode;
-  @NonNull private String city;
-  @NonNull private String address;
-  @NonNull private Integer age;
-  @NonNull private Boolean deleted;
+  @NonNull Integer id;
+  @NonNull String firstName;
+  @NonNull String lastName;
+  @NonNull String postCode;
+  @NonNull String city;
+  @NonNull String address;
+  @NonNull Integer age;
+  @NonNull Boolean deleted;
 }
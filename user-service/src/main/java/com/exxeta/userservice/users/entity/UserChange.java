@@ -0,0 +1,9 @@
+package com.exxeta.userservice.users.entity;
+
+/**
+ * A change of a single {@link User}.
+ *
+ * @param userId the ID of the changed user.
+ * @param type the kind of change.
+ */
+public record UserChange(Integer userId, UserChangeType type) {}
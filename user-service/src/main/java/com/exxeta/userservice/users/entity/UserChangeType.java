@@ -0,0 +1,8 @@
+package com.exxeta.userservice.users.entity;
+
+/** The kinds of changes that can happen to a {@link User}. */
+public enum UserChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -1,16 +1,26 @@
 package com.exxeta.userservice.users.service;
 
 import com.exxeta.userservice.users.entity.User;
+import com.exxeta.userservice.users.entity.UserChange;
+import com.exxeta.userservice.users.entity.UserChangeType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserService {
   final Map<Integer, User> users = new ConcurrentHashMap<>();
 
+  // IDs are never reused, even if a user has been deleted
+  private final AtomicInteger nextUserId = new AtomicInteger();
+
+  private final List<Consumer<UserChange>> changeListeners = new CopyOnWriteArrayList<>();
+
   public UserService() {
     this.insertMockUsers();
   }
@@ -35,7 +45,7 @@ public class UserService {
       String address) {
     final User user =
         User.builder()
-            .id(this.users.size() + 1)
+            .id(this.nextUserId.incrementAndGet())
             .firstName(firstName)
             .lastName(lastName)
             .age(age)
@@ -46,6 +56,7 @@ public class UserService {
             .build();
 
     this.users.put(user.getId(), user);
+    this.publishChange(user.getId(), UserChangeType.CREATED);
 
     return user;
   }
@@ -95,7 +106,8 @@ public class UserService {
 
   /**
    * Update a user. All parameters except the id are optional and should be set to null if the
-   * corresponding field in the user object should not be changed.
+   * corresponding field in the user object should not be changed. The stored user is atomically
+   * replaced by an updated copy, so readers never see a partially updated user.
    *
    * @param id id of the user that will be updated.
    * @param firstName updated first name of the user.
@@ -115,31 +127,37 @@ public class UserService {
       String postCode,
       String city,
       String address) {
-    final User user = users.get(id);
-    if (user == null) {
+    final User updatedUser =
+        users.computeIfPresent(
+            id,
+            (userId, user) -> {
+              User.UserBuilder builder = user.toBuilder();
+              if (firstName != null) {
+                builder.firstName(firstName);
+              }
+              if (lastName != null) {
+                builder.lastName(lastName);
+              }
+              if (age != null) {
+                builder.age(age);
+              }
+              if (postCode != null) {
+                builder.postCode(postCode);
+              }
+              if (city != null) {
+                builder.city(city);
+              }
+              if (address != null) {
+                builder.address(address);
+              }
+              return builder.build();
+            });
+    if (updatedUser == null) {
       throw new UserNotFoundException(id);
     }
+    this.publishChange(id, UserChangeType.UPDATED);
 
-    if (firstName != null) {
-      user.setFirstName(firstName);
-    }
-    if (lastName != null) {
-      user.setLastName(lastName);
-    }
-    if (age != null) {
-      user.setAge(age);
-    }
-    if (postCode != null) {
-      user.setFirstName(postCode);
-    }
-    if (city != null) {
-      user.setCity(city);
-    }
-    if (address != null) {
-      user.setAddress(address);
-    }
-
-    return user;
+    return updatedUser;
   }
 
   /**
@@ -155,13 +173,40 @@ public class UserService {
       throw new UserNotFoundException(id);
     }
 
-    user.setDeleted(true);
-    return user;
+    this.publishChange(id, UserChangeType.DELETED);
+    return user.toBuilder().deleted(true).build();
+  }
+
+  /**
+   * Registers a listener that is called after every change of a user. The listener is called by
+   * the thread that changed the user, so it must not block.
+   *
+   * @param listener the listener to call for every change.
+   */
+  public void addChangeListener(Consumer<UserChange> listener) {
+    this.changeListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener that has been registered with {@link #addChangeListener}.
+   *
+   * @param listener the listener to remove.
+   */
+  public void removeChangeListener(Consumer<UserChange> listener) {
+    this.changeListeners.remove(listener);
+  }
+
+  private void publishChange(Integer userId, UserChangeType type) {
+    UserChange change = new UserChange(userId, type);
+    for (Consumer<UserChange> listener : this.changeListeners) {
+      listener.accept(change);
+    }
   }
 
   /** Inserts 1000 mock users to the HashMap that serves as a storage for all users */
   private void insertMockUsers() {
-    for (int id = 1; id <= 1000; id++) {
+    for (int i = 1; i <= 1000; i++) {
+      int id = this.nextUserId.incrementAndGet();
       this.users.put(
           id,
           User.builder()